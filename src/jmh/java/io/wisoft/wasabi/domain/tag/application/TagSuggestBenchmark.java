@@ -0,0 +1,79 @@
+package io.wisoft.wasabi.domain.tag.application;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 많은 태그 중 접두어로 시작하는 상위 10개 태그를 추천하는 비용 비교 <br/>
+ * - scan: 모든 태그를 순회하며 접두어로 거른 뒤 게시글 수로 정렬하는 방식 (LIKE 'prefix%' 후 정렬과 같은 작업량) <br/>
+ * - trie: 노드마다 상위 태그를 미리 정렬해 둔 TagSuggester 의 압축 트라이를 사용하는 방식
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TagSuggestBenchmark {
+
+    private static final String[] SYLLABLES = {
+            "spring", "java", "data", "web", "cloud", "kube", "net", "db", "ml", "ops",
+            "re", "go", "ko", "tlin", "script", "flow", "stack", "js", "test", "api"
+    };
+    private static final int SIZE = 10;
+
+    @Param({"100000"})
+    private int tagCount;
+
+    @Param({"s", "spring", "springdata"})
+    private String prefix;
+
+    private TagSuggester tagSuggester;
+    private Map<String, Long> boardCounts;
+
+    @Setup
+    public void setUp() {
+        tagSuggester = new TagSuggester(SIZE);
+        boardCounts = new HashMap<>();
+
+        final Random random = new Random(42);
+        while (boardCounts.size() < tagCount) {
+            final StringBuilder name = new StringBuilder();
+            final int length = 1 + random.nextInt(4);
+            for (int i = 0; i < length; i++) {
+                name.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+            }
+            name.append(random.nextInt(1_000));
+
+            final long boardCount = 1 + random.nextInt(10_000);
+            if (boardCounts.putIfAbsent(name.toString(), boardCount) == null) {
+                tagSuggester.add((long) boardCounts.size(), name.toString(), boardCount);
+            }
+        }
+    }
+
+    @Benchmark
+    public void scan(final Blackhole blackhole) {
+        blackhole.consume(boardCounts.entrySet().stream()
+                .filter(entry -> entry.getKey().startsWith(prefix))
+                .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder())
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(SIZE)
+                .toList());
+    }
+
+    @Benchmark
+    public void trie(final Blackhole blackhole) {
+        blackhole.consume(tagSuggester.suggest(prefix, SIZE));
+    }
+}
@@ -0,0 +1,71 @@
+package io.wisoft.wasabi.global.config.common.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.wisoft.wasabi.domain.member.persistence.Role;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 관리자 API 요청 한 건을 인증하는 비용 비교 <br/>
+ * - perRequestParsing: 인터셉터(권한)와 리졸버(회원 id)가 각각 파서를 새로 만들어 토큰을 검증하던 방식 <br/>
+ * - verifyOnce: AuthenticationFilter 가 미리 만들어 둔 파서로 한 번만 검증하는 방식 <br/>
+ * - verifyOnceWithCache: 같은 토큰을 이미 검증했다면 캐시된 회원 정보를 사용하는 방식
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET_KEY = "wasabi-benchmark-secret-key-for-hmac-sha256";
+
+    private JwtTokenProvider jwtTokenProvider;
+    private JwtTokenProvider cachingJwtTokenProvider;
+    private SecretKey key;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(SECRET_KEY, 3_600_000L, "wasabi", false, 0);
+        cachingJwtTokenProvider = new JwtTokenProvider(SECRET_KEY, 3_600_000L, "wasabi", true, 10_000);
+        key = new SecretKeySpec(SECRET_KEY.getBytes(), "HmacSHA256");
+        accessToken = jwtTokenProvider.createAccessToken(1L, "wasabi", Role.ADMIN, true);
+    }
+
+    @Benchmark
+    public void perRequestParsing(final Blackhole blackhole) {
+        final Claims roleClaims = Jwts.parser()
+            .verifyWith(key)
+            .build()
+            .parseSignedClaims(accessToken)
+            .getPayload();
+        blackhole.consume(Role.valueOf(roleClaims.get("memberRole", String.class)));
+
+        final Claims idClaims = Jwts.parser()
+            .verifyWith(key)
+            .build()
+            .parseSignedClaims(accessToken)
+            .getPayload();
+        blackhole.consume(idClaims.get("memberId", Double.class).longValue());
+    }
+
+    @Benchmark
+    public AuthPrincipal verifyOnce() {
+        return jwtTokenProvider.decode(accessToken);
+    }
+
+    @Benchmark
+    public AuthPrincipal verifyOnceWithCache() {
+        return cachingJwtTokenProvider.decode(accessToken);
+    }
+}
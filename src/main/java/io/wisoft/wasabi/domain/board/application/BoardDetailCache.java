@@ -0,0 +1,57 @@
+package io.wisoft.wasabi.domain.board.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.wisoft.wasabi.domain.board.persistence.BoardDetail;
+import io.wisoft.wasabi.domain.board.persistence.BoardQueryRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 게시글 상세 조회 결과 중 사용자와 관계없이 공유되는 부분({@link BoardDetail})을 보관한다.
+ */
+@Component
+public class BoardDetailCache {
+
+    private final Cache<Long, BoardDetail> cache;
+    private final BoardQueryRepository boardQueryRepository;
+
+    public BoardDetailCache(final BoardQueryRepository boardQueryRepository,
+                            @Value("${board.detail-cache.maximum-size:1000}") final long maximumSize,
+                            @Value("${board.detail-cache.expire-after-write:60s}") final Duration expireAfterWrite) {
+        this.boardQueryRepository = boardQueryRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .build();
+    }
+
+    public Optional<BoardDetail> get(final Long boardId) {
+        return Optional.ofNullable(
+                cache.get(boardId, id -> boardQueryRepository.readBoardDetail(id).orElse(null))
+        );
+    }
+
+    /**
+     * 트랜잭션 안에서 호출되면, 커밋 전의 데이터가 다시 캐싱되지 않도록 트랜잭션이 끝난 뒤에 제거한다.
+     */
+    public void evict(final Long boardId) {
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.invalidate(boardId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(final int status) {
+                cache.invalidate(boardId);
+            }
+        });
+    }
+}
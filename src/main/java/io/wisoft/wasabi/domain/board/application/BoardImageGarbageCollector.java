@@ -0,0 +1,208 @@
+package io.wisoft.wasabi.domain.board.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.wisoft.wasabi.domain.board.persistence.BoardImage;
+import io.wisoft.wasabi.domain.board.persistence.BoardImageObject;
+import io.wisoft.wasabi.domain.board.persistence.BoardImageStatus;
+import io.wisoft.wasabi.domain.board.persistence.OrphanBoardImage;
+import io.wisoft.wasabi.global.config.common.storage.ImageStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.LongFunction;
+import java.util.stream.Collectors;
+
+/**
+ * 주기적으로 게시글에 포함되지 않은 이미지(불필요한 이미지)를 삭제한다. <br/>
+ * 보관 기간(기본 24시간) 동안 사용되지 않은 이미지를 id 순으로 chunk 단위로 조회하고,
+ * chunk 마다 하나의 트랜잭션에서 이미지 저장소의 다중 삭제(원본과 축소 이미지) 한 번과 벌크 삭제 한 번으로 정리한다. <br/>
+ * 직접 업로드 URL 을 발급받고 완료하지 않은 이미지는 URL 이 만료된 뒤에는 완료될 수 없으므로 더 짧은 보관 기간(기본 1시간)으로 정리하며,
+ * staging key 의 객체도 함께 삭제해야 하므로 보관 기간과 관계없이 이 단계에서만 정리한다.
+ * 업로드 중인(PENDING) 이미지는 업로드 파이프라인이 저장소에 올릴 수 있으므로 정리하지 않는다.
+ */
+@Component
+public class BoardImageGarbageCollector {
+
+    // S3 다중 삭제 요청 한 번에 지정할 수 있는 최대 key 수
+    private static final int MAX_CHUNK_SIZE = 1000;
+
+    // 보관 기간이 지나면 정리하는, 업로드가 끝난 이미지의 상태
+    private static final Set<BoardImageStatus> UPLOADED_STATUSES = EnumSet.of(BoardImageStatus.READY, BoardImageStatus.FAILED);
+    private static final Set<BoardImageStatus> ABANDONED_STATUSES = EnumSet.of(BoardImageStatus.AWAITING_UPLOAD);
+
+    private final Logger logger = LoggerFactory.getLogger(BoardImageGarbageCollector.class);
+    private final ImageStore imageStore;
+    private final BoardImageRepository boardImageRepository;
+    private final BoardImageObjectRepository boardImageObjectRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration retention;
+    private final Duration abandonedUploadRetention;
+    private final int chunkSize;
+    private final Counter deletedCounter;
+    private final Counter failedCounter;
+    private final Timer runTimer;
+
+    public BoardImageGarbageCollector(final ImageStore imageStore,
+                                      final BoardImageRepository boardImageRepository,
+                                      final BoardImageObjectRepository boardImageObjectRepository,
+                                      final TransactionTemplate transactionTemplate,
+                                      final MeterRegistry meterRegistry,
+                                      @Value("${board.image.gc.retention:24h}") final Duration retention,
+                                      @Value("${board.image.gc.abandoned-upload-retention:1h}") final Duration abandonedUploadRetention,
+                                      @Value("${board.image.gc.chunk-size:1000}") final int chunkSize) {
+        this.imageStore = imageStore;
+        this.boardImageRepository = boardImageRepository;
+        this.boardImageObjectRepository = boardImageObjectRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.retention = retention;
+        this.abandonedUploadRetention = abandonedUploadRetention;
+        this.chunkSize = Math.clamp(chunkSize, 1, MAX_CHUNK_SIZE);
+        this.deletedCounter = meterRegistry.counter("board.image.gc.deleted");
+        this.failedCounter = meterRegistry.counter("board.image.gc.failed");
+        this.runTimer = meterRegistry.timer("board.image.gc.duration");
+    }
+
+    @Scheduled(cron = "${cloud.aws.cron}")
+    public void collect() {
+
+        final LocalDateTime createdBefore = LocalDateTime.now().minus(retention);
+        final LocalDateTime abandonedBefore = LocalDateTime.now().minus(abandonedUploadRetention);
+        final long startedAt = System.nanoTime();
+
+        long deleted = collectChunks(lastId ->
+                boardImageRepository.findOrphanImages(UPLOADED_STATUSES, createdBefore, lastId, PageRequest.ofSize(chunkSize)),
+                UPLOADED_STATUSES);
+        deleted += collectChunks(lastId ->
+                boardImageRepository.findOrphanImagesByStatus(
+                        BoardImageStatus.AWAITING_UPLOAD, abandonedBefore, lastId, PageRequest.ofSize(chunkSize)),
+                ABANDONED_STATUSES);
+
+        final Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+        runTimer.record(elapsed);
+
+        logger.info("[Result] 불필요한 이미지 정리 완료 - {}개 삭제, {}ms 소요 ({}개/s)",
+                deleted, elapsed.toMillis(), throughput(deleted, elapsed));
+    }
+
+    private long collectChunks(final LongFunction<List<OrphanBoardImage>> findChunk, final Set<BoardImageStatus> statuses) {
+
+        long lastId = 0L;
+        long deleted = 0L;
+        List<OrphanBoardImage> chunk;
+        do {
+            chunk = findChunk.apply(lastId);
+            if (chunk.isEmpty()) {
+                break;
+            }
+
+            lastId = chunk.get(chunk.size() - 1).id();
+            deleted += deleteChunk(chunk, statuses);
+
+            logger.info("[Result] 불필요한 이미지 {}개 삭제 (누적 {}개, 마지막 id {})", chunk.size(), deleted, lastId);
+        } while (chunk.size() == chunkSize);
+
+        return deleted;
+    }
+
+    /**
+     * 이미지 저장소에서 삭제된 이미지만 DB 에서 삭제하여, 삭제하지 못한 이미지는 다음 주기에 다시 정리한다. <br/>
+     * 공유하는 이미지 객체는 chunk 의 이미지들이 마지막 참조일 때만 저장소에서 삭제하며,
+     * 참조 수를 바꾸는 동안 다른 업로드가 재사용하지 않도록 객체 행을 잠근 트랜잭션 안에서 삭제한다.
+     * 완료되지 않은 직접 업로드라면 staging key 에 남은 객체도 함께 삭제한다. <br/>
+     * chunk 는 트랜잭션 밖에서 조회하므로, 그 사이 게시글에 연결되거나 상태가 바뀐 이미지는 행을 잠근 채 다시 확인하여 제외한다.
+     */
+    private int deleteChunk(final List<OrphanBoardImage> chunk, final Set<BoardImageStatus> statuses) {
+
+        final boolean directUpload = statuses.contains(BoardImageStatus.AWAITING_UPLOAD);
+        final ChunkResult result = transactionTemplate.execute(status -> {
+            final List<Long> ids = new ArrayList<>();
+
+            final Set<Long> orphanIds = boardImageRepository.findOrphanImagesForUpdate(
+                            chunk.stream().map(OrphanBoardImage::id).toList(), statuses).stream()
+                    .map(BoardImage::getId)
+                    .collect(Collectors.toSet());
+            final List<OrphanBoardImage> orphans = chunk.stream()
+                    .filter(image -> orphanIds.contains(image.id()))
+                    .toList();
+            if (orphans.isEmpty()) {
+                return new ChunkResult(0, ids);
+            }
+
+            // 저장소에서 삭제해야 하는 key 와, 그 key 가 삭제되면 함께 삭제할 이미지
+            final Map<String, List<OrphanBoardImage>> imagesByKey = orphans.stream()
+                    .filter(image -> image.contentHash() == null)
+                    .collect(Collectors.groupingBy(OrphanBoardImage::fileName));
+            final Map<String, List<OrphanBoardImage>> imagesByHash = orphans.stream()
+                    .filter(image -> image.contentHash() != null)
+                    .collect(Collectors.groupingBy(OrphanBoardImage::contentHash));
+
+            final List<BoardImageObject> unreferenced = new ArrayList<>();
+            if (!imagesByHash.isEmpty()) {
+                for (final BoardImageObject object : boardImageObjectRepository.findAllByContentHashesForUpdate(imagesByHash.keySet())) {
+                    final List<OrphanBoardImage> images = imagesByHash.remove(object.getContentHash());
+                    if (object.getReferenceCount() > images.size()) {
+                        object.decreaseReference(images.size());
+                        images.forEach(image -> ids.add(image.id()));
+                    } else {
+                        unreferenced.add(object);
+                        imagesByKey.put(object.getFileName(), images);
+                    }
+                }
+            }
+            // 이미지 객체가 없는 이미지는 저장소에 남은 것이 없으므로 DB 에서만 삭제한다.
+            imagesByHash.values().forEach(images -> images.forEach(image -> ids.add(image.id())));
+
+            final List<String> keys = new ArrayList<>();
+            imagesByKey.keySet().forEach(fileName -> {
+                keys.addAll(BoardImageVariant.allFileNames(fileName));
+                if (directUpload) {
+                    keys.add(BoardImageServiceImpl.stagingFileName(fileName));
+                }
+            });
+            // 축소 이미지는 원본이 삭제되었다면 함께 정리된 것으로 보고, 원본의 삭제 여부만으로 DB 삭제 여부를 결정한다.
+            final Set<String> deletedKeys = keys.isEmpty() ? Set.of() : imageStore.deleteAll(keys);
+
+            imagesByKey.forEach((fileName, images) -> {
+                if (deletedKeys.contains(fileName)) {
+                    images.forEach(image -> ids.add(image.id()));
+                }
+            });
+            unreferenced.stream()
+                    .filter(object -> deletedKeys.contains(object.getFileName()))
+                    .forEach(boardImageObjectRepository::delete);
+
+            if (!ids.isEmpty()) {
+                boardImageRepository.deleteBoardImagesByIds(ids);
+            }
+            return new ChunkResult(orphans.size(), ids);
+        });
+
+        deletedCounter.increment(result.deletedIds().size());
+        failedCounter.increment(result.orphanCount() - result.deletedIds().size());
+
+        return result.deletedIds().size();
+    }
+
+    // 다시 확인한 불필요한 이미지 수와, 그중 삭제한 이미지의 id
+    private record ChunkResult(int orphanCount, List<Long> deletedIds) {
+    }
+
+    private long throughput(final long deleted, final Duration elapsed) {
+        final long millis = Math.max(1, elapsed.toMillis());
+        return deleted * 1000 / millis;
+    }
+}
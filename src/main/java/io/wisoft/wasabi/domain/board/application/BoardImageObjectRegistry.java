@@ -0,0 +1,122 @@
+package io.wisoft.wasabi.domain.board.application;
+
+import io.wisoft.wasabi.domain.board.persistence.BoardImageObject;
+import io.wisoft.wasabi.global.config.common.storage.ImageStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 같은 내용의 이미지가 이미지 저장소에 한 번만 저장되도록, 이미지 객체({@link BoardImageObject})와 참조 수를 관리한다. <br/>
+ * 참조 수 변경은 객체 행을 잠근 채 수행하므로, 참조 수가 0 이 되어 저장소에서 삭제되는 객체를 다른 업로드가 동시에 재사용하지 않는다. <br/>
+ * 참조를 늘리는 작업은 별도의 트랜잭션에서 바로 커밋하고 롤백되면 되돌리므로, 되돌리기 전에 서버가 종료되면 참조 수가 실제보다 클 수 있다.
+ * 이 경우 이미지가 저장소에 남을 뿐 삭제되어서는 안 될 이미지가 삭제되지는 않는다.
+ */
+@Component
+public class BoardImageObjectRegistry {
+
+    private final Logger logger = LoggerFactory.getLogger(BoardImageObjectRegistry.class);
+    private final BoardImageObjectRepository boardImageObjectRepository;
+    private final ImageStore imageStore;
+    private final TransactionTemplate newTransaction;
+
+    public BoardImageObjectRegistry(final BoardImageObjectRepository boardImageObjectRepository,
+                                    final ImageStore imageStore,
+                                    final PlatformTransactionManager transactionManager) {
+        this.boardImageObjectRepository = boardImageObjectRepository;
+        this.imageStore = imageStore;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 같은 내용의 이미지가 이미 저장되어 있다면 참조 수를 늘려 반환한다. <br/>
+     * 존재하지 않는 행을 잠그면 MySQL 은 gap lock 을 잡아 이어지는 등록을 막으므로, 잠금은 별도의 짧은 트랜잭션에서만 잡는다.
+     * 호출한 트랜잭션이 롤백되면 늘린 참조를 되돌린다.
+     */
+    public Optional<BoardImageObject> acquire(final String contentHash) {
+
+        final Optional<BoardImageObject> object = newTransaction.execute(status ->
+                boardImageObjectRepository.findByContentHashForUpdate(contentHash)
+                        .map(found -> {
+                            found.increaseReference();
+                            return found;
+                        }));
+
+        object.ifPresent(found -> releaseOnRollback(contentHash));
+        return object;
+    }
+
+    /**
+     * 새로 저장한 이미지 객체를 등록한다. <br/>
+     * 동시에 같은 내용의 이미지가 먼저 등록되었다면(유니크 제약 위반) 먼저 등록된 객체를 재사용하고, 방금 저장한 객체는 삭제한다. <br/>
+     * 등록은 별도의 트랜잭션에서 커밋되므로, 호출한 트랜잭션이 롤백되면 참조를 되돌린다.
+     */
+    public BoardImageObject register(final String contentHash, final String fileName, final String storeImagePath) {
+
+        final BoardImageObject object;
+        try {
+            object = newTransaction.execute(status ->
+                    boardImageObjectRepository.saveAndFlush(new BoardImageObject(contentHash, fileName, storeImagePath)));
+        } catch (final DataIntegrityViolationException e) {
+            final BoardImageObject registered = acquire(contentHash).orElseThrow(() -> e);
+            if (!registered.getFileName().equals(fileName)) {
+                imageStore.deleteAll(BoardImageVariant.allFileNames(fileName));
+            }
+            return registered;
+        }
+
+        releaseOnRollback(contentHash);
+        return object;
+    }
+
+    private void releaseOnRollback(final String contentHash) {
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(final int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    newTransaction.executeWithoutResult(transactionStatus -> release(contentHash));
+                }
+            }
+        });
+    }
+
+    /**
+     * 참조 수를 줄이고, 더 이상 참조하는 이미지가 없다면 행을 잠근 채 저장소에서 삭제한다. 호출한 트랜잭션 안에서 수행된다. <br/>
+     * 저장소에서 삭제하지 못했다면 참조 수가 0 인 객체로 남겨 두어, 같은 이미지가 다시 업로드되면 재사용한다.
+     */
+    public void release(final String contentHash) {
+        release(contentHash, 1);
+    }
+
+    public void release(final String contentHash, final int count) {
+
+        boardImageObjectRepository.findByContentHashForUpdate(contentHash).ifPresent(object -> {
+            if (object.decreaseReference(count) > 0) {
+                return;
+            }
+
+            final Set<String> deletedKeys = imageStore.deleteAll(BoardImageVariant.allFileNames(object.getFileName()));
+            if (deletedKeys.contains(object.getFileName())) {
+                boardImageObjectRepository.delete(object);
+                logger.info("[Result] 더 이상 참조되지 않는 {} 이미지 삭제", object.getFileName());
+            } else {
+                logger.warn("[Result] 더 이상 참조되지 않는 {} 이미지를 저장소에서 삭제하지 못함", object.getFileName());
+            }
+        });
+    }
+}
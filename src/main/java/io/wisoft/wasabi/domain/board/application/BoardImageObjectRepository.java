@@ -0,0 +1,31 @@
+package io.wisoft.wasabi.domain.board.application;
+
+import io.wisoft.wasabi.domain.board.persistence.BoardImageObject;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface BoardImageObjectRepository extends JpaRepository<BoardImageObject, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT object FROM BoardImageObject object WHERE object.contentHash = :contentHash")
+    Optional<BoardImageObject> findByContentHashForUpdate(@Param("contentHash") final String contentHash);
+
+    /**
+     * 여러 트랜잭션이 같은 순서로 잠그도록 contentHash 순으로 조회한다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT object FROM BoardImageObject object WHERE object.contentHash IN :contentHashes ORDER BY object.contentHash")
+    List<BoardImageObject> findAllByContentHashesForUpdate(@Param("contentHashes") final Collection<String> contentHashes);
+
+    @Modifying
+    @Query("UPDATE BoardImageObject object SET object.variantsGenerated = true WHERE object.fileName = :fileName")
+    int markVariantsGenerated(@Param("fileName") final String fileName);
+}
@@ -1,26 +1,107 @@
 package io.wisoft.wasabi.domain.board.application;
 
+import io.wisoft.wasabi.domain.board.persistence.Board;
 import io.wisoft.wasabi.domain.board.persistence.BoardImage;
+import io.wisoft.wasabi.domain.board.persistence.BoardImageStatus;
+import io.wisoft.wasabi.domain.board.persistence.OrphanBoardImage;
+import io.wisoft.wasabi.domain.board.persistence.PendingBoardImage;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface BoardImageRepository extends JpaRepository<BoardImage, Long> {
 
-    @Query("SELECT boardImage FROM BoardImage boardImage WHERE boardImage.id IN :list")
-    List<BoardImage> findAllBoardImagesById(@Param("list") final List<Long> boardImageIds);
+    /**
+     * createdBefore 이전에 저장된 statuses 상태의 게시글에 포함되지 않은 이미지를, lastId 이후부터 id 순으로 조회한다.
+     */
+    @Query("SELECT new io.wisoft.wasabi.domain.board.persistence.OrphanBoardImage(boardImage.id, boardImage.fileName, boardImage.contentHash)" +
+            " FROM BoardImage boardImage" +
+            " WHERE boardImage.board IS NULL" +
+            " AND boardImage.status IN :statuses" +
+            " AND boardImage.createdAt < :createdBefore" +
+            " AND boardImage.id > :lastId" +
+            " ORDER BY boardImage.id")
+    List<OrphanBoardImage> findOrphanImages(@Param("statuses") final Collection<BoardImageStatus> statuses,
+                                            @Param("createdBefore") final LocalDateTime createdBefore,
+                                            @Param("lastId") final Long lastId,
+                                            final Pageable pageable);
 
-    @Query("SELECT boardImage FROM BoardImage boardImage WHERE boardImage.board = NULL")
-    List<BoardImage> findAllBoardImagesByNull();
+    /**
+     * createdBefore 이전에 저장된 status 상태의 게시글에 포함되지 않은 이미지를, lastId 이후부터 id 순으로 조회한다.
+     */
+    @Query("SELECT new io.wisoft.wasabi.domain.board.persistence.OrphanBoardImage(boardImage.id, boardImage.fileName, boardImage.contentHash)" +
+            " FROM BoardImage boardImage" +
+            " WHERE boardImage.board IS NULL" +
+            " AND boardImage.status = :status" +
+            " AND boardImage.createdAt < :createdBefore" +
+            " AND boardImage.id > :lastId" +
+            " ORDER BY boardImage.id")
+    List<OrphanBoardImage> findOrphanImagesByStatus(@Param("status") final BoardImageStatus status,
+                                                    @Param("createdBefore") final LocalDateTime createdBefore,
+                                                    @Param("lastId") final Long lastId,
+                                                    final Pageable pageable);
 
-    @Query("SELECT boardImage FROM BoardImage boardImage WHERE boardImage.storeImagePath = :path")
-    BoardImage findBoardImageByStoreImagePath(@Param("path") final String storeImagePath);
+    /**
+     * 트랜잭션 밖에서 조회한 불필요한 이미지 중 아직 게시글에 포함되지 않은 statuses 상태의 이미지를 잠가서 조회한다. <br/>
+     * 잠그는 동안 게시글과 연결하는 UPDATE 는 기다렸다가, 삭제된 이미지를 연결하지 못한 것으로 처리한다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT boardImage FROM BoardImage boardImage" +
+            " WHERE boardImage.id IN :ids" +
+            " AND boardImage.board IS NULL" +
+            " AND boardImage.status IN :statuses")
+    List<BoardImage> findOrphanImagesForUpdate(@Param("ids") final Collection<Long> boardImageIds,
+                                               @Param("statuses") final Collection<BoardImageStatus> statuses);
+
+    /**
+     * 아직 게시글에 포함되지 않은 이미지들을 한 번의 UPDATE 로 게시글과 연결하고, 연결된 이미지 수를 반환한다.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE BoardImage boardImage SET boardImage.board = :board" +
+            " WHERE boardImage.id IN :list" +
+            " AND boardImage.board IS NULL" +
+            " AND boardImage.status IN :statuses")
+    int attachToBoard(@Param("board") final Board board,
+                      @Param("list") final Collection<Long> boardImageIds,
+                      @Param("statuses") final Collection<BoardImageStatus> statuses);
+
+    /**
+     * 저장소의 객체 이름(fileName)은 긴 URL 인 storeImagePath 대신 인덱스로 조회할 수 있는 짧은 key 이다.
+     */
+    @Query("SELECT boardImage FROM BoardImage boardImage WHERE boardImage.fileName IN :fileNames ORDER BY boardImage.id")
+    List<BoardImage> findAllByFileNames(@Param("fileNames") final Collection<String> fileNames);
 
     @Modifying(clearAutomatically = true)
     @Query("DELETE FROM BoardImage boardImage" +
             " WHERE boardImage.id in :list")
     void deleteBoardImagesByIds(@Param("list") final List<Long> boardImageIds);
+
+    /**
+     * fileNames 중 status 상태인 이미지의 id 와 fileName 만 id 순으로 조회한다.
+     */
+    @Query("SELECT new io.wisoft.wasabi.domain.board.persistence.PendingBoardImage(boardImage.id, boardImage.fileName)" +
+            " FROM BoardImage boardImage" +
+            " WHERE boardImage.status = :status" +
+            " AND boardImage.fileName IN :fileNames" +
+            " ORDER BY boardImage.id")
+    List<PendingBoardImage> findAllByStatusAndFileNames(@Param("status") final BoardImageStatus status,
+                                                        @Param("fileNames") final Collection<String> fileNames);
+
+    @Modifying
+    @Query("UPDATE BoardImage boardImage SET boardImage.variantsGenerated = true WHERE boardImage.fileName = :fileName")
+    int markVariantsGenerated(@Param("fileName") final String fileName);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE BoardImage boardImage SET boardImage.status = :status WHERE boardImage.id = :id")
+    int updateStatus(@Param("id") final Long boardImageId, @Param("status") final BoardImageStatus status);
 }
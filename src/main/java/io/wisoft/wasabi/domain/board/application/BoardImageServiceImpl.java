@@ -1,46 +1,88 @@
 package io.wisoft.wasabi.domain.board.application;
 
-import com.amazonaws.services.s3.AmazonS3;
-import com.amazonaws.services.s3.model.CannedAccessControlList;
-import com.amazonaws.services.s3.model.DeleteObjectRequest;
-import com.amazonaws.services.s3.model.ObjectMetadata;
-import com.amazonaws.services.s3.model.PutObjectRequest;
 import io.wisoft.wasabi.domain.board.web.BoardImageService;
 import io.wisoft.wasabi.domain.board.web.dto.DeleteImageRequest;
 import io.wisoft.wasabi.domain.board.web.dto.DeleteImageResponse;
+import io.wisoft.wasabi.domain.board.web.dto.DeleteImagesRequest;
+import io.wisoft.wasabi.domain.board.web.dto.DeleteImagesResponse;
+import io.wisoft.wasabi.domain.board.web.dto.PresignedUploadRequest;
+import io.wisoft.wasabi.domain.board.web.dto.PresignedUploadResponse;
 import io.wisoft.wasabi.domain.board.web.dto.UploadImageRequest;
 import io.wisoft.wasabi.domain.board.web.dto.UploadImageResponse;
 import io.wisoft.wasabi.domain.board.exception.BoardExceptionExecutor;
 import io.wisoft.wasabi.global.config.common.Const;
+import io.wisoft.wasabi.global.config.common.storage.BoundedInputStream;
+import io.wisoft.wasabi.global.config.common.storage.DirectUpload;
+import io.wisoft.wasabi.global.config.common.storage.ImageContentType;
+import io.wisoft.wasabi.global.config.common.storage.ImageStore;
 import io.wisoft.wasabi.domain.board.persistence.BoardImage;
+import io.wisoft.wasabi.domain.board.persistence.BoardImageObject;
+import io.wisoft.wasabi.domain.board.persistence.BoardImageStatus;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
-import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Transactional(readOnly = true)
 public class BoardImageServiceImpl implements BoardImageService {
+
+    private static final String STAGING_PREFIX = "staging/";
+
     private final Logger logger = LoggerFactory.getLogger(BoardImageServiceImpl.class);
-    private final AmazonS3 amazonS3;
+    private final ImageStore imageStore;
     private final BoardImageRepository boardImageRepository;
+    private final BoardImageObjectRegistry boardImageObjectRegistry;
+    private final BoardImageVariantGenerator variantGenerator;
+    private final BoardImageUploadPipeline uploadPipeline;
+    private final long maxImageSize;
+    private final Duration presignedExpiration;
+    private final TransactionTemplate transactionTemplate;
 
-    @Value("${cloud.aws.s3.bucket}")
-    private String bucket;
-
-    public BoardImageServiceImpl(final AmazonS3 amazonS3,
-                                 final BoardImageRepository boardImageRepository) {
-        this.amazonS3 = amazonS3;
+    public BoardImageServiceImpl(final ImageStore imageStore,
+                                 final BoardImageRepository boardImageRepository,
+                                 final BoardImageObjectRegistry boardImageObjectRegistry,
+                                 final BoardImageVariantGenerator variantGenerator,
+                                 final ObjectProvider<BoardImageUploadPipeline> uploadPipeline,
+                                 final PlatformTransactionManager transactionManager,
+                                 @Value("${board.image.upload.max-size:10MB}") final DataSize maxImageSize,
+                                 @Value("${board.image.presigned.expiration:10m}") final Duration presignedExpiration) {
+        this.imageStore = imageStore;
         this.boardImageRepository = boardImageRepository;
+        this.boardImageObjectRegistry = boardImageObjectRegistry;
+        this.variantGenerator = variantGenerator;
+        this.uploadPipeline = uploadPipeline.getIfAvailable();
+        this.maxImageSize = maxImageSize.toBytes();
+        this.presignedExpiration = presignedExpiration;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     @Override
@@ -49,11 +91,15 @@ public class BoardImageServiceImpl implements BoardImageService {
 
         final String originName = request.image().getOriginalFilename();
         final String ext = originName.substring(originName.lastIndexOf("."));
-        final String changedImageName = changeImageName(ext);
 
-        final String storeImagePath = uploadImage(request.image(), ext, changedImageName);
+        if (uploadPipeline != null) {
+            return saveImageAsync(request.image(), changeImageName(ext));
+        }
 
-        final BoardImage boardImage = BoardMapper.uploadImageRequestToEntity(changedImageName, storeImagePath);
+        final String contentHash = contentHash(request.image());
+        final BoardImage boardImage = boardImageObjectRegistry.acquire(contentHash)
+                .map(BoardMapper::imageObjectToEntity)
+                .orElseGet(() -> BoardMapper.imageObjectToEntity(storeImageObject(request.image(), ext, contentHash)));
         boardImageRepository.save(boardImage);
 
         logger.info("[Result] 저장되지 않은 게시글에 속한 {}번 이미지 저장", boardImage.getId());
@@ -61,55 +107,370 @@ public class BoardImageServiceImpl implements BoardImageService {
         return BoardMapper.entityToUploadImageResponse(boardImage);
     }
 
+    /**
+     * 요청 본문을 임시 파일 없이 이미지 저장소로 바로 전송한다. <br/>
+     * 선언된 크기가 제한을 넘거나 앞부분(magic bytes)이 허용하지 않는 형식이면 본문을 더 읽지 않고 거절하며,
+     * 전송 중에도 선언된 크기를 넘어서면 바로 중단한다. <br/>
+     * 업로드 전에는 내용의 해시를 알 수 없으므로 전송하면서 SHA-256 을 계산하고,
+     * 이미 저장된 이미지였다면 방금 저장한 객체를 삭제하고 기존 객체를 재사용한다. <br/>
+     * 본문을 전송하는 동안 커넥션을 잡지 않도록 트랜잭션 밖에서 전송하고, 이미지 객체 등록과 이미지 저장만 각각 짧은 트랜잭션에서 수행한다.
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public UploadImageResponse saveImage(final InputStream content, final long contentLength) {
+
+        if (contentLength < 0) {
+            throw BoardExceptionExecutor.BoardImageLengthRequired();
+        }
+        if (contentLength > maxImageSize) {
+            throw BoardExceptionExecutor.BoardImageTooLarge();
+        }
+
+        final BufferedInputStream buffered = new BufferedInputStream(content);
+        final ImageContentType contentType = sniffContentType(buffered);
+        final String fileName = changeImageName(contentType.getExtension());
+
+        final MessageDigest digest = sha256();
+        try (final InputStream body = new DigestInputStream(new BoundedInputStream(buffered, contentLength), digest)) {
+            imageStore.store(fileName, body, contentLength, contentType.getMimeType());
+        } catch (final BoundedInputStream.LimitExceededException e) {
+            throw BoardExceptionExecutor.BoardImageTooLarge();
+        } catch (final IOException e) {
+            throw BoardExceptionExecutor.BoardImageUploadFail();
+        }
+
+        final String contentHash = HexFormat.of().formatHex(digest.digest());
+        final BoardImageObject object = boardImageObjectRegistry.acquire(contentHash)
+                .map(registered -> {
+                    imageStore.delete(fileName);
+                    return registered;
+                })
+                .orElseGet(() -> boardImageObjectRegistry.register(contentHash, fileName, imageStore.getUrl(fileName)));
+
+        final BoardImage boardImage = BoardMapper.imageObjectToEntity(object);
+        try {
+            transactionTemplate.executeWithoutResult(status -> boardImageRepository.save(boardImage));
+        } catch (final RuntimeException e) {
+            // 트랜잭션 밖에서 늘린 참조는 롤백으로 되돌려지지 않으므로 직접 되돌린다.
+            transactionTemplate.executeWithoutResult(status -> boardImageObjectRegistry.release(contentHash));
+            throw e;
+        }
+        // 방금 저장한 객체가 이미지 객체로 등록된 경우에만 축소 이미지를 만든다.
+        if (object.getFileName().equals(fileName)) {
+            variantGenerator.submit(fileName);
+        }
+
+        logger.info("[Result] 저장되지 않은 게시글에 속한 {}번 이미지 스트리밍 저장", boardImage.getId());
+
+        return BoardMapper.entityToUploadImageResponse(boardImage);
+    }
+
+    private ImageContentType sniffContentType(final BufferedInputStream content) {
+
+        try {
+            content.mark(ImageContentType.SIGNATURE_LENGTH);
+            final byte[] header = content.readNBytes(ImageContentType.SIGNATURE_LENGTH);
+            content.reset();
+
+            return ImageContentType.sniff(header, header.length)
+                    .orElseThrow(BoardExceptionExecutor::BoardImageTypeInvalid);
+        } catch (final IOException e) {
+            throw BoardExceptionExecutor.BoardImageUploadFail();
+        }
+    }
+
+    /**
+     * 클라이언트가 서버를 거치지 않고 이미지 저장소에 직접 업로드할 수 있는 URL 을 발급한다. <br/>
+     * URL 은 만료 전까지 몇 번이고 덮어쓸 수 있으므로 이미지의 key 가 아닌 staging key 로 발급한다.
+     * 이미지는 업로드 완료 요청에서 검증하기 전까지 AWAITING_UPLOAD 상태로 저장되며,
+     * 완료되지 않은 이미지는 BoardImageGarbageCollector 가 정리한다.
+     */
+    @Override
+    @Transactional
+    public PresignedUploadResponse createPresignedUpload(final PresignedUploadRequest request) {
+
+        final ImageContentType contentType = ImageContentType.ofMimeType(request.contentType())
+                .orElseThrow(BoardExceptionExecutor::BoardImageTypeInvalid);
+        if (request.contentLength() > maxImageSize) {
+            throw BoardExceptionExecutor.BoardImageTooLarge();
+        }
+
+        final String fileName = changeImageName(contentType.getExtension());
+        final DirectUpload upload = imageStore.createDirectUpload(stagingFileName(fileName), contentType.getMimeType(), presignedExpiration)
+                .orElseThrow(BoardExceptionExecutor::BoardImageDirectUploadUnsupported);
+
+        final BoardImage boardImage = BoardMapper.presignedUploadToAwaitingEntity(fileName, imageStore.getUrl(fileName));
+        boardImageRepository.save(boardImage);
+
+        logger.info("[Result] 저장되지 않은 게시글에 속한 {}번 이미지 직접 업로드 URL 발급", boardImage.getId());
+
+        return BoardMapper.entityToPresignedUploadResponse(boardImage, upload);
+    }
+
+    /**
+     * 클라이언트가 직접 업로드한 이미지를 검증한다. <br/>
+     * staging key 의 객체를 이미지의 key 로 복사한 뒤 복사본을 검증하므로, 검증 이후 발급한 URL 로 다시 업로드해도 이미지는 바뀌지 않는다.
+     * 발급할 때 선언한 크기와 형식은 클라이언트가 지키지 않을 수 있으므로, 복사본의 크기와 앞부분(magic bytes)을 다시 확인하고
+     * 허용하지 않는 이미지는 저장소에서 삭제한다. 이미 완료된 이미지에 대한 요청은 같은 응답을 반환한다.
+     */
+    @Override
+    @Transactional
+    public UploadImageResponse completePresignedUpload(final Long imageId) {
+
+        final BoardImage boardImage = boardImageRepository.findById(imageId)
+                .orElseThrow(BoardExceptionExecutor::BoardImageNotFound);
+        if (boardImage.getStatus() == BoardImageStatus.READY) {
+            return BoardMapper.entityToUploadImageResponse(boardImage);
+        }
+        if (boardImage.getStatus() != BoardImageStatus.AWAITING_UPLOAD) {
+            throw BoardExceptionExecutor.BoardImageNotFound();
+        }
+
+        final String fileName = boardImage.getFileName();
+        promoteDirectUpload(fileName);
+        verifyDirectUpload(fileName);
+
+        boardImage.activate();
+        variantGenerator.submit(fileName);
+
+        logger.info("[Result] 저장되지 않은 게시글에 속한 {}번 이미지 직접 업로드 완료", boardImage.getId());
+
+        return BoardMapper.entityToUploadImageResponse(boardImage);
+    }
+
+    // 이전 완료 요청이 복사까지 마쳤다면 staging key 는 이미 삭제되었으므로, 이미지의 key 에 남은 복사본을 그대로 검증한다.
+    private void promoteDirectUpload(final String fileName) {
+
+        final String stagingFileName = stagingFileName(fileName);
+        try {
+            if (imageStore.getContentLength(stagingFileName).isPresent()) {
+                imageStore.copy(stagingFileName, fileName);
+                imageStore.delete(stagingFileName);
+            }
+        } catch (final IOException e) {
+            throw BoardExceptionExecutor.BoardImageUploadFail();
+        }
+    }
+
+    private void verifyDirectUpload(final String fileName) {
+
+        try {
+            final OptionalLong contentLength = imageStore.getContentLength(fileName);
+            if (contentLength.isEmpty()) {
+                throw BoardExceptionExecutor.BoardImageNotUploaded();
+            }
+            if (contentLength.getAsLong() > maxImageSize) {
+                imageStore.delete(fileName);
+                throw BoardExceptionExecutor.BoardImageTooLarge();
+            }
+
+            final byte[] header;
+            try (final InputStream content = imageStore.load(fileName)) {
+                header = content.readNBytes(ImageContentType.SIGNATURE_LENGTH);
+            }
+            final boolean matches = ImageContentType.sniff(header, header.length)
+                    .filter(type -> fileName.endsWith(type.getExtension()))
+                    .isPresent();
+            if (!matches) {
+                imageStore.delete(fileName);
+                throw BoardExceptionExecutor.BoardImageTypeInvalid();
+            }
+        } catch (final IOException e) {
+            throw BoardExceptionExecutor.BoardImageUploadFail();
+        }
+    }
+
+    /**
+     * 저장소에 없는 이미지라면 내용의 해시를 파일 이름으로 업로드하고 이미지 객체로 등록한다.
+     */
+    private BoardImageObject storeImageObject(final MultipartFile image, final String ext, final String contentHash) {
+
+        final String fileName = contentHash + ext;
+        final String storeImagePath = uploadImage(image, ext, fileName);
+
+        final BoardImageObject object = boardImageObjectRegistry.register(contentHash, fileName, storeImagePath);
+        if (object.getFileName().equals(fileName)) {
+            variantGenerator.submit(fileName, image);
+        }
+        return object;
+    }
+
+    /**
+     * 저장소에 업로드하기 전에 같은 이미지가 이미 저장되어 있는지 확인할 수 있도록,
+     * 로컬에 저장된 업로드 내용을 한 번 읽으면서 SHA-256 을 계산한다.
+     */
+    private String contentHash(final MultipartFile image) {
+
+        final MessageDigest digest = sha256();
+        try (final InputStream content = new DigestInputStream(image.getInputStream(), digest)) {
+            content.transferTo(OutputStream.nullOutputStream());
+        } catch (final IOException e) {
+            throw BoardExceptionExecutor.BoardImageUploadFail();
+        }
+
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 이미지를 로컬 스풀에 저장하고 PENDING 상태로 바로 응답한다. 이미지 저장소 업로드는 BoardImageUploadPipeline 이 수행한다.
+     */
+    private UploadImageResponse saveImageAsync(final MultipartFile image, final String changedImageName) {
+
+        try {
+            uploadPipeline.spool(image, changedImageName);
+        } catch (final IOException e) {
+            throw BoardExceptionExecutor.BoardImageUploadFail();
+        }
+
+        final String storeImagePath = imageStore.getUrl(changedImageName);
+        final BoardImage boardImage = BoardMapper.uploadImageRequestToPendingEntity(changedImageName, storeImagePath);
+        boardImageRepository.save(boardImage);
+        uploadPipeline.enqueue(boardImage.getId(), changedImageName);
+
+        logger.info("[Result] 저장되지 않은 게시글에 속한 {}번 이미지 업로드 대기", boardImage.getId());
+
+        return BoardMapper.entityToUploadImageResponse(boardImage);
+    }
+
     private String uploadImage(final MultipartFile image,
                                final String ext,
                                final String changedImageName) {
 
-        final ObjectMetadata metadata = new ObjectMetadata();
-        metadata.setContentType(Const.CONTENT_TYPE_IMAGE + ext.substring(1));
-        try {
-            amazonS3.putObject(new PutObjectRequest(bucket, changedImageName, image.getInputStream(), metadata)
-                    .withCannedAcl(CannedAccessControlList.PublicRead));
+        final String contentType = Const.CONTENT_TYPE_IMAGE + ext.substring(1);
+        try (final InputStream content = image.getInputStream()) {
+            imageStore.store(changedImageName, content, image.getSize(), contentType);
         } catch (final IOException e) {
             throw BoardExceptionExecutor.BoardImageUploadFail();
         }
 
-        return amazonS3.getUrl(bucket, changedImageName).toString();
+        return imageStore.getUrl(changedImageName);
     }
 
     /**
-     * TODO: 이미지 삭제 보완 필요 - 임시 구현
+     * 게시글의 이미지 URL 은 누구나 볼 수 있으므로, 게시글에 포함되지 않은 이미지만 삭제한다.
+     * URL 의 이미지가 모두 게시글에 포함되어 있다면 예외가 발생한다. <br/>
+     * 긴 URL 대신 URL 의 마지막 경로인 저장소 객체 이름으로 조회하고, 이전 형식의 URL 과 섞이지 않도록 전체 경로가 같은지 다시 확인한다.
      */
     @Override
     @Transactional
     public DeleteImageResponse deleteImage(final DeleteImageRequest request) {
 
-        final BoardImage boardImage = boardImageRepository.findBoardImageByStoreImagePath(request.storeImagePath());
-        deleteImageFromDatabaseAndS3(boardImage);
+        final List<BoardImage> boardImages = findAllByStoreImagePaths(List.of(request.storeImagePath()));
+        if (boardImages.isEmpty()) {
+            throw BoardExceptionExecutor.BoardImageNotFound();
+        }
+        final BoardImage boardImage = unattached(boardImages)
+                .findFirst()
+                .orElseThrow(BoardExceptionExecutor::BoardImageAttached);
+        deleteImageFromDatabaseAndStore(boardImage);
 
-        logger.info("[Result] {}번 게시글에 대한 {}번 이미지 삭제", boardImage.getBoard(), boardImage.getId());
+        logger.info("[Result] {}번 이미지 삭제", boardImage.getId());
 
         return BoardMapper.entityToDeleteImageResponse(boardImage.getId());
     }
 
     /**
-     * 주기적으로 게시글에 포함되지 않은 이미지 삭제(불필요한 이미지) -> 24시간 동안 사용되지 않았다면 불필요하다고 판단
+     * id 만으로는 요청한 사용자가 이미지를 올렸는지 알 수 없으므로, 게시글에 연결되기 전의 이미지만 삭제한다.
      */
-    @Scheduled(cron = "${cloud.aws.cron}")
+    @Override
     @Transactional
-    public void deleteUnNecessaryImage() {
+    public DeleteImageResponse deleteImage(final Long imageId) {
 
-        final List<BoardImage> images = boardImageRepository.findAllBoardImagesByNull();
+        final BoardImage boardImage = boardImageRepository.findById(imageId)
+                .orElseThrow(BoardExceptionExecutor::BoardImageNotFound);
+        if (boardImage.getBoard() != null) {
+            throw BoardExceptionExecutor.BoardImageAttached();
+        }
+        deleteImageFromDatabaseAndStore(boardImage);
+
+        logger.info("[Result] {}번 이미지 삭제", boardImage.getId());
 
-        images.stream()
-                .filter(image -> Duration.between(image.getCreatedAt(), LocalDateTime.now()).toHours() >= 24)
-                .forEach(this::deleteImageFromDatabaseAndS3);
+        return BoardMapper.entityToDeleteImageResponse(boardImage.getId());
     }
 
-    private void deleteImageFromDatabaseAndS3(final BoardImage boardImage) {
-        final DeleteObjectRequest deleteRequest = new DeleteObjectRequest(bucket, boardImage.getFileName());
-        amazonS3.deleteObject(deleteRequest);
+    /**
+     * 여러 이미지를 한 번의 조회와 한 번의 벌크 삭제로 삭제한다. 찾을 수 없거나 게시글에 포함된 이미지는 건너뛴다. <br/>
+     * 중복 제거 이전의 이미지는 저장소에 한 번의 다중 삭제를 요청하고, 공유하는 이미지 객체는 해시마다 한 번에 참조 수를 줄인다.
+     */
+    @Override
+    @Transactional
+    public DeleteImagesResponse deleteImages(final DeleteImagesRequest request) {
+
+        final Map<String, Deque<BoardImage>> candidates = unattached(findAllByStoreImagePaths(request.storeImagePaths()))
+                .collect(Collectors.groupingBy(BoardImage::getStoreImagePath, Collectors.toCollection(ArrayDeque::new)));
+
+        final List<BoardImage> boardImages = request.storeImagePaths().stream()
+                .map(path -> candidates.getOrDefault(path, new ArrayDeque<>()).pollFirst())
+                .filter(Objects::nonNull)
+                .toList();
+        if (boardImages.isEmpty()) {
+            return BoardMapper.entitiesToDeleteImagesResponse(boardImages);
+        }
+
+        boardImageRepository.deleteBoardImagesByIds(boardImages.stream().map(BoardImage::getId).toList());
+
+        final List<String> legacyKeys = boardImages.stream()
+                .filter(image -> image.getContentHash() == null)
+                .flatMap(image -> BoardImageVariant.allFileNames(image.getFileName()).stream())
+                .toList();
+        if (!legacyKeys.isEmpty()) {
+            imageStore.deleteAll(legacyKeys);
+        }
+        boardImages.stream()
+                .filter(image -> image.getContentHash() != null)
+                .collect(Collectors.groupingBy(BoardImage::getContentHash, Collectors.counting()))
+                .forEach((contentHash, count) -> boardImageObjectRegistry.release(contentHash, count.intValue()));
+
+        logger.info("[Result] 이미지 {}개 삭제", boardImages.size());
+
+        return BoardMapper.entitiesToDeleteImagesResponse(boardImages);
+    }
+
+    private List<BoardImage> findAllByStoreImagePaths(final List<String> storeImagePaths) {
+
+        final Set<String> paths = Set.copyOf(storeImagePaths);
+        final Set<String> fileNames = paths.stream()
+                .map(StringUtils::getFilename)
+                .filter(StringUtils::hasText)
+                .collect(Collectors.toSet());
+        if (fileNames.isEmpty()) {
+            return List.of();
+        }
+
+        return boardImageRepository.findAllByFileNames(fileNames).stream()
+                .filter(image -> paths.contains(image.getStoreImagePath()))
+                .toList();
+    }
+
+    private Stream<BoardImage> unattached(final List<BoardImage> boardImages) {
+        return boardImages.stream()
+                .filter(image -> image.getBoard() == null);
+    }
+
+    // 공유하는 이미지 객체는 더 이상 참조하는 이미지가 없을 때만 저장소에서 삭제한다.
+    private void deleteImageFromDatabaseAndStore(final BoardImage boardImage) {
+
         boardImageRepository.delete(boardImage);
+        if (boardImage.getContentHash() == null) {
+            imageStore.deleteAll(BoardImageVariant.allFileNames(boardImage.getFileName()));
+            return;
+        }
+        boardImageObjectRegistry.release(boardImage.getContentHash());
+    }
+
+    /**
+     * 직접 업로드 URL 을 발급하는 key
+     */
+    static String stagingFileName(final String fileName) {
+        return STAGING_PREFIX + fileName;
     }
 
     private String changeImageName(final String ext) {
@@ -0,0 +1,344 @@
+package io.wisoft.wasabi.domain.board.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.wisoft.wasabi.domain.board.persistence.BoardImageStatus;
+import io.wisoft.wasabi.domain.board.persistence.PendingBoardImage;
+import io.wisoft.wasabi.global.config.common.Const;
+import io.wisoft.wasabi.global.config.common.storage.ImageStore;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 로컬 스풀에 저장된 이미지를 백그라운드에서 이미지 저장소(ImageStore)로 업로드한다. <br/>
+ * 업로드 요청은 스풀에 저장하고 PENDING 상태의 BoardImage 를 만든 뒤 바로 응답하며,
+ * 가상 스레드 worker 들이 큐에서 꺼내 업로드한 뒤 READY(재시도 후에도 실패하면 FAILED)로 변경하고 축소 이미지 생성을 요청한다. <br/>
+ * 큐가 가득 차면 요청한 스레드에서 업로드하지 않고 PENDING 상태와 스풀 파일을 그대로 두며, 주기적으로 다시 큐에 넣는다. <br/>
+ * board.image.upload.async=true 일 때만 사용한다.
+ */
+@Component
+@ConditionalOnProperty(name = "board.image.upload.async", havingValue = "true")
+public class BoardImageUploadPipeline {
+
+    private static final int REQUEUE_BATCH_SIZE = 500;
+
+    private final Logger logger = LoggerFactory.getLogger(BoardImageUploadPipeline.class);
+    private final ImageStore imageStore;
+    private final BoardImageRepository boardImageRepository;
+    private final BoardImageVariantGenerator variantGenerator;
+    private final Path spoolDirectory;
+    private final BlockingQueue<UploadTask> queue;
+    private final int workerCount;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration shutdownTimeout;
+    private final TransactionTemplate statusTransaction;
+    private final Timer uploadTimer;
+    private final Counter retryCounter;
+    private final Counter failureCounter;
+    private final List<Thread> workers = new ArrayList<>();
+    // 큐에 있거나 업로드 중인 이미지, 같은 이미지를 두 번 큐에 넣지 않는다.
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+    private final CountDownLatch stopSignal = new CountDownLatch(1);
+
+    public BoardImageUploadPipeline(final ImageStore imageStore,
+                                    final BoardImageRepository boardImageRepository,
+                                    final BoardImageVariantGenerator variantGenerator,
+                                    final MeterRegistry meterRegistry,
+                                    final PlatformTransactionManager transactionManager,
+                                    @Value("${board.image.upload.spool-dir:${java.io.tmpdir}/wasabi-image-spool}") final Path spoolDirectory,
+                                    @Value("${board.image.upload.queue-capacity:1000}") final int queueCapacity,
+                                    @Value("${board.image.upload.workers:8}") final int workerCount,
+                                    @Value("${board.image.upload.max-attempts:5}") final int maxAttempts,
+                                    @Value("${board.image.upload.initial-backoff:500ms}") final Duration initialBackoff,
+                                    @Value("${board.image.upload.max-backoff:30s}") final Duration maxBackoff,
+                                    @Value("${board.image.upload.shutdown-timeout:30s}") final Duration shutdownTimeout) {
+        this.imageStore = imageStore;
+        this.boardImageRepository = boardImageRepository;
+        this.variantGenerator = variantGenerator;
+        this.spoolDirectory = spoolDirectory;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.workerCount = workerCount;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.shutdownTimeout = shutdownTimeout;
+        // 상태 변경은 트랜잭션 동기화 콜백에서 호출되더라도 끝난 트랜잭션에 참여하지 않도록 항상 새 트랜잭션에서 수행한다.
+        this.statusTransaction = new TransactionTemplate(transactionManager);
+        this.statusTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        Gauge.builder("board.image.upload.queue", queue, BlockingQueue::size)
+                .description("업로드를 기다리는 이미지 수")
+                .register(meterRegistry);
+        this.uploadTimer = Timer.builder("board.image.upload.latency")
+                .description("스풀에 저장된 이미지를 저장소에 업로드하는 데 걸린 시간")
+                .register(meterRegistry);
+        this.retryCounter = meterRegistry.counter("board.image.upload.retries");
+        this.failureCounter = meterRegistry.counter("board.image.upload.failures");
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+
+        Files.createDirectories(spoolDirectory);
+
+        for (int i = 0; i < workerCount; i++) {
+            workers.add(Thread.ofVirtual()
+                    .name("board-image-upload-" + i)
+                    .start(this::work));
+        }
+    }
+
+    public Path spool(final MultipartFile image, final String fileName) throws IOException {
+
+        final Path spoolFile = spoolDirectory.resolve(fileName);
+        image.transferTo(spoolFile);
+        return spoolFile;
+    }
+
+    /**
+     * 트랜잭션 안에서 호출되면 커밋된 뒤에 업로드를 시작하고, 롤백되면 스풀 파일을 삭제한다.
+     */
+    public void enqueue(final Long boardImageId, final String fileName) {
+
+        final UploadTask task = new UploadTask(boardImageId, fileName);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            submit(task);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(final int status) {
+                if (status == STATUS_COMMITTED) {
+                    submit(task);
+                } else {
+                    deleteSpoolFile(task);
+                }
+            }
+        });
+    }
+
+    // 큐가 가득 찼다면 PENDING 상태와 스풀 파일을 남겨 두고, requeue 가 다시 큐에 넣는다. 요청한 스레드에서는 업로드하지 않는다.
+    private boolean submit(final UploadTask task) {
+
+        if (isStopping() || !inFlight.add(task.boardImageId())) {
+            return false;
+        }
+
+        if (!queue.offer(task)) {
+            inFlight.remove(task.boardImageId());
+            logger.warn("[Result] 이미지 업로드 큐가 가득 차 {}번 이미지를 PENDING 상태로 유지", task.boardImageId());
+            return false;
+        }
+        return true;
+    }
+
+    // 종료 중에는 새 작업을 꺼내지 않고, 진행 중인 업로드만 마친다.
+    private void work() {
+        try {
+            while (!isStopping()) {
+                final UploadTask task = queue.poll(1, TimeUnit.SECONDS);
+                if (task == null) {
+                    continue;
+                }
+
+                try {
+                    upload(task);
+                } finally {
+                    inFlight.remove(task.boardImageId());
+                }
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void upload(final UploadTask task) {
+
+        final Path spoolFile = spoolDirectory.resolve(task.fileName());
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            final Timer.Sample sample = Timer.start();
+            try (final InputStream content = Files.newInputStream(spoolFile)) {
+                imageStore.store(task.fileName(), content, Files.size(spoolFile), contentType(task.fileName()));
+                sample.stop(uploadTimer);
+
+                updateStatus(task, BoardImageStatus.READY);
+                // 스풀 파일은 축소 이미지를 만든 뒤 BoardImageVariantGenerator 가 삭제한다.
+                variantGenerator.submit(task.fileName(), spoolFile);
+
+                logger.info("[Result] {}번 이미지 업로드 완료", task.boardImageId());
+                return;
+            } catch (final NoSuchFileException e) {
+                logger.warn("[Result] {}번 이미지의 스풀 파일이 존재하지 않음", task.boardImageId());
+                break;
+            } catch (final IOException | RuntimeException e) {
+                logger.warn("[Result] {}번 이미지 업로드 실패 ({}/{})", task.boardImageId(), attempt, maxAttempts, e);
+            }
+
+            if (attempt < maxAttempts && !backoff(attempt)) {
+                // 종료 중이라면 PENDING 상태로 남겨 두고, 다음 실행 때 다시 업로드한다.
+                return;
+            }
+        }
+
+        failureCounter.increment();
+        updateStatus(task, BoardImageStatus.FAILED);
+        deleteSpoolFile(task);
+    }
+
+    private void updateStatus(final UploadTask task, final BoardImageStatus status) {
+        statusTransaction.executeWithoutResult(transactionStatus ->
+                boardImageRepository.updateStatus(task.boardImageId(), status));
+    }
+
+    // 종료 신호를 받으면 기다리지 않고 false 를 반환한다.
+    private boolean backoff(final int attempt) {
+
+        retryCounter.increment();
+        final long delay = Math.min(initialBackoff.toMillis() << (attempt - 1), maxBackoff.toMillis());
+        try {
+            return !stopSignal.await(delay, TimeUnit.MILLISECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private boolean isStopping() {
+        return stopSignal.getCount() == 0;
+    }
+
+    private void deleteSpoolFile(final UploadTask task) {
+        try {
+            Files.deleteIfExists(spoolDirectory.resolve(task.fileName()));
+        } catch (final IOException e) {
+            logger.warn("[Result] {}번 이미지의 스풀 파일 삭제 실패", task.boardImageId(), e);
+        }
+    }
+
+    private String contentType(final String fileName) {
+        return Const.CONTENT_TYPE_IMAGE + fileName.substring(fileName.lastIndexOf(".") + 1);
+    }
+
+    /**
+     * 이전 실행에서 업로드하지 못한 이미지를 다시 큐에 넣는다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recover() {
+        logger.info("[Result] 업로드 대기 중이던 이미지 {}개 복구", requeuePending());
+    }
+
+    /**
+     * 큐가 가득 차 PENDING 상태로 남은 이미지를 다시 큐에 넣는다.
+     */
+    @Scheduled(fixedDelayString = "${board.image.upload.requeue-interval:60000}",
+            initialDelayString = "${board.image.upload.requeue-interval:60000}")
+    public void requeue() {
+
+        final int count = requeuePending();
+        if (count > 0) {
+            logger.info("[Result] PENDING 상태의 이미지 {}개를 다시 업로드 큐에 추가", count);
+        }
+    }
+
+    /**
+     * 이 서버의 스풀 디렉터리에 남은 파일 이름으로만 PENDING 상태의 이미지를 조회하므로,
+     * 다른 서버에서 업로드 중인 이미지는 읽지 않고 조회량도 로컬 스풀 크기로 제한된다. <br/>
+     * 파일 이름은 REQUEUE_BATCH_SIZE 개씩 나누어 조회하고, 큐가 가득 차면 나머지는 다음 주기로 미룬다.
+     */
+    int requeuePending() {
+
+        final List<String> fileNames;
+        try (final Stream<Path> spoolFiles = Files.list(spoolDirectory)) {
+            fileNames = spoolFiles.filter(Files::isRegularFile)
+                    .map(spoolFile -> spoolFile.getFileName().toString())
+                    .toList();
+        } catch (final IOException e) {
+            logger.warn("[Result] 스풀 디렉터리 조회 실패, 다음 주기에 다시 시도", e);
+            return 0;
+        }
+
+        int count = 0;
+        for (int from = 0; from < fileNames.size(); from += REQUEUE_BATCH_SIZE) {
+            final List<String> batch = fileNames.subList(from, Math.min(from + REQUEUE_BATCH_SIZE, fileNames.size()));
+            for (final PendingBoardImage image : boardImageRepository.findAllByStatusAndFileNames(BoardImageStatus.PENDING, batch)) {
+                if (inFlight.contains(image.id())) {
+                    continue;
+                }
+                if (queue.remainingCapacity() == 0) {
+                    return count;
+                }
+                if (submit(new UploadTask(image.id(), image.fileName()))) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 새 작업을 받지 않고, 큐에 남은 작업은 PENDING 상태로 남겨 다음 실행 때 복구한다. <br/>
+     * 진행 중인 업로드는 shutdownTimeout 동안 기다리고, 그때까지 끝나지 않은 worker 만 중단한다.
+     */
+    @PreDestroy
+    public void stop() {
+
+        stopSignal.countDown();
+
+        final List<UploadTask> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        remaining.forEach(task -> inFlight.remove(task.boardImageId()));
+
+        final long deadline = System.nanoTime() + shutdownTimeout.toNanos();
+        try {
+            for (final Thread worker : workers) {
+                final long timeout = deadline - System.nanoTime();
+                if (timeout > 0) {
+                    worker.join(Duration.ofNanos(timeout));
+                }
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        workers.stream().filter(Thread::isAlive).forEach(Thread::interrupt);
+
+        logger.info("[Result] 이미지 업로드 worker 종료 - 남은 작업 {}개는 다음 실행 때 복구", remaining.size());
+    }
+
+    private record UploadTask(Long boardImageId, String fileName) {
+    }
+}
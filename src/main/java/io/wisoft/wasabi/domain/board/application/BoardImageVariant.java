@@ -0,0 +1,60 @@
+package io.wisoft.wasabi.domain.board.application;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 원본 이미지로부터 생성하는 축소 이미지 <br/>
+ * 축소 이미지는 원본 파일 이름에 접미사를 붙인 key 로 원본과 같은 이미지 저장소에 저장한다. (ex. uuid.png -> uuid_thumbnail.png)
+ */
+public enum BoardImageVariant {
+
+    THUMBNAIL("thumbnail", 320),
+    MEDIUM("medium", 1024);
+
+    private final String suffix;
+    private final int maxWidth;
+
+    BoardImageVariant(final String suffix, final int maxWidth) {
+        this.suffix = suffix;
+        this.maxWidth = maxWidth;
+    }
+
+    public int getMaxWidth() {
+        return maxWidth;
+    }
+
+    public String fileName(final String originalFileName) {
+
+        final int extIndex = originalFileName.lastIndexOf(".");
+        if (extIndex < 0) {
+            return originalFileName + "_" + suffix;
+        }
+        return originalFileName.substring(0, extIndex) + "_" + suffix + originalFileName.substring(extIndex);
+    }
+
+    /**
+     * 이미지 저장소의 URL 은 key 로 끝나므로, 원본 URL 의 파일 이름을 축소 이미지의 파일 이름으로 바꾸어 URL 을 만든다.
+     */
+    public String url(final String originalUrl, final String originalFileName) {
+
+        final int fileNameIndex = originalUrl.lastIndexOf(originalFileName);
+        if (fileNameIndex < 0) {
+            return originalUrl;
+        }
+        return originalUrl.substring(0, fileNameIndex) + fileName(originalFileName);
+    }
+
+    /**
+     * 원본과 모든 축소 이미지의 파일 이름
+     */
+    public static List<String> allFileNames(final String originalFileName) {
+
+        final List<String> fileNames = new ArrayList<>();
+        fileNames.add(originalFileName);
+        for (final BoardImageVariant variant : values()) {
+            fileNames.add(variant.fileName(originalFileName));
+        }
+        return fileNames;
+    }
+}
@@ -0,0 +1,293 @@
+package io.wisoft.wasabi.domain.board.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.wisoft.wasabi.global.config.common.Const;
+import io.wisoft.wasabi.global.config.common.storage.ImageStore;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.MemoryCacheImageInputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.Set;
+
+/**
+ * 업로드된 원본 이미지로부터 {@link BoardImageVariant} 축소 이미지들을 만들어 이미지 저장소에 저장한다. <br/>
+ * 변환은 크기가 제한된 전용 스레드 풀에서 수행하므로 업로드 요청을 막지 않으며,
+ * 풀과 대기열이 가득 차면 변환을 건너뛴다. 축소 이미지가 없다면 클라이언트는 원본 이미지를 사용한다. <br/>
+ * 축소 이미지를 모두 저장한 뒤에야 이미지와 이미지 객체에 생성 여부를 기록하므로, 기록되지 않은 이미지의 축소 이미지 URL 은 응답하지 않는다.
+ */
+@Component
+public class BoardImageVariantGenerator {
+
+    // 투명도를 지원하지 않아 흰 배경 위에 그려야 하는 형식
+    private static final Set<String> OPAQUE_FORMATS = Set.of("jpg", "jpeg", "bmp");
+
+    private final Logger logger = LoggerFactory.getLogger(BoardImageVariantGenerator.class);
+    private final ImageStore imageStore;
+    private final BoardImageRepository boardImageRepository;
+    private final BoardImageObjectRepository boardImageObjectRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolTaskExecutor executor;
+    private final long maxPixels;
+    private final Timer generateTimer;
+    private final Counter rejectedCounter;
+    private final Counter oversizedCounter;
+    private final Counter failureCounter;
+
+    public BoardImageVariantGenerator(final ImageStore imageStore,
+                                      final BoardImageRepository boardImageRepository,
+                                      final BoardImageObjectRepository boardImageObjectRepository,
+                                      final PlatformTransactionManager transactionManager,
+                                      final MeterRegistry meterRegistry,
+                                      @Value("${board.image.variant.threads:2}") final int threads,
+                                      @Value("${board.image.variant.queue-capacity:100}") final int queueCapacity,
+                                      @Value("${board.image.variant.max-pixels:40000000}") final long maxPixels) {
+        this.imageStore = imageStore;
+        this.boardImageRepository = boardImageRepository;
+        this.boardImageObjectRepository = boardImageObjectRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.executor = createExecutor(threads, queueCapacity);
+        this.maxPixels = maxPixels;
+        this.generateTimer = Timer.builder("board.image.variant.latency")
+                .description("원본 이미지 하나의 축소 이미지들을 만들어 저장하는 데 걸린 시간")
+                .register(meterRegistry);
+        this.rejectedCounter = meterRegistry.counter("board.image.variant.rejected");
+        this.oversizedCounter = meterRegistry.counter("board.image.variant.oversized");
+        this.failureCounter = meterRegistry.counter("board.image.variant.failures");
+    }
+
+    private static ThreadPoolTaskExecutor createExecutor(final int threads, final int queueCapacity) {
+        final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("BoardImageVariant-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+
+        return executor;
+    }
+
+    /**
+     * 요청이 끝나면 MultipartFile 의 임시 파일이 삭제되므로, 원본을 별도의 임시 파일로 옮긴 뒤 변환을 요청한다.
+     */
+    public void submit(final String fileName, final MultipartFile image) {
+
+        try {
+            final Path original = Files.createTempFile("wasabi-variant-", "-" + fileName);
+            image.transferTo(original);
+            submit(fileName, original);
+        } catch (final IOException e) {
+            logger.warn("[Result] {} 이미지의 축소 이미지 생성 요청 실패", fileName, e);
+        }
+    }
+
+    /**
+     * 전달한 원본 파일은 변환이 끝나면(건너뛰는 경우 포함) 삭제된다.
+     */
+    public void submit(final String fileName, final Path original) {
+        execute(fileName, () -> Files.newInputStream(original), () -> deleteOriginal(original));
+    }
+
+    /**
+     * 로컬에 원본이 남지 않는 스트리밍 업로드는 이미지 저장소에서 원본을 다시 읽어 변환한다.
+     */
+    public void submit(final String fileName) {
+        execute(fileName, () -> imageStore.load(fileName), () -> {
+        });
+    }
+
+    /**
+     * 트랜잭션 안에서 요청하면, 이미지 행이 커밋되기 전에 생성 여부를 기록하지 않도록 커밋된 뒤에 변환을 시작한다.
+     * 롤백되면 변환하지 않고 원본 파일만 정리한다.
+     */
+    private void execute(final String fileName, final OriginalSource original, final Runnable cleanup) {
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            dispatch(fileName, original, cleanup);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(final int status) {
+                if (status == STATUS_COMMITTED) {
+                    dispatch(fileName, original, cleanup);
+                } else {
+                    cleanup.run();
+                }
+            }
+        });
+    }
+
+    private void dispatch(final String fileName, final OriginalSource original, final Runnable cleanup) {
+
+        try {
+            executor.execute(() -> generate(fileName, original, cleanup));
+        } catch (final TaskRejectedException e) {
+            rejectedCounter.increment();
+            logger.warn("[Result] 축소 이미지 생성 대기열이 가득 차 {} 이미지의 축소 이미지 생성을 건너뜀", fileName);
+            cleanup.run();
+        }
+    }
+
+    private void generate(final String fileName, final OriginalSource original, final Runnable cleanup) {
+
+        final Timer.Sample sample = Timer.start();
+        try {
+            // ImageIO 가 스트림을 임시 파일에 캐시하지 않도록 메모리 캐시를 사용한다.
+            final BufferedImage image;
+            try (final InputStream source = original.open();
+                 final ImageInputStream content = new MemoryCacheImageInputStream(source)) {
+                image = read(fileName, content);
+            }
+            if (image == null) {
+                return;
+            }
+
+            final String format = fileName.substring(fileName.lastIndexOf(".") + 1).toLowerCase();
+            for (final BoardImageVariant variant : BoardImageVariant.values()) {
+                final byte[] content = encode(resize(image, variant.getMaxWidth(), OPAQUE_FORMATS.contains(format)), format);
+                imageStore.store(variant.fileName(fileName), new ByteArrayInputStream(content), content.length,
+                        Const.CONTENT_TYPE_IMAGE + format);
+            }
+            markGenerated(fileName);
+            sample.stop(generateTimer);
+
+            logger.info("[Result] {} 이미지의 축소 이미지 생성", fileName);
+        } catch (final IOException | RuntimeException e) {
+            failureCounter.increment();
+            logger.warn("[Result] {} 이미지의 축소 이미지 생성 실패", fileName, e);
+        } finally {
+            cleanup.run();
+        }
+    }
+
+    /**
+     * 압축된 크기는 작아도 픽셀 수가 매우 많은 이미지(decompression bomb)는 디코딩하는 동안 메모리를 모두 차지할 수 있으므로,
+     * 헤더의 너비와 높이만 먼저 읽어 픽셀 수가 maxPixels 를 넘으면 디코딩하지 않는다. 변환할 수 없다면 null 을 반환한다.
+     */
+    private BufferedImage read(final String fileName, final ImageInputStream content) throws IOException {
+
+        final Iterator<ImageReader> readers = ImageIO.getImageReaders(content);
+        if (!readers.hasNext()) {
+            logger.warn("[Result] {} 는 축소 이미지를 만들 수 없는 형식", fileName);
+            return null;
+        }
+
+        final ImageReader reader = readers.next();
+        try {
+            reader.setInput(content, true, true);
+            final long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+            if (pixels > maxPixels) {
+                oversizedCounter.increment();
+                logger.warn("[Result] {} 이미지의 픽셀 수({})가 제한({})을 넘어 축소 이미지 생성을 건너뜀", fileName, pixels, maxPixels);
+                return null;
+            }
+            return reader.read(0);
+        } finally {
+            reader.dispose();
+        }
+    }
+
+    /**
+     * 이후에 이미지 객체를 재사용하는 업로드가 생성 여부를 물려받도록 객체도 함께 기록한다. <br/>
+     * 기록과 동시에 객체를 재사용한 이미지는 기록되지 않을 수 있으며, 이 경우 원본 이미지만 응답한다.
+     */
+    private void markGenerated(final String fileName) {
+        transactionTemplate.executeWithoutResult(status -> {
+            boardImageObjectRepository.markVariantsGenerated(fileName);
+            boardImageRepository.markVariantsGenerated(fileName);
+        });
+    }
+
+    /**
+     * 한 번에 크게 줄이면 계단 현상이 생기므로, 목표 크기가 될 때까지 절반씩 줄인다. <br/>
+     * 원본이 목표 너비보다 작으면 확대하지 않는다.
+     */
+    private BufferedImage resize(final BufferedImage source, final int maxWidth, final boolean opaque) {
+
+        final int targetWidth = Math.min(source.getWidth(), maxWidth);
+        final int targetHeight = Math.max(1, (int) Math.round((double) source.getHeight() * targetWidth / source.getWidth()));
+        final int type = opaque ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB;
+
+        BufferedImage current = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+
+            final BufferedImage next = new BufferedImage(width, height, type);
+            final Graphics2D graphics = next.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                if (opaque) {
+                    graphics.setColor(Color.WHITE);
+                    graphics.fillRect(0, 0, width, height);
+                }
+                graphics.drawImage(current, 0, 0, width, height, null);
+            } finally {
+                graphics.dispose();
+            }
+            current = next;
+        } while (width != targetWidth || height != targetHeight);
+
+        return current;
+    }
+
+    private byte[] encode(final BufferedImage image, final String format) throws IOException {
+
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        if (!ImageIO.write(image, format, output)) {
+            throw new IOException("지원하지 않는 이미지 형식: " + format);
+        }
+        return output.toByteArray();
+    }
+
+    private void deleteOriginal(final Path original) {
+        try {
+            Files.deleteIfExists(original);
+        } catch (final IOException e) {
+            logger.warn("[Result] 축소 이미지 생성에 사용한 원본 파일 {} 삭제 실패", original, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    @FunctionalInterface
+    private interface OriginalSource {
+        InputStream open() throws IOException;
+    }
+}
@@ -0,0 +1,31 @@
+package io.wisoft.wasabi.domain.board.application;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 게시글의 비정규화된 좋아요 수를 실제 좋아요 데이터와 주기적으로 맞춘다. <br/>
+ * 증감 쿼리는 좋아요 등록/취소와 같은 트랜잭션에서 수행되지만, 직접 수정된 데이터 등으로 어긋난 값을 보정하기 위해 사용한다.
+ */
+@Component
+public class BoardLikeCountReconciler {
+
+    private final Logger logger = LoggerFactory.getLogger(BoardLikeCountReconciler.class);
+    private final BoardRepository boardRepository;
+
+    public BoardLikeCountReconciler(final BoardRepository boardRepository) {
+        this.boardRepository = boardRepository;
+    }
+
+    @Transactional
+    @Scheduled(cron = "${board.like-count.reconcile-cron:0 0 4 * * *}")
+    public void reconcile() {
+
+        final int reconciledCount = boardRepository.reconcileLikeCounts();
+
+        logger.info("[Result] 좋아요 수가 어긋난 게시글 {}개 보정", reconciledCount);
+    }
+}
@@ -1,10 +1,15 @@
 package io.wisoft.wasabi.domain.board.application;
 
 import io.wisoft.wasabi.domain.board.persistence.Board;
+import io.wisoft.wasabi.domain.board.persistence.BoardDetail;
 import io.wisoft.wasabi.domain.board.persistence.BoardImage;
+import io.wisoft.wasabi.domain.board.persistence.BoardImageFile;
+import io.wisoft.wasabi.domain.board.persistence.BoardImageObject;
+import io.wisoft.wasabi.domain.board.persistence.BoardImageStatus;
+import io.wisoft.wasabi.domain.board.persistence.BoardStatus;
 import io.wisoft.wasabi.domain.board.web.dto.*;
 import io.wisoft.wasabi.domain.member.persistence.Member;
-import org.springframework.data.domain.Slice;
+import io.wisoft.wasabi.global.config.common.storage.DirectUpload;
 
 public class BoardMapper {
 
@@ -22,11 +27,66 @@ public class BoardMapper {
         return new WriteBoardResponse(board.getId());
     }
 
-    static BoardImage uploadImageRequestToEntity(final String fileName, final String storeImagePath) {
+    static ReadBoardResponse detailToReadBoardResponse(final BoardDetail detail, final BoardStatus status) {
+
+        return new ReadBoardResponse(
+                detail.id(),
+                detail.title(),
+                detail.content(),
+                detail.writer(),
+                detail.createdAt(),
+                status.likeCount(),
+                status.views(),
+                status.isLike(),
+                detail.tag(),
+                detail.comments(),
+                detail.images().stream()
+                        .map(BoardMapper::boardImageFileToImage)
+                        .toList()
+        );
+    }
+
+    static ReadBoardResponse.Image boardImageFileToImage(final BoardImageFile image) {
+
+        return new ReadBoardResponse.Image(
+                image.id(),
+                image.storeImagePath(),
+                variantUrl(BoardImageVariant.MEDIUM, image.variantsGenerated(), image.storeImagePath(), image.fileName()),
+                variantUrl(BoardImageVariant.THUMBNAIL, image.variantsGenerated(), image.storeImagePath(), image.fileName())
+        );
+    }
+
+    static BoardImage imageObjectToEntity(final BoardImageObject object) {
+
+        return new BoardImage(object);
+    }
+
+    static BoardImage uploadImageRequestToPendingEntity(final String fileName, final String storeImagePath) {
 
         return new BoardImage(
                 fileName,
-                storeImagePath
+                storeImagePath,
+                BoardImageStatus.PENDING
+        );
+    }
+
+    static BoardImage presignedUploadToAwaitingEntity(final String fileName, final String storeImagePath) {
+
+        return new BoardImage(
+                fileName,
+                storeImagePath,
+                BoardImageStatus.AWAITING_UPLOAD
+        );
+    }
+
+    static PresignedUploadResponse entityToPresignedUploadResponse(final BoardImage boardImage, final DirectUpload upload) {
+
+        return new PresignedUploadResponse(
+                boardImage.getId(),
+                boardImage.getStoreImagePath(),
+                upload.url(),
+                upload.headers(),
+                upload.expiresAt()
         );
     }
 
@@ -34,36 +94,30 @@ public class BoardMapper {
 
         return new UploadImageResponse(
                 boardImage.getStoreImagePath(),
-                boardImage.getId()
+                boardImage.getId(),
+                variantUrl(BoardImageVariant.MEDIUM, boardImage.isVariantsGenerated(), boardImage.getStoreImagePath(), boardImage.getFileName()),
+                variantUrl(BoardImageVariant.THUMBNAIL, boardImage.isVariantsGenerated(), boardImage.getStoreImagePath(), boardImage.getFileName())
         );
     }
 
-    static DeleteImageResponse entityToDeleteImageResponse(final Long imageId) {
+    // 축소 이미지가 아직 생성되지 않았다면 존재하지 않는 URL 대신 null 을 응답한다.
+    private static String variantUrl(final BoardImageVariant variant,
+                                     final boolean variantsGenerated,
+                                     final String storeImagePath,
+                                     final String fileName) {
 
-        return new DeleteImageResponse(imageId);
+        return variantsGenerated ? variant.url(storeImagePath, fileName) : null;
     }
 
-    static Slice<MyBoardsResponse> entityToMyBoardsResponse(final Slice<Board> myBoards) {
+    static DeleteImageResponse entityToDeleteImageResponse(final Long imageId) {
 
-        return myBoards.map(board -> new MyBoardsResponse(
-                board.getId(),
-                board.getTitle(),
-                board.getMember().getName(),
-                board.getCreatedAt(),
-                board.getLikes().size() + board.getAnonymousLikes().size(),
-                board.getViews()
-        ));
+        return new DeleteImageResponse(imageId);
     }
 
-    public static Slice<MyLikeBoardsResponse> entityToMyLikeBoardsResponse(final Slice<Board> boards) {
+    static DeleteImagesResponse entitiesToDeleteImagesResponse(final List<BoardImage> boardImages) {
 
-        return boards.map(board -> new MyLikeBoardsResponse(
-                board.getId(),
-                board.getTitle(),
-                board.getMember().getName(),
-                board.getCreatedAt(),
-                board.getLikes().size() + board.getAnonymousLikes().size(),
-                board.getViews()
-        ));
+        return new DeleteImagesResponse(boardImages.stream()
+                .map(BoardImage::getId)
+                .toList());
     }
-}
\ No newline at end of file
+}
@@ -1,31 +1,40 @@
 package io.wisoft.wasabi.domain.board.application;
 
 import io.wisoft.wasabi.domain.board.persistence.Board;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 public interface BoardRepository extends JpaRepository<Board, Long> {
 
-    @Query("SELECT board FROM Board board " +
-            "LEFT JOIN FETCH board.likes " +
-            "LEFT JOIN FETCH board.anonymousLikes annonyLikes " +
-            "JOIN FETCH board.member " +
-            "WHERE board.member.id = :memberId " +
-            "ORDER BY board.createdAt DESC")
-    Slice<Board> findAllMyBoards(@Param("memberId") final Long memberId, final Pageable pageable);
-
-    // 내가 좋아요 한 게시글 목록 조회 - 기본값(최신순)
-    @Query("SELECT board FROM Board board" +
-            " JOIN FETCH board.likes likes" +
-            " LEFT JOIN FETCH board.anonymousLikes annonyLikes" +
-            " JOIN FETCH board.member member" +
-            " WHERE likes.member.id = :id" +
-            " ORDER BY board.createdAt DESC")
-    Slice<Board> findAllMyLikeBoards(@Param("id") final Long memberId, final Pageable pageable);
-
     @Query("SELECT EXISTS(SELECT board FROM Board board WHERE board.id = :id)")
     boolean existsById(@Param("id") final Long id);
+
+    // 좋아요 수 증감은 동시 요청에도 유실되지 않도록 DB 에서 원자적으로 수행한다.
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Board board SET board.likeCount = board.likeCount + 1 WHERE board.id = :id")
+    int increaseLikeCount(@Param("id") final Long id);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Board board SET board.likeCount = board.likeCount - 1 WHERE board.id = :id AND board.likeCount > 0")
+    int decreaseLikeCount(@Param("id") final Long id);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Board board SET board.anonymousLikeCount = board.anonymousLikeCount + 1 WHERE board.id = :id")
+    int increaseAnonymousLikeCount(@Param("id") final Long id);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Board board SET board.anonymousLikeCount = board.anonymousLikeCount - 1 " +
+            "WHERE board.id = :id AND board.anonymousLikeCount > 0")
+    int decreaseAnonymousLikeCount(@Param("id") final Long id);
+
+    // 실제 좋아요 수와 어긋난 게시글의 좋아요 수만 다시 계산한다.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Board board SET " +
+            "board.likeCount = (SELECT COUNT(like) FROM Like like WHERE like.board.id = board.id), " +
+            "board.anonymousLikeCount = (SELECT COUNT(anonymousLike) FROM AnonymousLike anonymousLike WHERE anonymousLike.board.id = board.id) " +
+            "WHERE board.likeCount <> (SELECT COUNT(like) FROM Like like WHERE like.board.id = board.id) " +
+            "OR board.anonymousLikeCount <> (SELECT COUNT(anonymousLike) FROM AnonymousLike anonymousLike WHERE anonymousLike.board.id = board.id)")
+    int reconcileLikeCounts();
 }
@@ -0,0 +1,249 @@
+package io.wisoft.wasabi.domain.board.application;
+
+import io.wisoft.wasabi.domain.board.persistence.BoardQueryRepository;
+import io.wisoft.wasabi.domain.board.persistence.BoardSearchDocument;
+import io.wisoft.wasabi.domain.board.web.dto.SearchBoardResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 게시글 제목, 내용, 태그에 대한 메모리 역색인 <br/>
+ * 애플리케이션이 시작되면 DB 의 게시글로 색인을 만들고, 이후에는 게시글이 작성될 때마다 해당 게시글만 색인에 추가한다.
+ * 검색은 DB 를 거치지 않고 BM25 점수 순으로 결과를 반환한다. <br/>
+ * 제목과 태그의 토큰은 내용보다 높은 가중치의 빈도로 색인하여, 제목이나 태그에 검색어가 포함된 게시글이 먼저 조회된다.
+ */
+@Component
+public class BoardSearchIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int TITLE_WEIGHT = 3;
+    private static final int TAG_WEIGHT = 2;
+    private static final int CONTENT_WEIGHT = 1;
+
+    // 점수가 높은 순, 점수가 같다면 최신 게시글(큰 id) 순
+    private static final Comparator<Map.Entry<Long, Double>> RANKING =
+            Map.Entry.<Long, Double>comparingByValue()
+                    .thenComparing(Map.Entry.comparingByKey())
+                    .reversed();
+
+    private final Logger logger = LoggerFactory.getLogger(BoardSearchIndex.class);
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    private final Map<Long, IndexedBoard> boards = new HashMap<>();
+    private long totalLength;
+
+    private final BoardQueryRepository boardQueryRepository;
+    private final int rebuildChunkSize;
+
+    public BoardSearchIndex(final BoardQueryRepository boardQueryRepository,
+                            @Value("${board.search.rebuild-chunk-size:1000}") final int rebuildChunkSize) {
+        this.boardQueryRepository = boardQueryRepository;
+        this.rebuildChunkSize = Math.max(1, rebuildChunkSize);
+    }
+
+    /**
+     * 게시글을 id 순으로 chunk 단위로 읽어 색인한다. <br/>
+     * 색인하는 동안 작성된 게시글도 바로 색인되며, 같은 게시글을 다시 색인하면 이전 색인을 대체한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+
+        long lastId = 0L;
+        List<BoardSearchDocument> chunk;
+        do {
+            chunk = boardQueryRepository.searchDocuments(lastId, rebuildChunkSize);
+            if (chunk.isEmpty()) {
+                break;
+            }
+
+            chunk.forEach(this::index);
+            lastId = chunk.get(chunk.size() - 1).id();
+        } while (chunk.size() == rebuildChunkSize);
+
+        logger.info("[Result] 게시글 검색 색인 생성 - 게시글 {}개, 토큰 {}개", size(), terms());
+    }
+
+    /**
+     * 트랜잭션 안에서 호출되면, 커밋된 게시글만 검색되도록 커밋된 뒤에 게시글을 읽어 색인한다.
+     */
+    public void indexAfterCommit(final Long boardId) {
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            boardQueryRepository.searchDocument(boardId).ifPresent(this::index);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                boardQueryRepository.searchDocument(boardId).ifPresent(BoardSearchIndex.this::index);
+            }
+        });
+    }
+
+    public void index(final BoardSearchDocument document) {
+
+        final Map<String, Integer> frequencies = new HashMap<>();
+        addTokens(frequencies, document.title(), TITLE_WEIGHT);
+        document.tags().forEach(tag -> addTokens(frequencies, tag, TAG_WEIGHT));
+        addTokens(frequencies, document.content(), CONTENT_WEIGHT);
+
+        final int length = frequencies.values().stream().mapToInt(Integer::intValue).sum();
+        final IndexedBoard indexed =
+                new IndexedBoard(document.title(), document.writer(), document.createdAt(), frequencies, length);
+
+        lock.writeLock().lock();
+        try {
+            remove(document.id());
+            boards.put(document.id(), indexed);
+            totalLength += length;
+            frequencies.forEach((term, frequency) ->
+                    postings.computeIfAbsent(term, key -> new HashMap<>()).put(document.id(), frequency));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void addTokens(final Map<String, Integer> frequencies, final String text, final int weight) {
+        BoardTokenizer.tokenize(text).forEach(token -> frequencies.merge(token, weight, Integer::sum));
+    }
+
+    // write lock 을 잡은 상태에서 호출한다.
+    private void remove(final Long boardId) {
+
+        final IndexedBoard previous = boards.remove(boardId);
+        if (previous == null) {
+            return;
+        }
+
+        totalLength -= previous.length();
+        previous.frequencies().keySet().forEach(term -> {
+            final Map<Long, Integer> posting = postings.get(term);
+            posting.remove(boardId);
+            if (posting.isEmpty()) {
+                postings.remove(term);
+            }
+        });
+    }
+
+    public Slice<SearchBoardResponse> search(final String keyword, final Pageable pageable) {
+
+        final List<String> terms = BoardTokenizer.tokenize(keyword).stream()
+                .distinct()
+                .toList();
+        if (terms.isEmpty()) {
+            return new SliceImpl<>(List.of(), pageable, false);
+        }
+
+        lock.readLock().lock();
+        try {
+            final List<Map.Entry<Long, Double>> ranked = topRanked(score(terms), pageable);
+
+            final List<SearchBoardResponse> content = new ArrayList<>();
+            for (int i = (int) pageable.getOffset(); i < Math.min(ranked.size(), pageable.getOffset() + pageable.getPageSize()); i++) {
+                final Map.Entry<Long, Double> entry = ranked.get(i);
+                final IndexedBoard board = boards.get(entry.getKey());
+                content.add(new SearchBoardResponse(entry.getKey(), board.title(), board.writer(), board.createdAt(), entry.getValue()));
+            }
+
+            return new SliceImpl<>(content, pageable, ranked.size() > pageable.getOffset() + pageable.getPageSize());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Map<Long, Double> score(final List<String> terms) {
+
+        final int documentCount = boards.size();
+        final double averageLength = documentCount == 0 ? 1 : (double) totalLength / documentCount;
+
+        final Map<Long, Double> scores = new HashMap<>();
+        for (final String term : terms) {
+            final Map<Long, Integer> posting = postings.get(term);
+            if (posting == null) {
+                continue;
+            }
+
+            final double idf = Math.log(1 + (documentCount - posting.size() + 0.5) / (posting.size() + 0.5));
+            posting.forEach((boardId, frequency) -> {
+                final double lengthRatio = boards.get(boardId).length() / averageLength;
+                final double score = idf * frequency * (K1 + 1) / (frequency + K1 * (1 - B + B * lengthRatio));
+                scores.merge(boardId, score, Double::sum);
+            });
+        }
+
+        return scores;
+    }
+
+    /**
+     * 요청한 페이지와 다음 페이지 존재 여부를 판단하는 데 필요한 만큼만 상위 결과를 정렬한다.
+     */
+    private List<Map.Entry<Long, Double>> topRanked(final Map<Long, Double> scores, final Pageable pageable) {
+
+        final long limit = pageable.getOffset() + pageable.getPageSize() + 1;
+        if (pageable.getOffset() >= scores.size()) {
+            return List.of();
+        }
+
+        final PriorityQueue<Map.Entry<Long, Double>> top = new PriorityQueue<>(RANKING.reversed());
+        for (final Map.Entry<Long, Double> entry : scores.entrySet()) {
+            top.offer(entry);
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+
+        final List<Map.Entry<Long, Double>> ranked = new ArrayList<>(top);
+        ranked.sort(RANKING);
+        return ranked;
+    }
+
+    public int size() {
+
+        lock.readLock().lock();
+        try {
+            return boards.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int terms() {
+
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private record IndexedBoard(
+            String title,
+            String writer,
+            LocalDateTime createdAt,
+            Map<String, Integer> frequencies,
+            int length
+    ) {
+    }
+}
@@ -7,8 +7,11 @@ import io.wisoft.wasabi.domain.board.web.dto.*;
 import io.wisoft.wasabi.domain.member.persistence.Member;
 import io.wisoft.wasabi.domain.member.application.MemberRepository;
 import io.wisoft.wasabi.domain.member.exception.MemberExceptionExecutor;
+import io.wisoft.wasabi.domain.tag.application.TagDictionary;
+import io.wisoft.wasabi.domain.tag.application.TagPopularityCounter;
 import io.wisoft.wasabi.domain.tag.persistence.Tag;
-import io.wisoft.wasabi.domain.tag.application.TagRepository;
+import io.wisoft.wasabi.domain.tag.persistence.TagEntry;
+import io.wisoft.wasabi.global.config.common.Const;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Pageable;
@@ -18,80 +21,163 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 @Service
 @Transactional(readOnly = true)
 public class BoardServiceImpl implements BoardService {
 
+    private static final List<BoardImageStatus> ATTACHABLE_IMAGE_STATUSES =
+            List.of(BoardImageStatus.READY, BoardImageStatus.PENDING);
+
     private final Logger logger = LoggerFactory.getLogger(BoardServiceImpl.class);
     private final BoardRepository boardRepository;
     private final BoardImageRepository boardImageRepository;
     private final MemberRepository memberRepository;
-    private final TagRepository tagRepository;
+    private final TagDictionary tagDictionary;
     private final BoardQueryRepository boardQueryRepository;
-
+    private final BoardViewCounter boardViewCounter;
+    private final BoardDetailCache boardDetailCache;
+    private final BoardSearchIndex boardSearchIndex;
+    private final BoardTagRepository boardTagRepository;
+    private final BoardTagIndex boardTagIndex;
+    private final TagPopularityCounter tagPopularityCounter;
 
     public BoardServiceImpl(final BoardRepository boardRepository,
                             final BoardImageRepository boardImageRepository,
                             final MemberRepository memberRepository,
-                            final TagRepository tagRepository,
-                            final BoardQueryRepository boardQueryRepository) {
+                            final TagDictionary tagDictionary,
+                            final BoardQueryRepository boardQueryRepository,
+                            final BoardViewCounter boardViewCounter,
+                            final BoardDetailCache boardDetailCache,
+                            final BoardSearchIndex boardSearchIndex,
+                            final BoardTagRepository boardTagRepository,
+                            final BoardTagIndex boardTagIndex,
+                            final TagPopularityCounter tagPopularityCounter) {
         this.boardRepository = boardRepository;
         this.boardImageRepository = boardImageRepository;
         this.memberRepository = memberRepository;
-        this.tagRepository = tagRepository;
+        this.tagDictionary = tagDictionary;
         this.boardQueryRepository = boardQueryRepository;
+        this.boardViewCounter = boardViewCounter;
+        this.boardDetailCache = boardDetailCache;
+        this.boardSearchIndex = boardSearchIndex;
+        this.boardTagRepository = boardTagRepository;
+        this.boardTagIndex = boardTagIndex;
+        this.tagPopularityCounter = tagPopularityCounter;
     }
 
     @Override
     @Transactional
     public WriteBoardResponse writeBoard(final WriteBoardRequest request, final Long memberId) {
 
-        final Member member = memberRepository.findById(memberId)
-                .orElseThrow(MemberExceptionExecutor::MemberNotFound);
+        if (!memberRepository.existsById(memberId)) {
+            throw MemberExceptionExecutor.MemberNotFound();
+        }
 
+        final Member member = memberRepository.getReferenceById(memberId);
         final Board board = BoardMapper.writeBoardRequestToEntity(request, member);
 
-        saveTag(board, request.tag());
+        final Map<TagEntry, Tag> tags = resolveTags(resolveTagNames(request));
+        if (!tags.isEmpty()) {
+            board.setTag(tags.values().iterator().next());
+        }
         boardRepository.save(board);
 
+        saveBoardTags(board, tags);
         mappingBoardAndImage(request, board);
+        boardSearchIndex.indexAfterCommit(board.getId());
 
         logger.info("[Result] {}번 회원의 {}번 게시글 작성", memberId, board.getId());
 
         return BoardMapper.entityToWriteBoardResponse(board);
     }
 
-    private void saveTag(final Board board,
-                         final String tagName) {
+    // 대표 태그(tag)와 추가 태그(tags)의 이름을 순서대로, 중복 없이 모은다. 첫 번째 태그가 대표 태그가 된다.
+    private List<String> resolveTagNames(final WriteBoardRequest request) {
 
-        if (StringUtils.hasText(tagName)) {
-            final Tag tag = tagRepository.findByName(tagName)
-                    .orElseGet(() -> tagRepository.save(new Tag(tagName)));
-            board.setTag(tag);
+        final Stream<String> additional = request.tags() == null ? Stream.empty() : request.tags().stream();
+        return Stream.concat(Stream.ofNullable(request.tag()), additional)
+                .filter(StringUtils::hasText)
+                .distinct()
+                .toList();
+    }
+
+    /**
+     * 이름마다 태그 사전에서 태그를 찾고, 요청한 순서대로 태그의 id 로 중복을 제거한다. <br/>
+     * 대소문자를 구분하지 않는 collation 에서는 이름이 다른 태그(Java, java)가 같은 태그이므로, 이름만으로는 중복을 제거할 수 없다.
+     * 태그 집계에는 요청한 이름 대신 사전이 반환한 DB 의 태그 이름을 넘긴다.
+     */
+    private Map<TagEntry, Tag> resolveTags(final List<String> tagNames) {
+
+        final Set<Long> tagIds = new HashSet<>();
+        final Map<TagEntry, Tag> tags = new LinkedHashMap<>();
+        for (final String name : tagNames) {
+            final TagEntry entry = tagDictionary.getOrCreateEntry(name);
+            if (tagIds.add(entry.id())) {
+                tags.put(entry, tagDictionary.getReference(entry));
+            }
         }
+        return tags;
     }
 
+    // 태그는 초기화되지 않은 참조이므로, 태그 집계에는 사전의 id 와 이름을 넘겨 태그를 조회하지 않는다.
+    private void saveBoardTags(final Board board, final Map<TagEntry, Tag> tags) {
+
+        if (tags.isEmpty()) {
+            return;
+        }
+
+        final List<TagEntry> entries = List.copyOf(tags.keySet());
+        boardTagRepository.saveAll(tags.values().stream()
+                .map(tag -> new BoardTag(board, tag))
+                .toList());
+        boardTagIndex.addAfterCommit(board.getId(), entries.stream().map(TagEntry::id).toList());
+        tagPopularityCounter.increaseAfterCommit(entries);
+    }
+
+    /**
+     * 이미지를 하나씩 조회해 연관관계를 설정하지 않고, 한 번의 UPDATE 로 게시글과 연결한다. <br/>
+     * 다른 게시글에 이미 포함되었거나 업로드가 끝나지 않은 이미지가 섞여 있다면 게시글 작성을 취소한다.
+     */
     private void mappingBoardAndImage(final WriteBoardRequest request, final Board board) {
 
-        final List<BoardImage> images = boardImageRepository.findAllBoardImagesById(request.imageIds());
-        images.forEach(image -> image.setBoard(board));
+        if (request.imageIds() == null || request.imageIds().isEmpty()) {
+            return;
+        }
+
+        final List<Long> imageIds = request.imageIds().stream()
+                .distinct()
+                .toList();
+        final int attached = boardImageRepository.attachToBoard(board, imageIds, ATTACHABLE_IMAGE_STATUSES);
+        if (attached != imageIds.size()) {
+            throw BoardExceptionExecutor.BoardImageNotAttachable();
+        }
 
-        logger.info("[Result] {}번 게시글과 {}번 이미지 연관관계 매핑", board.getId(), request.imageIds());
+        logger.info("[Result] {}번 게시글과 {}번 이미지 연관관계 매핑", board.getId(), imageIds);
     }
 
     @Override
-    @Transactional
     public ReadBoardResponse readBoard(final Long boardId, final Long accessId, final boolean isAuthenticated) {
 
-        final Board board = boardRepository.findById(boardId)
+        final BoardStatus status = boardQueryRepository.readBoardStatus(boardId, accessId, isAuthenticated)
+                .orElseThrow(BoardExceptionExecutor::BoardNotFound);
+
+        final BoardDetail detail = boardDetailCache.get(boardId)
                 .orElseThrow(BoardExceptionExecutor::BoardNotFound);
 
-        board.increaseView();
+        boardViewCounter.increase(boardId);
 
         logger.info("[Result] {}번 회원의 {}번 게시글 조회", accessId, boardId);
-        return boardQueryRepository.readBoard(boardId, accessId, isAuthenticated);
+        return BoardMapper.detailToReadBoardResponse(detail, status)
+                .addViews(boardViewCounter.getPendingViews(boardId));
     }
 
     @Override
@@ -106,6 +192,63 @@ public class BoardServiceImpl implements BoardService {
         return this.boardQueryRepository.boardList(pageable, sortType, keyword);
     }
 
+    /**
+     * 여러 태그로 게시글 목록을 조회한다. DB 대신 태그별 posting list 로 게시글 id 를 구한 뒤, 한 페이지의 게시글만 조회한다.
+     */
+    @Override
+    public Slice<SortBoardResponse> getBoardList(final String sortBy,
+                                                 final Pageable pageable,
+                                                 final List<String> tags,
+                                                 final TagMatchType matchType) {
+
+        final BoardSortType sortType = validateSortType(sortBy.toUpperCase());
+
+        final List<String> tagNames = tags.stream()
+                .filter(StringUtils::hasText)
+                .distinct()
+                .toList();
+        final List<Long> tagIds = tagNames.stream()
+                .map(tagDictionary::findId)
+                .flatMap(Optional::stream)
+                .toList();
+
+        // 존재하지 않는 태그가 있다면 모든 태그를 가진 게시글은 없다.
+        final long[] boardIds = matchType == TagMatchType.ALL
+                ? (tagIds.size() == tagNames.size() ? boardTagIndex.all(tagIds) : new long[0])
+                : boardTagIndex.any(tagIds);
+
+        logger.info("[Result] {} 태그({})로 {}를 기준으로 정렬한 게시글 목록 조회", tagNames, matchType, sortBy);
+
+        return boardQueryRepository.boardListByIds(boardIds, sortType, pageable);
+    }
+
+    @Override
+    public CursorSliceResponse<SortBoardResponse> getBoardList(final String sortBy,
+                                                               final String cursor,
+                                                               final int size,
+                                                               final String keyword) {
+
+        final BoardSortType sortType = validateSortType(sortBy.toUpperCase());
+        final BoardCursor boardCursor = StringUtils.hasText(cursor) ? BoardCursor.decode(cursor, sortType) : null;
+
+        final Slice<SortBoardResponse> boards =
+                boardQueryRepository.boardListByCursor(boardCursor, clampPageSize(size), sortType, keyword);
+
+        logger.info("[Result] {}를 기준으로 정렬한 게시글 목록 커서 조회", sortBy);
+
+        return new CursorSliceResponse<>(boards, nextCursor(boards, board -> BoardCursor.of(sortType, board)));
+    }
+
+    @Override
+    public Slice<SearchBoardResponse> searchBoards(final String keyword, final Pageable pageable) {
+
+        final Slice<SearchBoardResponse> boards = boardSearchIndex.search(keyword, pageable);
+
+        logger.info("[Result] {} 검색어로 게시글 {}개 검색", keyword, boards.getNumberOfElements());
+
+        return boards;
+    }
+
     private BoardSortType validateSortType(final String sortBy) {
         return Arrays.stream(BoardSortType.values())
                 .filter(boardSortType -> boardSortType.getSortType().equalsIgnoreCase(sortBy.toUpperCase()))
@@ -114,22 +257,53 @@ public class BoardServiceImpl implements BoardService {
     }
 
     @Override
-    public Slice<MyBoardsResponse> getMyBoards(final Long memberId, final Pageable pageable) {
+    public CursorSliceResponse<MyBoardsResponse> getMyBoards(final Long memberId,
+                                                             final String cursor,
+                                                             final int size) {
 
-        final Slice<Board> myBoards = boardRepository.findAllMyBoards(memberId, pageable);
+        final Slice<MyBoardsResponse> myBoards =
+                boardQueryRepository.myBoards(memberId, decodeLatestCursor(cursor), clampPageSize(size));
 
         logger.info("[Result] {}번 회원의 자신이 작성한 게시글 목록 조회", memberId);
 
-        return BoardMapper.entityToMyBoardsResponse(myBoards);
+        return new CursorSliceResponse<>(
+                myBoards,
+                nextCursor(myBoards, board -> BoardCursor.ofLatest(board.createdAt(), board.id()))
+        );
     }
 
     @Override
-    public Slice<MyLikeBoardsResponse> getMyLikeBoards(final Long memberId, final Pageable pageable) {
+    public CursorSliceResponse<MyLikeBoardsResponse> getMyLikeBoards(final Long memberId,
+                                                                     final String cursor,
+                                                                     final int size) {
 
-        final Slice<Board> myLikeBoards = boardRepository.findAllMyLikeBoards(memberId, pageable);
+        final Slice<MyLikeBoardsResponse> myLikeBoards =
+                boardQueryRepository.myLikeBoards(memberId, decodeLatestCursor(cursor), clampPageSize(size));
 
         logger.info("[Result] {}번 회원의 자신이 좋아요 한 게시글 목록 조회", memberId);
 
-        return BoardMapper.entityToMyLikeBoardsResponse(myLikeBoards);
+        return new CursorSliceResponse<>(
+                myLikeBoards,
+                nextCursor(myLikeBoards, board -> BoardCursor.ofLatest(board.createdAt(), board.id()))
+        );
+    }
+
+    private BoardCursor decodeLatestCursor(final String cursor) {
+        return StringUtils.hasText(cursor) ? BoardCursor.decode(cursor, BoardSortType.LATEST) : null;
+    }
+
+    private int clampPageSize(final int size) {
+        return Math.clamp(size, 1, Const.MAX_CURSOR_PAGE_SIZE);
+    }
+
+    // 다음 페이지가 있다면 현재 페이지의 마지막 게시글을 커서로 사용한다.
+    private <T> String nextCursor(final Slice<T> slice, final Function<T, BoardCursor> toCursor) {
+
+        if (!slice.hasNext()) {
+            return null;
+        }
+
+        final T last = slice.getContent().get(slice.getNumberOfElements() - 1);
+        return toCursor.apply(last).encode();
     }
 }
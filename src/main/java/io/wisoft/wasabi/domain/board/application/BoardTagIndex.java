@@ -0,0 +1,252 @@
+package io.wisoft.wasabi.domain.board.application;
+
+import io.wisoft.wasabi.domain.board.persistence.BoardTagEntry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongFunction;
+
+/**
+ * 태그마다 게시글 id 를 오름차순으로 정렬한 long 배열(posting list)로 보관한다. <br/>
+ * 여러 태그로 게시글을 조회할 때 DB 대신 posting list 의 교집합(ALL)이나 합집합(ANY)으로 게시글 id 를 구하므로,
+ * 조회 비용은 게시글 전체 수가 아닌 태그가 달린 게시글 수에 비례한다. <br/>
+ * 애플리케이션이 시작되면 DB 의 게시글과 태그의 연결로 만들고, 이후에는 게시글이 작성될 때마다 추가한다.
+ */
+@Component
+public class BoardTagIndex {
+
+    private static final long[] EMPTY = new long[0];
+
+    private final Logger logger = LoggerFactory.getLogger(BoardTagIndex.class);
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, PostingList> postings = new HashMap<>();
+    private final BoardTagRepository boardTagRepository;
+    private final int loadChunkSize;
+
+    public BoardTagIndex(final BoardTagRepository boardTagRepository,
+                         @Value("${board.tag-index.load-chunk-size:1000}") final int loadChunkSize) {
+        this.boardTagRepository = boardTagRepository;
+        this.loadChunkSize = Math.max(1, loadChunkSize);
+    }
+
+    /**
+     * 게시글과 태그의 연결과, 여러 태그를 지원하기 이전에 작성된 게시글의 대표 태그를 chunk 단위로 읽어 추가한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+
+        final long loaded = loadChunks(lastId -> boardTagRepository.findEntries(lastId, PageRequest.ofSize(loadChunkSize)))
+                + loadChunks(lastId -> boardTagRepository.findRepresentativeEntries(lastId, PageRequest.ofSize(loadChunkSize)));
+
+        logger.info("[Result] 태그별 게시글 목록 생성 - 태그 {}개, 연결 {}개", tags(), loaded);
+    }
+
+    private long loadChunks(final LongFunction<List<BoardTagEntry>> findChunk) {
+
+        long lastId = 0L;
+        long loaded = 0L;
+        List<BoardTagEntry> chunk;
+        do {
+            chunk = findChunk.apply(lastId);
+            if (chunk.isEmpty()) {
+                break;
+            }
+
+            lock.writeLock().lock();
+            try {
+                chunk.forEach(entry -> add(entry.tagId(), entry.boardId()));
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            lastId = chunk.get(chunk.size() - 1).id();
+            loaded += chunk.size();
+        } while (chunk.size() == loadChunkSize);
+
+        return loaded;
+    }
+
+    /**
+     * 트랜잭션 안에서 호출되면, 커밋된 게시글만 조회되도록 커밋된 뒤에 추가한다.
+     */
+    public void addAfterCommit(final Long boardId, final Collection<Long> tagIds) {
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            add(boardId, tagIds);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                add(boardId, tagIds);
+            }
+        });
+    }
+
+    public void add(final Long boardId, final Collection<Long> tagIds) {
+
+        lock.writeLock().lock();
+        try {
+            tagIds.forEach(tagId -> add(tagId, boardId));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // write lock 을 잡은 상태에서 호출한다.
+    private void add(final Long tagId, final long boardId) {
+        postings.computeIfAbsent(tagId, id -> new PostingList()).add(boardId);
+    }
+
+    /**
+     * 모든 태그를 가진 게시글 id 를 오름차순으로 반환한다. <br/>
+     * 가장 짧은 posting list 부터 교집합을 구하고, 남은 후보마다 다음 posting list 에서 이진 탐색하므로
+     * 비용은 가장 짧은 posting list 의 길이에 비례한다.
+     */
+    public long[] all(final Collection<Long> tagIds) {
+
+        if (tagIds.isEmpty()) {
+            return EMPTY;
+        }
+
+        lock.readLock().lock();
+        try {
+            final List<PostingList> lists = tagIds.stream()
+                    .distinct()
+                    .map(tagId -> postings.getOrDefault(tagId, PostingList.EMPTY))
+                    .sorted(Comparator.comparingInt(PostingList::size))
+                    .toList();
+
+            long[] result = lists.get(0).toArray();
+            for (int i = 1; i < lists.size() && result.length > 0; i++) {
+                result = lists.get(i).retainAll(result);
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 하나 이상의 태그를 가진 게시글 id 를 중복 없이 오름차순으로 반환한다.
+     */
+    public long[] any(final Collection<Long> tagIds) {
+
+        lock.readLock().lock();
+        try {
+            final long[] merged = tagIds.stream()
+                    .distinct()
+                    .map(tagId -> postings.getOrDefault(tagId, PostingList.EMPTY))
+                    .flatMapToLong(list -> Arrays.stream(list.ids, 0, list.size))
+                    .sorted()
+                    .distinct()
+                    .toArray();
+            return merged.length == 0 ? EMPTY : merged;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 태그가 달린 게시글 수
+     */
+    public int count(final Long tagId) {
+
+        lock.readLock().lock();
+        try {
+            return postings.getOrDefault(tagId, PostingList.EMPTY).size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int tags() {
+
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 게시글 id 는 대부분 증가하는 순서로 추가되므로 배열 끝에 덧붙이고, 그렇지 않을 때만 정렬된 위치에 끼워 넣는다.
+     */
+    private static final class PostingList {
+
+        private static final PostingList EMPTY = new PostingList();
+
+        private long[] ids = new long[4];
+        private int size;
+
+        private void add(final long boardId) {
+
+            if (size > 0 && ids[size - 1] >= boardId) {
+                final int index = Arrays.binarySearch(ids, 0, size, boardId);
+                if (index >= 0) {
+                    return;
+                }
+                insert(-index - 1, boardId);
+                return;
+            }
+
+            insert(size, boardId);
+        }
+
+        private void insert(final int index, final long boardId) {
+
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            System.arraycopy(ids, index, ids, index + 1, size - index);
+            ids[index] = boardId;
+            size++;
+        }
+
+        // candidates 중 이 posting list 에도 있는 id 만 남긴다. 탐색 시작 위치를 앞으로만 옮기며 이진 탐색한다.
+        private long[] retainAll(final long[] candidates) {
+
+            final long[] retained = new long[candidates.length];
+            int count = 0;
+            int from = 0;
+            for (final long candidate : candidates) {
+                final int index = Arrays.binarySearch(ids, from, size, candidate);
+                if (index >= 0) {
+                    retained[count++] = candidate;
+                    from = index + 1;
+                } else {
+                    from = -index - 1;
+                }
+                if (from >= size) {
+                    break;
+                }
+            }
+            return Arrays.copyOf(retained, count);
+        }
+
+        private long[] toArray() {
+            return Arrays.copyOf(ids, size);
+        }
+
+        private int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package io.wisoft.wasabi.domain.board.application;
+
+import io.wisoft.wasabi.domain.board.persistence.BoardTag;
+import io.wisoft.wasabi.domain.board.persistence.BoardTagEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface BoardTagRepository extends JpaRepository<BoardTag, Long> {
+
+    @Query("SELECT new io.wisoft.wasabi.domain.board.persistence.BoardTagEntry(boardTag.id, boardTag.board.id, boardTag.tag.id)" +
+            " FROM BoardTag boardTag" +
+            " WHERE boardTag.id > :lastId" +
+            " ORDER BY boardTag.id")
+    List<BoardTagEntry> findEntries(@Param("lastId") final Long lastId, final Pageable pageable);
+
+    /**
+     * 여러 태그를 지원하기 이전에 작성된 게시글의 태그(Board 의 tag)를 게시글 id 순으로 조회한다.
+     */
+    @Query("SELECT new io.wisoft.wasabi.domain.board.persistence.BoardTagEntry(board.id, board.id, board.tag.id)" +
+            " FROM Board board" +
+            " WHERE board.tag IS NOT NULL" +
+            " AND board.id > :lastId" +
+            " ORDER BY board.id")
+    List<BoardTagEntry> findRepresentativeEntries(@Param("lastId") final Long lastId, final Pageable pageable);
+}
@@ -0,0 +1,82 @@
+package io.wisoft.wasabi.domain.board.application;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 게시글 검색에 사용하는 토크나이저 <br/>
+ * 글자나 숫자가 아닌 문자로 나눈 뒤, 같은 문자 체계가 이어지는 구간마다 토큰을 만든다.
+ * 한글(과 한자, 가나)은 형태소 분석 없이 조사가 붙은 단어도 찾을 수 있도록 두 글자씩 겹쳐 자르고(bigram),
+ * 그 외의 문자는 소문자로 바꾼 단어 하나를 토큰으로 사용한다.
+ */
+final class BoardTokenizer {
+
+    private BoardTokenizer() {
+    }
+
+    static List<String> tokenize(final String text) {
+
+        final List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+
+        final StringBuilder run = new StringBuilder();
+        boolean bigramRun = false;
+        for (int i = 0; i < text.length(); ) {
+            final int codePoint = text.codePointAt(i);
+            i += Character.charCount(codePoint);
+
+            if (!Character.isLetterOrDigit(codePoint)) {
+                flush(run, bigramRun, tokens);
+                continue;
+            }
+
+            final boolean bigram = isBigramScript(codePoint);
+            if (!run.isEmpty() && bigram != bigramRun) {
+                flush(run, bigramRun, tokens);
+            }
+            bigramRun = bigram;
+            run.appendCodePoint(codePoint);
+        }
+        flush(run, bigramRun, tokens);
+
+        return tokens;
+    }
+
+    private static void flush(final StringBuilder run, final boolean bigram, final List<String> tokens) {
+
+        if (run.isEmpty()) {
+            return;
+        }
+
+        final String word = run.toString().toLowerCase(Locale.ROOT);
+        run.setLength(0);
+
+        if (!bigram) {
+            tokens.add(word);
+            return;
+        }
+
+        final int length = word.codePointCount(0, word.length());
+        if (length == 1) {
+            tokens.add(word);
+            return;
+        }
+        for (int i = 0; i < length - 1; i++) {
+            final int start = word.offsetByCodePoints(0, i);
+            final int end = word.offsetByCodePoints(start, 2);
+            tokens.add(word.substring(start, end));
+        }
+    }
+
+    private static boolean isBigramScript(final int codePoint) {
+
+        final Character.UnicodeScript script = Character.UnicodeScript.of(codePoint);
+        return script == Character.UnicodeScript.HANGUL
+                || script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA;
+    }
+}
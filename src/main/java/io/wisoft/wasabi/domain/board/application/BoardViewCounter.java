@@ -0,0 +1,83 @@
+package io.wisoft.wasabi.domain.board.application;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글 조회수를 메모리에 누적한 뒤 주기적으로 DB 에 반영한다. <br/>
+ * 조회할 때마다 게시글 행을 갱신하지 않으므로, 게시글 조회는 쓰기 트랜잭션 없이 수행된다.
+ */
+@Component
+public class BoardViewCounter {
+
+    private static final String INCREASE_VIEWS_SQL = "UPDATE board SET views = views + ? WHERE id = ?";
+
+    private final Logger logger = LoggerFactory.getLogger(BoardViewCounter.class);
+    private final Map<Long, LongAdder> pendingViews = new ConcurrentHashMap<>();
+    private final JdbcTemplate jdbcTemplate;
+
+    public BoardViewCounter(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void increase(final Long boardId) {
+        pendingViews.computeIfAbsent(boardId, id -> new LongAdder()).increment();
+    }
+
+    /**
+     * 아직 DB 에 반영되지 않은 조회수
+     */
+    public long getPendingViews(final Long boardId) {
+
+        final LongAdder views = pendingViews.get(boardId);
+        return views == null ? 0 : views.sum();
+    }
+
+    @Scheduled(fixedDelayString = "${board.view-count.flush-interval:1000}")
+    public void flush() {
+
+        final List<Object[]> increments = new ArrayList<>();
+        pendingViews.forEach((boardId, views) -> {
+            long count = views.sumThenReset();
+
+            // 지난 반영 이후 조회되지 않은 게시글은 제거하고, 제거하는 사이에 누적된 조회수는 함께 반영한다.
+            if (count == 0 && pendingViews.remove(boardId, views)) {
+                count = views.sumThenReset();
+            }
+
+            if (count > 0) {
+                increments.add(new Object[]{count, boardId});
+            }
+        });
+
+        if (increments.isEmpty()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(INCREASE_VIEWS_SQL, increments);
+            logger.info("[Result] {}개 게시글의 조회수 반영", increments.size());
+        } catch (final RuntimeException e) {
+            // 반영하지 못한 조회수는 다음 주기에 다시 반영할 수 있도록 되돌린다.
+            increments.forEach(increment -> pendingViews
+                    .computeIfAbsent((Long) increment[1], id -> new LongAdder())
+                    .add((Long) increment[0]));
+            logger.warn("[Result] 게시글 조회수 반영 실패 - {}개 게시글", increments.size(), e);
+        }
+    }
+
+    @PreDestroy
+    public void drain() {
+        flush();
+    }
+}
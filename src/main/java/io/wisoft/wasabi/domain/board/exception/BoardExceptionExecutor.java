@@ -13,4 +13,40 @@ public class BoardExceptionExecutor {
     public static BoardImageUploadFailException BoardImageUploadFail() {
         return new BoardImageUploadFailException();
     }
+
+    public static BoardCursorInvalidException BoardCursorInvalid() {
+        return new BoardCursorInvalidException();
+    }
+
+    public static BoardImageNotFoundException BoardImageNotFound() {
+        return new BoardImageNotFoundException();
+    }
+
+    public static BoardImageTooLargeException BoardImageTooLarge() {
+        return new BoardImageTooLargeException();
+    }
+
+    public static BoardImageTypeInvalidException BoardImageTypeInvalid() {
+        return new BoardImageTypeInvalidException();
+    }
+
+    public static BoardImageLengthRequiredException BoardImageLengthRequired() {
+        return new BoardImageLengthRequiredException();
+    }
+
+    public static BoardImageNotUploadedException BoardImageNotUploaded() {
+        return new BoardImageNotUploadedException();
+    }
+
+    public static BoardImageDirectUploadUnsupportedException BoardImageDirectUploadUnsupported() {
+        return new BoardImageDirectUploadUnsupportedException();
+    }
+
+    public static BoardImageNotAttachableException BoardImageNotAttachable() {
+        return new BoardImageNotAttachableException();
+    }
+
+    public static BoardImageAttachedException BoardImageAttached() {
+        return new BoardImageAttachedException();
+    }
 }
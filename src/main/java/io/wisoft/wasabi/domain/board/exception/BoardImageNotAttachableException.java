@@ -0,0 +1,11 @@
+package io.wisoft.wasabi.domain.board.exception;
+
+import io.wisoft.wasabi.global.config.web.response.ResponseType;
+import io.wisoft.wasabi.global.exception.BusinessException;
+
+public class BoardImageNotAttachableException extends BusinessException {
+
+    public BoardImageNotAttachableException() {
+        super(ResponseType.BOARD_IMAGE_NOT_ATTACHABLE);
+    }
+}
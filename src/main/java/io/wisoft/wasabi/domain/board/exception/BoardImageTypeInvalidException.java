@@ -0,0 +1,11 @@
+package io.wisoft.wasabi.domain.board.exception;
+
+import io.wisoft.wasabi.global.config.web.response.ResponseType;
+import io.wisoft.wasabi.global.exception.BusinessException;
+
+public class BoardImageTypeInvalidException extends BusinessException {
+
+    public BoardImageTypeInvalidException() {
+        super(ResponseType.BOARD_IMAGE_TYPE_INVALID);
+    }
+}
@@ -7,7 +7,9 @@ import io.wisoft.wasabi.domain.like.persistence.AnonymousLike;
 import io.wisoft.wasabi.domain.member.persistence.Member;
 import io.wisoft.wasabi.domain.tag.persistence.Tag;
 import jakarta.persistence.*;
+import org.hibernate.Hibernate;
 import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.HashSet;
 import java.util.Set;
@@ -31,6 +33,15 @@ public class Board extends BaseTimeEntity {
     @Column
     private int views;
 
+    // 좋아요 수는 목록/상세 조회마다 집계하지 않도록 비정규화하여 관리하며, BoardRepository 의 벌크 연산으로만 갱신한다.
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long likeCount;
+
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long anonymousLikeCount;
+
     @JoinColumn(name = "member_id")
     @ManyToOne(fetch = LAZY)
     private Member member;
@@ -52,9 +63,12 @@ public class Board extends BaseTimeEntity {
     @OneToMany(mappedBy = "board")
     private Set<Comment> comments = new HashSet<>();
 
+    // 작성자의 게시글 목록은 이미 로딩된 경우에만 함께 갱신한다.
     private void setMember(final Member member) {
         this.member = member;
-        member.getBoards().add(this);
+        if (Hibernate.isInitialized(member) && Hibernate.isInitialized(member.getBoards())) {
+            member.getBoards().add(this);
+        }
     }
 
     public void addComment(final Comment comment) {
@@ -111,13 +125,28 @@ public class Board extends BaseTimeEntity {
         return anonymousLikes;
     }
 
+    public Set<Comment> getComments() {
+        return comments;
+    }
+
     public int getViews() {
         return views;
     }
 
+    public long getLikeCount() {
+        return likeCount;
+    }
+
+    public long getAnonymousLikeCount() {
+        return anonymousLikeCount;
+    }
+
+    // 태그의 게시글 목록은 이미 로딩된 경우에만 함께 갱신한다.
     public void setTag(final Tag tag) {
         this.tag = tag;
-        tag.addBoard(this);
+        if (Hibernate.isInitialized(tag) && Hibernate.isInitialized(tag.getBoards())) {
+            tag.addBoard(this);
+        }
     }
 
     public void addAnonymousLike(final AnonymousLike anonymousLike) {
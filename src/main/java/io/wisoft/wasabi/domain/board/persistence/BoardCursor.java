@@ -0,0 +1,83 @@
+package io.wisoft.wasabi.domain.board.persistence;
+
+import io.wisoft.wasabi.domain.board.exception.BoardExceptionExecutor;
+import io.wisoft.wasabi.domain.board.web.dto.SortBoardResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 게시글 목록 커서 페이징의 기준점 <br/>
+ * 정렬 기준 값과 게시글 id 를 함께 담아, 마지막으로 조회한 게시글 다음부터 조회할 수 있도록 한다.
+ */
+public record BoardCursor(
+        BoardSortType sortType,
+        String sortKey,
+        Long id
+) {
+
+    private static final String DELIMITER = "|";
+    private static final String DELIMITER_REGEX = "\\|";
+
+    public static BoardCursor of(final BoardSortType sortType, final SortBoardResponse board) {
+
+        final String sortKey = switch (sortType) {
+            case VIEWS -> String.valueOf(board.views());
+            case LIKES -> String.valueOf(board.likeCount());
+            default -> board.createdAt().toString();
+        };
+
+        return new BoardCursor(sortType, sortKey, board.id());
+    }
+
+    public static BoardCursor ofLatest(final LocalDateTime createdAt, final Long id) {
+        return new BoardCursor(BoardSortType.LATEST, createdAt.toString(), id);
+    }
+
+    public static BoardCursor decode(final String cursor, final BoardSortType sortType) {
+
+        try {
+            final String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            final String[] tokens = raw.split(DELIMITER_REGEX);
+
+            if (tokens.length != 3 || BoardSortType.valueOf(tokens[0]) != sortType) {
+                throw BoardExceptionExecutor.BoardCursorInvalid();
+            }
+
+            final BoardCursor boardCursor = new BoardCursor(sortType, tokens[1], Long.parseLong(tokens[2]));
+            boardCursor.validateSortKey();
+
+            return boardCursor;
+        } catch (final IllegalArgumentException | DateTimeParseException e) {
+            throw BoardExceptionExecutor.BoardCursorInvalid();
+        }
+    }
+
+    public String encode() {
+
+        final String raw = sortType.name() + DELIMITER + sortKey + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDateTime createdAt() {
+        return LocalDateTime.parse(sortKey);
+    }
+
+    public int views() {
+        return Integer.parseInt(sortKey);
+    }
+
+    public long likeCount() {
+        return Long.parseLong(sortKey);
+    }
+
+    private void validateSortKey() {
+        switch (sortType) {
+            case VIEWS -> views();
+            case LIKES -> likeCount();
+            default -> createdAt();
+        }
+    }
+}
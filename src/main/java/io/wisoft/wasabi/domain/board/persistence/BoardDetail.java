@@ -0,0 +1,41 @@
+package io.wisoft.wasabi.domain.board.persistence;
+
+import io.wisoft.wasabi.domain.board.web.dto.ReadBoardResponse;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 게시글 상세 조회 결과 중 조회하는 사용자와 관계없이 공유되는 부분 <br/>
+ * 좋아요 수, 조회수, 좋아요 여부는 조회할 때마다 {@link BoardStatus} 로 따로 조회한다.
+ */
+public record BoardDetail(
+        Long id,
+        String title,
+        String content,
+        ReadBoardResponse.Writer writer,
+        LocalDateTime createdAt,
+        String tag,
+        List<ReadBoardResponse.Comment> comments,
+        List<BoardImageFile> images
+) {
+    public BoardDetail(
+            Long id,
+            String title,
+            String content,
+            ReadBoardResponse.Writer writer,
+            LocalDateTime createdAt,
+            String tag
+    ) {
+        this(id, title, content, writer, createdAt, tag, Collections.emptyList(), Collections.emptyList());
+    }
+
+    public BoardDetail addComments(final List<ReadBoardResponse.Comment> comments) {
+        return new BoardDetail(id, title, content, writer, createdAt, tag, List.copyOf(comments), images);
+    }
+
+    public BoardDetail addImages(final List<BoardImageFile> images) {
+        return new BoardDetail(id, title, content, writer, createdAt, tag, comments, List.copyOf(images));
+    }
+}
@@ -2,8 +2,14 @@ package io.wisoft.wasabi.domain.board.persistence;
 
 import io.wisoft.wasabi.domain.basetime.BaseTimeEntity;
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_board_image_board_id_created_at", columnList = "board_id, created_at"),
+        @Index(name = "idx_board_image_content_hash", columnList = "contentHash"),
+        @Index(name = "idx_board_image_file_name", columnList = "fileName")
+})
 public class BoardImage extends BaseTimeEntity {
 
     @Id
@@ -16,6 +22,20 @@ public class BoardImage extends BaseTimeEntity {
     @Column(nullable = false)
     private String storeImagePath;
 
+    // 공유하는 이미지 객체(BoardImageObject)의 SHA-256, 중복 제거 이전에 저장된 이미지는 null
+    @Column(length = 64)
+    private String contentHash;
+
+    @ColumnDefault("'READY'")
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private BoardImageStatus status = BoardImageStatus.READY;
+
+    // 축소 이미지(BoardImageVariant)를 모두 저장했는지 여부, false 라면 원본 이미지만 응답한다.
+    @ColumnDefault("false")
+    @Column(nullable = false)
+    private boolean variantsGenerated;
+
     @JoinColumn(name = "board_id")
     @ManyToOne(fetch = FetchType.LAZY)
     private Board board;
@@ -30,6 +50,25 @@ public class BoardImage extends BaseTimeEntity {
         this.storeImagePath = storeImagePath;
     }
 
+    public BoardImage(
+            final String fileName,
+            final String storeImagePath,
+            final BoardImageStatus status) {
+        this(fileName, storeImagePath);
+        this.status = status;
+    }
+
+    public BoardImage(
+            final BoardImageObject object) {
+        this(object.getFileName(), object.getStoreImagePath());
+        this.contentHash = object.getContentHash();
+        this.variantsGenerated = object.isVariantsGenerated();
+    }
+
+    public void activate() {
+        this.status = BoardImageStatus.READY;
+    }
+
     public void setBoard(final Board board) {
         this.board = board;
         board.getBoardImages().add(this);
@@ -47,7 +86,19 @@ public class BoardImage extends BaseTimeEntity {
         return storeImagePath;
     }
 
+    public String getContentHash() {
+        return contentHash;
+    }
+
     public Board getBoard() {
         return board;
     }
+
+    public BoardImageStatus getStatus() {
+        return status;
+    }
+
+    public boolean isVariantsGenerated() {
+        return variantsGenerated;
+    }
 }
\ No newline at end of file
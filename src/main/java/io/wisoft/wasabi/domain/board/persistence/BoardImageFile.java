@@ -0,0 +1,13 @@
+package io.wisoft.wasabi.domain.board.persistence;
+
+/**
+ * 게시글 상세 조회시 함께 조회하는 이미지 정보 <br/>
+ * 축소 이미지의 URL 은 원본 파일 이름과 URL 로부터 만들며, 축소 이미지가 생성되기 전에는 만들지 않는다.
+ */
+public record BoardImageFile(
+        Long id,
+        String fileName,
+        String storeImagePath,
+        boolean variantsGenerated
+) {
+}
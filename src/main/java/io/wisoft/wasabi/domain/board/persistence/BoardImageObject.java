@@ -0,0 +1,80 @@
+package io.wisoft.wasabi.domain.board.persistence;
+
+import io.wisoft.wasabi.domain.basetime.BaseTimeEntity;
+import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
+
+/**
+ * 이미지 저장소에 저장된 이미지 객체 <br/>
+ * 같은 내용(SHA-256)의 이미지는 하나의 객체로 저장하고, 이 객체를 참조하는 BoardImage 의 수를 referenceCount 로 관리한다.
+ */
+@Entity
+public class BoardImageObject extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 64)
+    private String contentHash;
+
+    @Column(nullable = false)
+    private String fileName;
+
+    @Column(nullable = false)
+    private String storeImagePath;
+
+    @Column(nullable = false)
+    private int referenceCount;
+
+    // 축소 이미지(BoardImageVariant)를 모두 저장했는지 여부
+    @ColumnDefault("false")
+    @Column(nullable = false)
+    private boolean variantsGenerated;
+
+    protected BoardImageObject() {
+    }
+
+    public BoardImageObject(
+            final String contentHash,
+            final String fileName,
+            final String storeImagePath) {
+        this.contentHash = contentHash;
+        this.fileName = fileName;
+        this.storeImagePath = storeImagePath;
+        this.referenceCount = 1;
+    }
+
+    public void increaseReference() {
+        this.referenceCount++;
+    }
+
+    public int decreaseReference(final int count) {
+        this.referenceCount = Math.max(0, this.referenceCount - count);
+        return this.referenceCount;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public String getStoreImagePath() {
+        return storeImagePath;
+    }
+
+    public int getReferenceCount() {
+        return referenceCount;
+    }
+
+    public boolean isVariantsGenerated() {
+        return variantsGenerated;
+    }
+}
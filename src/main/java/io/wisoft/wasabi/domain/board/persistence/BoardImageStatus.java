@@ -0,0 +1,11 @@
+package io.wisoft.wasabi.domain.board.persistence;
+
+/**
+ * 이미지 저장소 업로드 상태
+ */
+public enum BoardImageStatus {
+    AWAITING_UPLOAD,    // 클라이언트가 presigned URL 로 직접 업로드하기를 기다리는 중
+    PENDING,    // 로컬 스풀에 저장되어 업로드를 기다리는 중
+    READY,      // 업로드 완료
+    FAILED      // 재시도 후에도 업로드 실패
+}
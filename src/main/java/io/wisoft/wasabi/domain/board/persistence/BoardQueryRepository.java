@@ -1,33 +1,51 @@
 package io.wisoft.wasabi.domain.board.persistence;
 
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.*;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import io.wisoft.wasabi.domain.comment.QComment;
+import io.wisoft.wasabi.domain.board.web.dto.MyBoardsResponse;
+import io.wisoft.wasabi.domain.board.web.dto.MyLikeBoardsResponse;
 import io.wisoft.wasabi.domain.board.web.dto.ReadBoardResponse;
 import io.wisoft.wasabi.domain.board.web.dto.SortBoardResponse;
 import io.wisoft.wasabi.domain.like.persistence.QAnonymousLike;
 import io.wisoft.wasabi.domain.like.persistence.QLike;
 import io.wisoft.wasabi.domain.member.persistence.QMember;
 import io.wisoft.wasabi.domain.tag.persistence.QTag;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.StringUtils;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Repository
 public class BoardQueryRepository {
 
+    // IN 절 하나에 바인딩하는 게시글 id 의 최대 개수
+    private static final int ID_CHUNK_SIZE = 1000;
+
     private final JPAQueryFactory jpaQueryFactory;
     private final QBoard board = QBoard.board;
+    private final QBoardImage boardImage = QBoardImage.boardImage;
     private final QMember member = QMember.member;
     private final QLike like = QLike.like;
     private final QTag tag = QTag.tag;
+    private final QBoardTag boardTag = QBoardTag.boardTag;
+    private final QTag boardTagTag = new QTag("boardTagTag");
     private final QComment comment = QComment.comment;
     private final QAnonymousLike anonymousLike = QAnonymousLike.anonymousLike;
 
@@ -39,24 +57,163 @@ public class BoardQueryRepository {
                                               final BoardSortType sortType,
                                               final String keyword) {
 
-        final ConstructorExpression<SortBoardResponse> boardResponse =
-                Projections.constructor(
-                        SortBoardResponse.class,
+        final List<SortBoardResponse> result = getQueryByTagKeyword(keyword, getJpaQuery(sortBoardResponse()))
+                .orderBy(ordering(sortType))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1)
+                .fetch();
+
+        return toSlice(result, pageable);
+    }
+
+    /**
+     * 커서(마지막으로 조회한 게시글의 정렬 기준 값 + id) 이후의 게시글을 조회한다. <br/>
+     * offset 을 사용하지 않으므로 페이지가 깊어져도 앞선 게시글들을 건너뛰기 위한 비용이 발생하지 않는다.
+     */
+    public Slice<SortBoardResponse> boardListByCursor(final BoardCursor cursor,
+                                                      final int size,
+                                                      final BoardSortType sortType,
+                                                      final String keyword) {
+
+        final List<SortBoardResponse> result = getQueryByTagKeyword(keyword, getJpaQuery(sortBoardResponse()))
+                .where(afterCursor(cursor))
+                .orderBy(ordering(sortType))
+                .limit(size + 1)
+                .fetch();
+
+        return toSlice(result, PageRequest.ofSize(size));
+    }
+
+    /**
+     * 태그의 posting list 로 구한 게시글 id(오름차순) 중 한 페이지만 조회한다. <br/>
+     * 최신순은 id 순서와 같으므로 페이지에 해당하는 id 만 조회하고,
+     * 다른 정렬은 후보 게시글 안에서만 정렬하므로 조회 비용이 게시글 전체 수가 아닌 후보 수에 비례한다. <br/>
+     * 후보가 많아도 바인딩 변수 수가 제한을 넘지 않도록, 후보를 ID_CHUNK_SIZE 개씩 나눠 chunk 마다 페이지 끝까지의 게시글만 조회한 뒤 합쳐서 정렬한다.
+     */
+    public Slice<SortBoardResponse> boardListByIds(final long[] ids,
+                                                   final BoardSortType sortType,
+                                                   final Pageable pageable) {
+
+        if (pageable.getOffset() >= ids.length) {
+            return new SliceImpl<>(List.of(), pageable, false);
+        }
+
+        if (sortType == BoardSortType.LATEST || sortType == BoardSortType.DEFAULT) {
+            final int end = (int) (ids.length - pageable.getOffset());
+            final int start = Math.max(0, end - pageable.getPageSize() - 1);
+            final List<Long> pageIds = Arrays.stream(ids, start, end).boxed().toList();
+
+            final List<SortBoardResponse> result = getJpaQuery(sortBoardResponse())
+                    .where(board.id.in(pageIds))
+                    .orderBy(ordering(sortType))
+                    .fetch();
+            return toSlice(result, pageable);
+        }
+
+        final long limit = pageable.getOffset() + pageable.getPageSize() + 1;
+        final List<SortBoardResponse> candidates = new ArrayList<>();
+        for (int from = 0; from < ids.length; from += ID_CHUNK_SIZE) {
+            final List<Long> chunk = Arrays.stream(ids, from, Math.min(from + ID_CHUNK_SIZE, ids.length)).boxed().toList();
+            candidates.addAll(getJpaQuery(sortBoardResponse())
+                    .where(board.id.in(chunk))
+                    .orderBy(ordering(sortType))
+                    .limit(limit)
+                    .fetch());
+        }
+        candidates.sort(sortBoardResponseOrdering(sortType));
+
+        final int start = (int) Math.min(pageable.getOffset(), candidates.size());
+        final int end = (int) Math.min(limit, candidates.size());
+        return toSlice(new ArrayList<>(candidates.subList(start, end)), pageable);
+    }
+
+    // ordering 과 같은 순서
+    private Comparator<SortBoardResponse> sortBoardResponseOrdering(final BoardSortType sortType) {
+
+        final Comparator<SortBoardResponse> comparator = switch (sortType) {
+            case VIEWS -> Comparator.comparingInt(SortBoardResponse::views);
+            case LIKES -> Comparator.comparingLong(SortBoardResponse::likeCount);
+            default -> Comparator.comparing(SortBoardResponse::createdAt);
+        };
+
+        return comparator.thenComparing(SortBoardResponse::id).reversed();
+    }
+
+    /**
+     * 내가 작성한 게시글 목록 조회 <br/>
+     * 게시글 id 만 먼저 페이징한 뒤 해당 게시글들만 조회하므로, 작성한 게시글 수와 관계없이 한 페이지 크기만큼만 조회한다.
+     */
+    public Slice<MyBoardsResponse> myBoards(final Long memberId, final BoardCursor cursor, final int size) {
+
+        final List<Long> ids = jpaQueryFactory
+                .select(board.id)
+                .from(board)
+                .where(board.member.id.eq(memberId), afterCursor(cursor))
+                .orderBy(ordering(BoardSortType.LATEST))
+                .limit(size + 1)
+                .fetch();
+
+        return fetchPageByIds(ids, size, MyBoardsResponse.class);
+    }
+
+    /**
+     * 내가 좋아요 한 게시글 목록 조회 - 기본값(최신순)
+     */
+    public Slice<MyLikeBoardsResponse> myLikeBoards(final Long memberId, final BoardCursor cursor, final int size) {
+
+        final List<Long> ids = jpaQueryFactory
+                .select(board.id)
+                .from(like)
+                .join(like.board, board)
+                .where(like.member.id.eq(memberId), afterCursor(cursor))
+                .orderBy(ordering(BoardSortType.LATEST))
+                .limit(size + 1)
+                .fetch();
+
+        return fetchPageByIds(ids, size, MyLikeBoardsResponse.class);
+    }
+
+    private <T> Slice<T> fetchPageByIds(final List<Long> ids, final int size, final Class<T> type) {
+
+        final Slice<Long> idPage = toSlice(ids, PageRequest.ofSize(size));
+        if (!idPage.hasContent()) {
+            return new SliceImpl<>(List.of(), idPage.getPageable(), false);
+        }
+
+        final List<T> content = jpaQueryFactory
+                .select(Projections.constructor(
+                        type,
                         board.id,
                         board.title,
-                        board.member.name,
+                        member.name,
                         board.createdAt,
-                        like.count().add(anonymousLike.count()),
+                        likeCount(),
                         board.views
-                );
-
-        final List<SortBoardResponse> result = getQueryByTagKeyword(keyword, getJpaQuery(boardResponse))
-                .groupBy(board.id)
-                .orderBy(ordering(sortType))
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize() + 1)
+                ))
+                .from(board)
+                .join(member).on(board.member.eq(member))
+                .where(board.id.in(idPage.getContent()))
+                .orderBy(ordering(BoardSortType.LATEST))
                 .fetch();
 
+        return new SliceImpl<>(content, idPage.getPageable(), idPage.hasNext());
+    }
+
+    private ConstructorExpression<SortBoardResponse> sortBoardResponse() {
+
+        return Projections.constructor(
+                SortBoardResponse.class,
+                board.id,
+                board.title,
+                board.member.name,
+                board.createdAt,
+                likeCount(),
+                board.views
+        );
+    }
+
+    private <T> Slice<T> toSlice(final List<T> result, final Pageable pageable) {
+
         boolean hasNext = false;
         if (result.size() > pageable.getPageSize()) {
             result.remove(pageable.getPageSize());
@@ -66,7 +223,7 @@ public class BoardQueryRepository {
         return new SliceImpl<>(result, pageable, hasNext);
     }
 
-    public ReadBoardResponse readBoard(final Long boardId, final Long accessId, final boolean isAuthenticated) {
+    public Optional<BoardDetail> readBoardDetail(final Long boardId) {
 
         final ConstructorExpression<ReadBoardResponse.Writer> writer =
                 Projections.constructor(
@@ -79,26 +236,108 @@ public class BoardQueryRepository {
                         member.motto
                 );
 
-        final ConstructorExpression<ReadBoardResponse> readBoardResponse =
+        final ConstructorExpression<BoardDetail> boardDetail =
                 Projections.constructor(
-                        ReadBoardResponse.class,
+                        BoardDetail.class,
                         board.id,
                         board.title,
                         board.content,
                         writer,
                         board.createdAt,
-                        like.count().add(anonymousLike.count()),
-                        board.views,
-                        isLike(boardId, accessId, isAuthenticated),
                         tag.name
                 );
 
-        final ReadBoardResponse response = getJpaQuery(readBoardResponse)
+        final BoardDetail detail = getJpaQuery(boardDetail)
                     .leftJoin(tag).on(board.tag.eq(tag))
                     .where(board.id.eq(boardId))
                     .fetchFirst();
 
-        return response.addComments(getComments(boardId));
+        return Optional.ofNullable(detail)
+                .map(board -> board.addComments(getComments(boardId)))
+                .map(board -> board.addImages(getImages(boardId)));
+    }
+
+    /**
+     * lastId 이후의 게시글을 id 순으로 size 개 조회한다. 검색 색인을 만들 때 사용한다.
+     */
+    public List<BoardSearchDocument> searchDocuments(final Long lastId, final int size) {
+
+        return toSearchDocuments(searchDocumentQuery()
+                .where(board.id.gt(lastId))
+                .orderBy(board.id.asc())
+                .limit(size)
+                .fetch());
+    }
+
+    public Optional<BoardSearchDocument> searchDocument(final Long boardId) {
+
+        return toSearchDocuments(searchDocumentQuery()
+                .where(board.id.eq(boardId))
+                .limit(1)
+                .fetch())
+                .stream()
+                .findFirst();
+    }
+
+    private JPAQuery<Tuple> searchDocumentQuery() {
+
+        return jpaQueryFactory
+                .select(board.id, board.title, board.content, tag.name, member.name, board.createdAt)
+                .from(board)
+                .join(member).on(board.member.eq(member))
+                .leftJoin(tag).on(board.tag.eq(tag));
+    }
+
+    /**
+     * 대표 태그(Board 의 tag)에, 게시글과 태그의 연결(BoardTag)로 추가된 태그의 이름을 한 번의 조회로 더한다.
+     */
+    private List<BoardSearchDocument> toSearchDocuments(final List<Tuple> rows) {
+
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+
+        final Map<Long, List<String>> tagNames = jpaQueryFactory
+                .select(boardTag.board.id, boardTagTag.name)
+                .from(boardTag)
+                .join(boardTag.tag, boardTagTag)
+                .where(boardTag.board.id.in(rows.stream().map(row -> row.get(board.id)).toList()))
+                .orderBy(boardTag.id.asc())
+                .fetch()
+                .stream()
+                .collect(Collectors.groupingBy(
+                        row -> row.get(boardTag.board.id),
+                        Collectors.mapping(row -> row.get(boardTagTag.name), Collectors.toList())));
+
+        return rows.stream()
+                .map(row -> new BoardSearchDocument(
+                        row.get(board.id),
+                        row.get(board.title),
+                        row.get(board.content),
+                        Stream.concat(
+                                        Stream.ofNullable(row.get(tag.name)),
+                                        tagNames.getOrDefault(row.get(board.id), List.of()).stream())
+                                .distinct()
+                                .toList(),
+                        row.get(member.name),
+                        row.get(board.createdAt)))
+                .toList();
+    }
+
+    public Optional<BoardStatus> readBoardStatus(final Long boardId, final Long accessId, final boolean isAuthenticated) {
+
+        final BoardStatus status = jpaQueryFactory
+                .select(Projections.constructor(
+                        BoardStatus.class,
+                        likeCount(),
+                        board.views,
+                        isLike(boardId, accessId, isAuthenticated)
+                ))
+                .from(board)
+                .where(board.id.eq(boardId))
+                .fetchFirst();
+
+        return Optional.ofNullable(status);
     }
 
     private List<ReadBoardResponse.Comment> getComments(final Long boardId) {
@@ -117,6 +356,22 @@ public class BoardQueryRepository {
                 .fetch();
     }
 
+    private List<BoardImageFile> getImages(final Long boardId) {
+
+        return jpaQueryFactory
+                .select(Projections.constructor(
+                        BoardImageFile.class,
+                        boardImage.id,
+                        boardImage.fileName,
+                        boardImage.storeImagePath,
+                        boardImage.variantsGenerated
+                ))
+                .from(boardImage)
+                .where(boardImage.board.id.eq(boardId), boardImage.status.in(BoardImageStatus.READY, BoardImageStatus.PENDING))
+                .orderBy(boardImage.id.asc())
+                .fetch();
+    }
+
     private BooleanExpression isLike(final Long boardId, final Long accessId, final boolean isAuthenticated) {
         return isAuthenticated
                 ? JPAExpressions
@@ -129,13 +384,19 @@ public class BoardQueryRepository {
                 .exists();
     }
 
+    // 대표 태그뿐 아니라 게시글과 태그의 연결(BoardTag)로 추가된 태그의 이름도 검색어로 거른다.
     private JPAQuery<SortBoardResponse> getQueryByTagKeyword(final String keyword,
                                                              final JPAQuery<SortBoardResponse> jpaQuery) {
         if (StringUtils.hasText(keyword)) {
             return jpaQuery
                     .leftJoin(tag)
                     .on(tag.eq(board.tag))
-                    .where(tag.name.contains(keyword));
+                    .where(tag.name.contains(keyword).or(JPAExpressions
+                            .selectOne()
+                            .from(boardTag)
+                            .join(boardTag.tag, boardTagTag)
+                            .where(boardTag.board.eq(board), boardTagTag.name.contains(keyword))
+                            .exists()));
         }
 
         return jpaQuery;
@@ -147,19 +408,40 @@ public class BoardQueryRepository {
                 .query()
                 .select(constructorExpression)
                 .from(board)
-                .join(member).on(board.member.eq(member))
-                .leftJoin(like).on(like.board.eq(board))
-                .leftJoin(anonymousLike).on(anonymousLike.board.eq(board));
+                .join(member).on(board.member.eq(member));
+    }
+
+    private NumberExpression<Long> likeCount() {
+        return board.likeCount.add(board.anonymousLikeCount);
+    }
+
+    private BooleanExpression afterCursor(final BoardCursor cursor) {
+
+        if (cursor == null) {
+            return null;
+        }
+
+        return switch (cursor.sortType()) {
+            case VIEWS -> board.views.lt(cursor.views())
+                    .or(board.views.eq(cursor.views()).and(board.id.lt(cursor.id())));
+            case LIKES -> likeCount().lt(cursor.likeCount())
+                    .or(likeCount().eq(cursor.likeCount()).and(board.id.lt(cursor.id())));
+            default -> board.createdAt.lt(cursor.createdAt())
+                    .or(board.createdAt.eq(cursor.createdAt()).and(board.id.lt(cursor.id())));
+        };
     }
 
-    private OrderSpecifier ordering(final BoardSortType sortType) {
+    // 정렬 기준 값이 같은 게시글들의 순서를 고정하기 위해 id 를 보조 정렬 기준으로 사용한다.
+    private OrderSpecifier<?>[] ordering(final BoardSortType sortType) {
 
-        return switch (sortType) {
+        final OrderSpecifier<?> orderSpecifier = switch (sortType) {
             case VIEWS -> board.views.desc();
             case LATEST -> board.createdAt.desc();
-            case LIKES -> like.count().desc();
+            case LIKES -> likeCount().desc();
             default -> board.createdAt.desc();
         };
+
+        return new OrderSpecifier<?>[]{orderSpecifier, board.id.desc()};
     }
 
 }
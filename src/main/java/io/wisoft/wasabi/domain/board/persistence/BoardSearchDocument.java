@@ -0,0 +1,18 @@
+package io.wisoft.wasabi.domain.board.persistence;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 게시글 검색 색인을 만드는 데 필요한 정보 <br/>
+ * tags 는 대표 태그와 게시글과 태그의 연결(BoardTag)로 추가된 태그의 이름이다.
+ */
+public record BoardSearchDocument(
+        Long id,
+        String title,
+        String content,
+        List<String> tags,
+        String writer,
+        LocalDateTime createdAt
+) {
+}
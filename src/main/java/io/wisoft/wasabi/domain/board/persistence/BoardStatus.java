@@ -0,0 +1,11 @@
+package io.wisoft.wasabi.domain.board.persistence;
+
+/**
+ * 게시글 상세 조회 결과 중 조회할 때마다 새로 조회하는 부분
+ */
+public record BoardStatus(
+        long likeCount,
+        int views,
+        boolean isLike
+) {
+}
@@ -0,0 +1,51 @@
+package io.wisoft.wasabi.domain.board.persistence;
+
+import io.wisoft.wasabi.domain.tag.persistence.Tag;
+import jakarta.persistence.*;
+
+import static jakarta.persistence.FetchType.LAZY;
+import static jakarta.persistence.GenerationType.IDENTITY;
+
+/**
+ * 게시글과 태그의 연결 <br/>
+ * 한 게시글은 여러 태그를 가질 수 있으며, Board 의 tag 는 그중 첫 번째 태그(대표 태그)이다.
+ */
+@Entity
+@Table(
+        uniqueConstraints = @UniqueConstraint(name = "uk_board_tag_board_id_tag_id", columnNames = {"board_id", "tag_id"}),
+        indexes = @Index(name = "idx_board_tag_tag_id_board_id", columnList = "tag_id, board_id")
+)
+public class BoardTag {
+
+    @Id
+    @GeneratedValue(strategy = IDENTITY)
+    private Long id;
+
+    @JoinColumn(name = "board_id", nullable = false)
+    @ManyToOne(fetch = LAZY)
+    private Board board;
+
+    @JoinColumn(name = "tag_id", nullable = false)
+    @ManyToOne(fetch = LAZY)
+    private Tag tag;
+
+    protected BoardTag() {
+    }
+
+    public BoardTag(final Board board, final Tag tag) {
+        this.board = board;
+        this.tag = tag;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Board getBoard() {
+        return board;
+    }
+
+    public Tag getTag() {
+        return tag;
+    }
+}
@@ -0,0 +1,11 @@
+package io.wisoft.wasabi.domain.board.persistence;
+
+/**
+ * 태그별 게시글 목록(posting list)을 만드는 데 필요한 게시글과 태그의 연결
+ */
+public record BoardTagEntry(
+        Long id,
+        Long boardId,
+        Long tagId
+) {
+}
@@ -0,0 +1,11 @@
+package io.wisoft.wasabi.domain.board.persistence;
+
+/**
+ * 게시글에 포함되지 않은 이미지의 삭제에 필요한 정보
+ */
+public record OrphanBoardImage(
+        Long id,
+        String fileName,
+        String contentHash
+) {
+}
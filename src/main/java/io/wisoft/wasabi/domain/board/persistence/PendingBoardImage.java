@@ -0,0 +1,10 @@
+package io.wisoft.wasabi.domain.board.persistence;
+
+/**
+ * 업로드 큐에 다시 넣을 PENDING 상태 이미지의 정보
+ */
+public record PendingBoardImage(
+        Long id,
+        String fileName
+) {
+}
@@ -0,0 +1,9 @@
+package io.wisoft.wasabi.domain.board.persistence;
+
+/**
+ * 여러 태그로 게시글을 조회할 때, 모든 태그를 가진 게시글(ALL)을 조회할지 하나라도 가진 게시글(ANY)을 조회할지 나타낸다.
+ */
+public enum TagMatchType {
+    ALL,
+    ANY
+}
@@ -1,17 +1,25 @@
 package io.wisoft.wasabi.domain.board.web;
 
+import io.wisoft.wasabi.domain.board.persistence.TagMatchType;
 import io.wisoft.wasabi.domain.board.web.dto.*;
 import io.wisoft.wasabi.global.config.web.resolver.Anyone;
 import io.wisoft.wasabi.global.config.web.resolver.MemberId;
 import io.wisoft.wasabi.global.config.web.response.Response;
 import io.wisoft.wasabi.global.config.web.response.ResponseType;
+import io.wisoft.wasabi.global.exception.BusinessException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.util.List;
+
 @RestController
 @RequestMapping("/boards")
 public class BoardController {
@@ -53,13 +61,36 @@ public class BoardController {
         );
     }
 
+    /**
+     * tags 를 지정하면 keyword 대신 태그로 조회하며, match 로 모든 태그(ALL, 기본값)나 하나 이상의 태그(ANY)를 가진 게시글을 조회한다.
+     */
     @GetMapping
     public ResponseEntity<Response<Slice<SortBoardResponse>>> boardList(
             @RequestParam(name = "sortBy", defaultValue = "default") final String sortBy,
             @PageableDefault(size = 6) final Pageable pageable,
+            @RequestParam(required = false) final String keyword,
+            @RequestParam(required = false) final List<String> tags,
+            @RequestParam(defaultValue = "ALL") final TagMatchType match) {
+
+        final Slice<SortBoardResponse> data = tags == null || tags.isEmpty()
+                ? boardService.getBoardList(sortBy, pageable, keyword)
+                : boardService.getBoardList(sortBy, pageable, tags, match);
+        return ResponseEntity.ofNullable(
+                Response.of(
+                        ResponseType.BOARD_SORTED_LIST_SUCCESS,
+                        data
+                )
+        );
+    }
+
+    @GetMapping(params = "cursor")
+    public ResponseEntity<Response<CursorSliceResponse<SortBoardResponse>>> boardListByCursor(
+            @RequestParam(name = "sortBy", defaultValue = "default") final String sortBy,
+            @RequestParam(required = false) final String cursor,
+            @RequestParam(defaultValue = "6") final int size,
             @RequestParam(required = false) final String keyword) {
 
-        final Slice<SortBoardResponse> data = boardService.getBoardList(sortBy, pageable, keyword);
+        final CursorSliceResponse<SortBoardResponse> data = boardService.getBoardList(sortBy, cursor, size, keyword);
         return ResponseEntity.ofNullable(
                 Response.of(
                         ResponseType.BOARD_SORTED_LIST_SUCCESS,
@@ -68,9 +99,29 @@ public class BoardController {
         );
     }
 
+    /**
+     * 게시글 제목, 내용, 태그를 검색어와의 관련도(BM25) 순으로 조회한다. DB 대신 메모리 검색 색인을 사용한다.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<Response<Slice<SearchBoardResponse>>> searchBoards(
+            @RequestParam final String keyword,
+            @PageableDefault(size = 6) final Pageable pageable) {
+
+        final Slice<SearchBoardResponse> data = boardService.searchBoards(keyword, pageable);
+        return ResponseEntity.ofNullable(
+                Response.of(
+                        ResponseType.BOARD_SEARCH_SUCCESS,
+                        data
+                )
+        );
+    }
+
     @GetMapping("/my-board")
-    public ResponseEntity<Response<Slice<MyBoardsResponse>>> myBoards(@MemberId final Long memberId, final Pageable pageable) {
-        final Slice<MyBoardsResponse> data = boardService.getMyBoards(memberId, pageable);
+    public ResponseEntity<Response<CursorSliceResponse<MyBoardsResponse>>> myBoards(
+            @MemberId final Long memberId,
+            @RequestParam(required = false) final String cursor,
+            @RequestParam(defaultValue = "20") final int size) {
+        final CursorSliceResponse<MyBoardsResponse> data = boardService.getMyBoards(memberId, cursor, size);
 
         return ResponseEntity.ofNullable(
                 Response.of(
@@ -81,8 +132,11 @@ public class BoardController {
     }
 
     @GetMapping("/my-like")
-    public ResponseEntity<Response<Slice<MyLikeBoardsResponse>>> myLikeBoards(@MemberId final Long memberId, final Pageable pageable) {
-        final Slice<MyLikeBoardsResponse> data = boardService.getMyLikeBoards(memberId, pageable);
+    public ResponseEntity<Response<CursorSliceResponse<MyLikeBoardsResponse>>> myLikeBoards(
+            @MemberId final Long memberId,
+            @RequestParam(required = false) final String cursor,
+            @RequestParam(defaultValue = "20") final int size) {
+        final CursorSliceResponse<MyLikeBoardsResponse> data = boardService.getMyLikeBoards(memberId, cursor, size);
 
         return ResponseEntity.ofNullable(
                 Response.of(
@@ -105,8 +159,59 @@ public class BoardController {
         );
     }
 
+    /**
+     * multipart 대신 요청 본문 전체를 이미지로 받는다. (Content-Type: image/*) <br/>
+     * 본문을 임시 파일에 저장하지 않고 읽으면서 바로 이미지 저장소로 전송하며,
+     * 거절한 요청은 남은 본문을 읽지 않도록 연결을 닫는다.
+     */
+    @PostMapping(value = "/image", consumes = "image/*")
+    public ResponseEntity<Response<UploadImageResponse>> uploadImageStream(final HttpServletRequest request,
+                                                                           final HttpServletResponse response) throws IOException {
+
+        final UploadImageResponse data;
+        try {
+            data = boardImageService.saveImage(request.getInputStream(), request.getContentLengthLong());
+        } catch (final BusinessException e) {
+            response.setHeader(HttpHeaders.CONNECTION, "close");
+            throw e;
+        }
+
+        return ResponseEntity.ofNullable(
+                Response.of(
+                        ResponseType.BOARD_IMAGE_UPLOAD_SUCCESS,
+                        data
+                )
+        );
+    }
+
+    @PostMapping("/image/presigned")
+    public ResponseEntity<Response<PresignedUploadResponse>> createPresignedUpload(@RequestBody @Valid final PresignedUploadRequest request) {
+
+        final PresignedUploadResponse data = boardImageService.createPresignedUpload(request);
+
+        return ResponseEntity.ofNullable(
+                Response.of(
+                        ResponseType.BOARD_IMAGE_PRESIGNED_UPLOAD_SUCCESS,
+                        data
+                )
+        );
+    }
+
+    @PostMapping("/image/{imageId}/complete")
+    public ResponseEntity<Response<UploadImageResponse>> completePresignedUpload(@PathVariable final Long imageId) {
+
+        final UploadImageResponse data = boardImageService.completePresignedUpload(imageId);
+
+        return ResponseEntity.ofNullable(
+                Response.of(
+                        ResponseType.BOARD_IMAGE_UPLOAD_SUCCESS,
+                        data
+                )
+        );
+    }
+
     @DeleteMapping("/image")
-    public ResponseEntity<Response<DeleteImageResponse>> deleteImage(@RequestBody final DeleteImageRequest request) {
+    public ResponseEntity<Response<DeleteImageResponse>> deleteImage(@RequestBody @Valid final DeleteImageRequest request) {
 
         final DeleteImageResponse data = boardImageService.deleteImage(request);
 
@@ -117,4 +222,30 @@ public class BoardController {
                 )
         );
     }
+
+    @DeleteMapping("/image/{imageId}")
+    public ResponseEntity<Response<DeleteImageResponse>> deleteImage(@PathVariable final Long imageId) {
+
+        final DeleteImageResponse data = boardImageService.deleteImage(imageId);
+
+        return ResponseEntity.ofNullable(
+                Response.of(
+                        ResponseType.BOARD_IMAGE_DELETE_SUCCESS,
+                        data
+                )
+        );
+    }
+
+    @DeleteMapping("/images")
+    public ResponseEntity<Response<DeleteImagesResponse>> deleteImages(@RequestBody @Valid final DeleteImagesRequest request) {
+
+        final DeleteImagesResponse data = boardImageService.deleteImages(request);
+
+        return ResponseEntity.ofNullable(
+                Response.of(
+                        ResponseType.BOARD_IMAGE_DELETE_SUCCESS,
+                        data
+                )
+        );
+    }
 }
@@ -2,12 +2,28 @@ package io.wisoft.wasabi.domain.board.web;
 
 import io.wisoft.wasabi.domain.board.web.dto.DeleteImageRequest;
 import io.wisoft.wasabi.domain.board.web.dto.DeleteImageResponse;
+import io.wisoft.wasabi.domain.board.web.dto.DeleteImagesRequest;
+import io.wisoft.wasabi.domain.board.web.dto.DeleteImagesResponse;
+import io.wisoft.wasabi.domain.board.web.dto.PresignedUploadRequest;
+import io.wisoft.wasabi.domain.board.web.dto.PresignedUploadResponse;
 import io.wisoft.wasabi.domain.board.web.dto.UploadImageRequest;
 import io.wisoft.wasabi.domain.board.web.dto.UploadImageResponse;
 
+import java.io.InputStream;
+
 public interface BoardImageService {
 
     UploadImageResponse saveImage(final UploadImageRequest request);
 
+    UploadImageResponse saveImage(final InputStream content, final long contentLength);
+
+    PresignedUploadResponse createPresignedUpload(final PresignedUploadRequest request);
+
+    UploadImageResponse completePresignedUpload(final Long imageId);
+
     DeleteImageResponse deleteImage(final DeleteImageRequest request);
+
+    DeleteImageResponse deleteImage(final Long imageId);
+
+    DeleteImagesResponse deleteImages(final DeleteImagesRequest request);
 }
@@ -1,9 +1,12 @@
 package io.wisoft.wasabi.domain.board.web;
 
+import io.wisoft.wasabi.domain.board.persistence.TagMatchType;
 import io.wisoft.wasabi.domain.board.web.dto.*;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 
+import java.util.List;
+
 public interface BoardService {
 
     WriteBoardResponse writeBoard(final WriteBoardRequest request, final Long memberId);
@@ -12,7 +15,13 @@ public interface BoardService {
 
     Slice<SortBoardResponse> getBoardList(final String sortBy, final Pageable pageable, final String keyword);
 
-    Slice<MyBoardsResponse> getMyBoards(final Long memberId, final Pageable pageable);
+    Slice<SortBoardResponse> getBoardList(final String sortBy, final Pageable pageable, final List<String> tags, final TagMatchType matchType);
+
+    CursorSliceResponse<SortBoardResponse> getBoardList(final String sortBy, final String cursor, final int size, final String keyword);
+
+    Slice<SearchBoardResponse> searchBoards(final String keyword, final Pageable pageable);
+
+    CursorSliceResponse<MyBoardsResponse> getMyBoards(final Long memberId, final String cursor, final int size);
 
-    Slice<MyLikeBoardsResponse> getMyLikeBoards(final Long memberId, final Pageable pageable);
+    CursorSliceResponse<MyLikeBoardsResponse> getMyLikeBoards(final Long memberId, final String cursor, final int size);
 }
@@ -0,0 +1,9 @@
+package io.wisoft.wasabi.domain.board.web.dto;
+
+import org.springframework.data.domain.Slice;
+
+public record CursorSliceResponse<T>(
+        Slice<T> boards,
+        String nextCursor
+) {
+}
@@ -1,6 +1,8 @@
 package io.wisoft.wasabi.domain.board.web.dto;
 
+import jakarta.validation.constraints.NotBlank;
+
 public record DeleteImageRequest(
-        String storeImagePath
+        @NotBlank String storeImagePath
 ) {
 }
@@ -0,0 +1,12 @@
+package io.wisoft.wasabi.domain.board.web.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record DeleteImagesRequest(
+        @NotEmpty @Size(max = 100) List<@NotBlank String> storeImagePaths
+) {
+}
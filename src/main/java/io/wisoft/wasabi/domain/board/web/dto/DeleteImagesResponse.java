@@ -0,0 +1,8 @@
+package io.wisoft.wasabi.domain.board.web.dto;
+
+import java.util.List;
+
+public record DeleteImagesResponse(
+        List<Long> imageIds
+) {
+}
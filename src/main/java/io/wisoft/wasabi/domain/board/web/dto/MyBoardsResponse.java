@@ -7,7 +7,7 @@ public record MyBoardsResponse(
         String title,
         String writer,
         LocalDateTime createdAt,
-        int likeCount,
+        long likeCount,
         int views
 ) {
 }
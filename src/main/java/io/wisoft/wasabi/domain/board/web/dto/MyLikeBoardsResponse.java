@@ -7,6 +7,6 @@ public record MyLikeBoardsResponse(
         String title,
         String writer,
         LocalDateTime createdAt,
-        int likeCount,
+        long likeCount,
         int views) {
 }
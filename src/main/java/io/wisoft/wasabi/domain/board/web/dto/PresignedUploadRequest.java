@@ -0,0 +1,10 @@
+package io.wisoft.wasabi.domain.board.web.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+
+public record PresignedUploadRequest(
+        @NotBlank String contentType,
+        @Positive long contentLength
+) {
+}
@@ -0,0 +1,16 @@
+package io.wisoft.wasabi.domain.board.web.dto;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * 클라이언트는 uploadUrl 로 uploadHeaders 를 포함해 PUT 요청을 보낸 뒤, 업로드 완료 API 를 호출해야 한다.
+ */
+public record PresignedUploadResponse(
+        Long imageId,
+        String imageUrl,
+        String uploadUrl,
+        Map<String, String> uploadHeaders,
+        Instant expiresAt
+) {
+}
@@ -16,7 +16,8 @@ public record ReadBoardResponse(
         int views,
         boolean isLike,
         String tag,
-        List<Comment> comments
+        List<Comment> comments,
+        List<Image> images
 ) {
     public ReadBoardResponse(
             Long id,
@@ -33,6 +34,21 @@ public record ReadBoardResponse(
         this(id, title, content, writer, createdAt, likeCount, views, isLike, tag, Collections.emptyList());
     }
 
+    public ReadBoardResponse(
+            Long id,
+            String title,
+            String content,
+            Writer writer,
+            LocalDateTime createdAt,
+            long likeCount,
+            int views,
+            boolean isLike,
+            String tag,
+            List<Comment> comments
+    ) {
+        this(id, title, content, writer, createdAt, likeCount, views, isLike, tag, comments, Collections.emptyList());
+    }
+
     public record Writer(
             String email,
             String name,
@@ -51,11 +67,26 @@ public record ReadBoardResponse(
             LocalDateTime createdAt
     ){}
 
+    // 축소 이미지는 업로드 후 비동기로 생성되므로, 아직 생성되지 않았다면 null 이며 원본(imageUrl)을 사용한다.
+    public record Image(
+            Long id,
+            String imageUrl,
+            String mediumUrl,
+            String thumbnailUrl
+    ){}
+
     // record 로 선언해서 값을 바꾸지 못하기 때문에 withComments시 댓글을 저장하도록 구현
     public ReadBoardResponse addComments(List<Comment> comments) {
         return new ReadBoardResponse(
-                id, title, content, writer, createdAt, likeCount, views, isLike, tag, List.copyOf(comments)
+                id, title, content, writer, createdAt, likeCount, views, isLike, tag, List.copyOf(comments), images
+        );
+    }
+
+    // 아직 DB 에 반영되지 않은 조회수를 더해 응답한다.
+    public ReadBoardResponse addViews(final long pendingViews) {
+        return new ReadBoardResponse(
+                id, title, content, writer, createdAt, likeCount, Math.toIntExact(views + pendingViews), isLike, tag, comments, images
         );
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,11 @@
+package io.wisoft.wasabi.domain.board.web.dto;
+
+import java.time.LocalDateTime;
+
+public record SearchBoardResponse(
+        Long id,
+        String title,
+        String writer,
+        LocalDateTime createdAt,
+        double score) {
+}
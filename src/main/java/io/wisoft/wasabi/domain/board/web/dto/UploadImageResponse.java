@@ -1,7 +1,12 @@
 package io.wisoft.wasabi.domain.board.web.dto;
 
+/**
+ * 축소 이미지(mediumUrl, thumbnailUrl)는 업로드 후 비동기로 생성되므로, 아직 생성되지 않았다면 null 이며 원본(imageUrl)을 사용한다.
+ */
 public record UploadImageResponse(
         String imageUrl,
-        Long imageId
+        Long imageId,
+        String mediumUrl,
+        String thumbnailUrl
 ) {
 }
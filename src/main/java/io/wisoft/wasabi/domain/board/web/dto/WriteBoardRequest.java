@@ -2,14 +2,27 @@ package io.wisoft.wasabi.domain.board.web.dto;
 
 import jakarta.annotation.Nullable;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 
 import java.util.List;
 
+/**
+ * tag 는 대표 태그이며, tags 로 여러 태그를 함께 지정할 수 있다.
+ */
 public record WriteBoardRequest(
         @NotBlank String title,
         @NotBlank String content,
         @Nullable String tag,
         @Nullable String[] imageUrls,
-        @Nullable List<Long> imageIds
+        @Nullable List<Long> imageIds,
+        @Nullable @Size(max = 10) List<String> tags
 ) {
+
+    public WriteBoardRequest(final String title,
+                             final String content,
+                             final String tag,
+                             final String[] imageUrls,
+                             final List<Long> imageIds) {
+        this(title, content, tag, imageUrls, imageIds, null);
+    }
 }
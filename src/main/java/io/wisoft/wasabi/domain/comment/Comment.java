@@ -4,6 +4,7 @@ import io.wisoft.wasabi.domain.basetime.BaseTimeEntity;
 import io.wisoft.wasabi.domain.board.persistence.Board;
 import io.wisoft.wasabi.domain.member.persistence.Member;
 import jakarta.persistence.*;
+import org.hibernate.Hibernate;
 
 import static jakarta.persistence.FetchType.LAZY;
 import static jakarta.persistence.GenerationType.IDENTITY;
@@ -41,14 +42,19 @@ public class Comment extends BaseTimeEntity {
 
     }
 
+    // 작성자와 게시글의 댓글 목록은 이미 로딩된 경우에만 함께 갱신한다.
     private void setMember(final Member member) {
         this.member = member;
-        member.addComment(this);
+        if (Hibernate.isInitialized(member) && Hibernate.isInitialized(member.getComments())) {
+            member.addComment(this);
+        }
     }
 
     private void setBoard(final Board board) {
         this.board = board;
-        board.addComment(this);
+        if (Hibernate.isInitialized(board) && Hibernate.isInitialized(board.getComments())) {
+            board.addComment(this);
+        }
     }
 
     public Long getId() {
@@ -1,5 +1,6 @@
 package io.wisoft.wasabi.domain.comment;
 
+import io.wisoft.wasabi.domain.board.application.BoardDetailCache;
 import io.wisoft.wasabi.domain.board.application.BoardImageServiceImpl;
 import io.wisoft.wasabi.domain.board.application.BoardRepository;
 import io.wisoft.wasabi.domain.board.exception.BoardExceptionExecutor;
@@ -21,26 +22,36 @@ public class CommentServiceImpl implements CommentService {
     private final CommentRepository commentRepository;
     private final MemberRepository memberRepository;
     private final BoardRepository boardRepository;
+    private final BoardDetailCache boardDetailCache;
 
     public CommentServiceImpl(final CommentRepository commentRepository,
                               final MemberRepository memberRepository,
-                              final BoardRepository boardRepository) {
+                              final BoardRepository boardRepository,
+                              final BoardDetailCache boardDetailCache) {
         this.commentRepository = commentRepository;
         this.memberRepository = memberRepository;
         this.boardRepository = boardRepository;
+        this.boardDetailCache = boardDetailCache;
     }
 
+    @Transactional
     public WriteCommentResponse writeComment(final WriteCommentRequest request, final Long memberId) {
 
-        final Member member = memberRepository.findById(memberId)
-                .orElseThrow(MemberExceptionExecutor::MemberNotFound);
+        if (!memberRepository.existsById(memberId)) {
+            throw MemberExceptionExecutor.MemberNotFound();
+        }
 
-        final Board board = boardRepository.findById(request.boardId())
-                .orElseThrow(BoardExceptionExecutor::BoardNotFound);
+        if (!boardRepository.existsById(request.boardId())) {
+            throw BoardExceptionExecutor.BoardNotFound();
+        }
+
+        final Member member = memberRepository.getReferenceById(memberId);
+        final Board board = boardRepository.getReferenceById(request.boardId());
 
         final Comment comment = CommentMapper.writeCommentRequestToEntity(request, member, board);
 
         commentRepository.save(comment);
+        boardDetailCache.evict(board.getId());
 
         logger.info("[Result] {}번 회원의 {}번 게시글에 대한 댓글 작성", memberId, board.getId());
 
@@ -38,14 +38,17 @@ public class AnonymousLikeServiceImpl implements LikeService {
     @Transactional
     public RegisterLikeResponse registerLike(final Long accessId, final RegisterLikeRequest request) {
 
-        final Board board = boardRepository.findById(request.boardId())
-            .orElseThrow(BoardExceptionExecutor::BoardNotFound);
+        // 갱신된 게시글이 없다면 존재하지 않는 게시글이다.
+        if (boardRepository.increaseAnonymousLikeCount(request.boardId()) == 0) {
+            throw BoardExceptionExecutor.BoardNotFound();
+        }
 
+        final Board board = boardRepository.getReferenceById(request.boardId());
         final AnonymousLike anonymousLike = new AnonymousLike(accessId, board);
 
         anonymousLikeRepository.save(anonymousLike);
 
-        logger.info("[Result] 비회원 {} 의 {} 번 게시글 좋아요 등록", accessId, board.getId());
+        logger.info("[Result] 비회원 {} 의 {} 번 게시글 좋아요 등록", accessId, request.boardId());
 
         return new RegisterLikeResponse(anonymousLike.getId());
     }
@@ -59,6 +62,7 @@ public class AnonymousLikeServiceImpl implements LikeService {
 
         anonymousLike.delete();
         anonymousLikeRepository.delete(anonymousLike);
+        boardRepository.decreaseAnonymousLikeCount(boardId);
 
         logger.info("[Result] 비회원 {} 의 {} 번 게시글 좋아요 삭제", accessId, boardId);
 
@@ -44,21 +44,26 @@ public class LikeServiceImpl implements LikeService {
     @Transactional
     public RegisterLikeResponse registerLike(final Long accessId, final RegisterLikeRequest request) {
 
-        final Member member = memberRepository.findById(accessId)
-                .orElseThrow(MemberExceptionExecutor::MemberNotFound);
-
-        final Board board = boardRepository.findById(request.boardId())
-                .orElseThrow(BoardExceptionExecutor::BoardNotFound);
+        if (!memberRepository.existsById(accessId)) {
+            throw MemberExceptionExecutor.MemberNotFound();
+        }
 
-        if (isAlreadyLiked(member.getId(), board.getId())) {
+        if (isAlreadyLiked(accessId, request.boardId())) {
             throw LikeExceptionExecutor.ExistLike();
         }
 
+        // 갱신된 게시글이 없다면 존재하지 않는 게시글이다.
+        if (boardRepository.increaseLikeCount(request.boardId()) == 0) {
+            throw BoardExceptionExecutor.BoardNotFound();
+        }
+
+        final Member member = memberRepository.getReferenceById(accessId);
+        final Board board = boardRepository.getReferenceById(request.boardId());
         final Like like = LikeMapper.registerLikeRequestToEntity(member, board);
 
         likeRepository.save(like);
 
-        logger.info("[Result] 회원 {} 의 {} 번 게시물 좋아요 등록", accessId, board.getId());
+        logger.info("[Result] 회원 {} 의 {} 번 게시물 좋아요 등록", accessId, request.boardId());
 
         return LikeMapper.entityToRegisterLikeResponse(like);
     }
@@ -71,7 +76,9 @@ public class LikeServiceImpl implements LikeService {
                 .orElseThrow(LikeExceptionExecutor::LikeNotFound);
 
         like.delete();
-        likeRepository.deleteById(like.getId());
+        likeRepository.delete(like);
+        boardRepository.decreaseLikeCount(boardId);
+
         logger.info("[Result] 회원 {} 의 {} 번 게시물 좋아요 삭제", memberId, boardId);
 
         return new CancelLikeResponse(like.getId());
@@ -2,6 +2,7 @@ package io.wisoft.wasabi.domain.like.persistence;
 
 import io.wisoft.wasabi.domain.board.persistence.Board;
 import jakarta.persistence.*;
+import org.hibernate.Hibernate;
 
 @Entity
 @Table(name = "anonymous_likes")
@@ -27,9 +28,12 @@ public class AnonymousLike {
         setBoard(board);
     }
 
+    // 게시글의 비회원 좋아요 목록은 이미 로딩된 경우에만 함께 갱신한다.
     private void setBoard(final Board board) {
         this.board = board;
-        board.addAnonymousLike(this);
+        if (Hibernate.isInitialized(board) && Hibernate.isInitialized(board.getAnonymousLikes())) {
+            board.addAnonymousLike(this);
+        }
     }
 
     public Long getId() {
@@ -37,6 +41,8 @@ public class AnonymousLike {
     }
 
     public void delete() {
-        this.board.removeAnonymousLike(this);
+        if (Hibernate.isInitialized(board) && Hibernate.isInitialized(board.getAnonymousLikes())) {
+            this.board.removeAnonymousLike(this);
+        }
     }
 }
@@ -3,6 +3,7 @@ package io.wisoft.wasabi.domain.like.persistence;
 import io.wisoft.wasabi.domain.board.persistence.Board;
 import io.wisoft.wasabi.domain.member.persistence.Member;
 import jakarta.persistence.*;
+import org.hibernate.Hibernate;
 
 import static jakarta.persistence.FetchType.LAZY;
 import static jakarta.persistence.GenerationType.IDENTITY;
@@ -23,14 +24,22 @@ public class Like {
     @JoinColumn(name = "member_id")
     private Member member;
 
+    /*
+     * 연관관계 반대편의 좋아요 목록은 이미 로딩된 경우에만 함께 갱신한다.
+     * 로딩되지 않은 목록까지 갱신하면 좋아요 하나를 등록/취소할 때마다 기존 좋아요 전체를 조회하게 된다.
+     */
     private void setBoard(final Board board) {
         this.board = board;
-        board.getLikes().add(this);
+        if (Hibernate.isInitialized(board) && Hibernate.isInitialized(board.getLikes())) {
+            board.getLikes().add(this);
+        }
     }
 
     private void setMember(final Member member) {
         this.member = member;
-        member.getLikes().add(this);
+        if (Hibernate.isInitialized(member) && Hibernate.isInitialized(member.getLikes())) {
+            member.getLikes().add(this);
+        }
     }
 
     protected Like() {}
@@ -44,8 +53,12 @@ public class Like {
     }
 
     public void delete() {
-        this.member.getLikes().remove(this);
-        this.board.getLikes().remove(this);
+        if (Hibernate.isInitialized(member) && Hibernate.isInitialized(member.getLikes())) {
+            this.member.getLikes().remove(this);
+        }
+        if (Hibernate.isInitialized(board) && Hibernate.isInitialized(board.getLikes())) {
+            this.board.getLikes().remove(this);
+        }
     }
 
     /* getter */
@@ -8,8 +8,6 @@ import org.springframework.stereotype.Repository;
 public class LikeQueryRepository {
 
     private final JPAQueryFactory jpaQueryFactory;
-    private final QLike like = QLike.like;
-    private final QAnonymousLike anonymousLike = QAnonymousLike.anonymousLike;
     private final QBoard board = QBoard.board;
 
     public LikeQueryRepository(final JPAQueryFactory jpaQueryFactory) {
@@ -20,10 +18,8 @@ public class LikeQueryRepository {
 
         return
             jpaQueryFactory
-                .select(like.count().add(anonymousLike.count()))
+                .select(board.likeCount.add(board.anonymousLikeCount))
                 .from(board)
-                .leftJoin(like).on(like.board.eq(board))
-                .leftJoin(anonymousLike).on(anonymousLike.board.eq(board))
                 .where(board.id.eq(boardId))
                 .fetchFirst();
     }
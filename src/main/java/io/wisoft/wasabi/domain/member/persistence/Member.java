@@ -115,6 +115,10 @@ public class Member extends BaseTimeEntity {
         return likes;
     }
 
+    public Set<Comment> getComments() {
+        return comments;
+    }
+
     public String getName() {
         return name;
     }
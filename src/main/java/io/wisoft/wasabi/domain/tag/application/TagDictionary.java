@@ -0,0 +1,127 @@
+package io.wisoft.wasabi.domain.tag.application;
+
+import io.wisoft.wasabi.domain.tag.persistence.Tag;
+import io.wisoft.wasabi.domain.tag.persistence.TagEntry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 태그 이름과 태그(id, DB 의 태그 이름)를 메모리에 보관하여, 이미 존재하는 태그는 조회 없이 참조(프록시)로 게시글에 연결한다. <br/>
+ * 애플리케이션이 시작되면 모든 태그를 적재하고, 없는 태그는 이름의 유니크 제약을 이용해 한 번만 생성한다.
+ * 동시에 같은 이름의 태그를 생성하면 먼저 생성된 태그를 다시 조회해 사용한다. <br/>
+ * 태그 생성은 별도의 트랜잭션에서 바로 커밋되므로, 게시글 작성이 롤백되어도 생성된 태그는 남는다.
+ */
+@Component
+public class TagDictionary {
+
+    private final Logger logger = LoggerFactory.getLogger(TagDictionary.class);
+    private final Map<String, TagEntry> entries = new ConcurrentHashMap<>();
+    private final TagRepository tagRepository;
+    private final TransactionTemplate newTransaction;
+
+    public TagDictionary(final TagRepository tagRepository,
+                         final PlatformTransactionManager transactionManager) {
+        this.tagRepository = tagRepository;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+
+        tagRepository.findAllEntries().forEach(entry -> entries.putIfAbsent(entry.name(), entry));
+
+        logger.info("[Result] 태그 사전 적재 - 태그 {}개", entries.size());
+    }
+
+    /**
+     * 이름에 해당하는 태그를 반환한다. 반환한 태그는 초기화되지 않은 참조이므로 게시글 목록 등을 로딩하지 않는다.
+     */
+    public Tag getOrCreate(final String name) {
+        return getReference(getOrCreateEntry(name));
+    }
+
+    public Tag getReference(final TagEntry entry) {
+        return tagRepository.getReferenceById(entry.id());
+    }
+
+    /**
+     * 태그를 생성하지 않고 id 만 찾는다.
+     */
+    public Optional<Long> findId(final String name) {
+
+        final TagEntry cached = entries.get(name);
+        if (cached != null) {
+            return Optional.of(cached.id());
+        }
+
+        final Optional<TagEntry> found = tagRepository.findEntryByName(name);
+        found.ifPresent(entry -> cacheAfterCommit(name, entry));
+        return found.map(TagEntry::id);
+    }
+
+    /**
+     * 이름에 해당하는 태그의 id 와 DB 의 태그 이름을 반환한다.
+     * 대소문자만 다른 이름(Spring, spring)으로 요청해도 같은 태그의 같은 이름을 반환한다.
+     */
+    public TagEntry getOrCreateEntry(final String name) {
+
+        final TagEntry cached = entries.get(name);
+        if (cached != null) {
+            return cached;
+        }
+
+        final Optional<TagEntry> found = tagRepository.findEntryByName(name);
+        if (found.isPresent()) {
+            cacheAfterCommit(name, found.get());
+            return found.get();
+        }
+
+        final TagEntry created = create(name);
+        entries.putIfAbsent(name, created);
+        return created;
+    }
+
+    private TagEntry create(final String name) {
+
+        try {
+            final Long id = newTransaction.execute(status -> tagRepository.saveAndFlush(new Tag(name)).getId());
+            logger.info("[Result] {} 태그 생성", name);
+            return new TagEntry(id, name);
+        } catch (final DataIntegrityViolationException e) {
+            return newTransaction.execute(status -> tagRepository.findEntryByName(name))
+                    .orElseThrow(() -> e);
+        }
+    }
+
+    /**
+     * 호출한 트랜잭션에서 조회한 태그는 아직 커밋되지 않은 태그일 수 있으므로, 커밋된 뒤에 사전에 추가한다.
+     */
+    private void cacheAfterCommit(final String name, final TagEntry entry) {
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            entries.putIfAbsent(name, entry);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                entries.putIfAbsent(name, entry);
+            }
+        });
+    }
+}
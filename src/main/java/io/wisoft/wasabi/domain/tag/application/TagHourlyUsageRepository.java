@@ -0,0 +1,21 @@
+package io.wisoft.wasabi.domain.tag.application;
+
+import io.wisoft.wasabi.domain.tag.persistence.TagHourlyUsage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface TagHourlyUsageRepository extends JpaRepository<TagHourlyUsage, Long> {
+
+    List<TagHourlyUsage> findAllByBucketHourGreaterThanEqual(final long bucketHour);
+
+    List<TagHourlyUsage> findAllByTagIdInAndBucketHourGreaterThanEqual(final Collection<Long> tagIds, final long bucketHour);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM TagHourlyUsage hourlyUsage WHERE hourlyUsage.bucketHour < :bucketHour")
+    int deleteExpired(@Param("bucketHour") final long bucketHour);
+}
@@ -0,0 +1,17 @@
+package io.wisoft.wasabi.domain.tag.application;
+
+import io.wisoft.wasabi.domain.tag.persistence.TagPopularityCheckpoint;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface TagPopularityCheckpointRepository extends JpaRepository<TagPopularityCheckpoint, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT checkpoint FROM TagPopularityCheckpoint checkpoint WHERE checkpoint.id = :id")
+    Optional<TagPopularityCheckpoint> findByIdForUpdate(@Param("id") final Long id);
+}
@@ -0,0 +1,460 @@
+package io.wisoft.wasabi.domain.tag.application;
+
+import io.wisoft.wasabi.domain.tag.persistence.TagBoardCount;
+import io.wisoft.wasabi.domain.tag.persistence.TagEntry;
+import io.wisoft.wasabi.domain.tag.persistence.TagHourlyUsage;
+import io.wisoft.wasabi.domain.tag.persistence.TagPopularity;
+import io.wisoft.wasabi.domain.tag.persistence.TagPopularityCheckpoint;
+import io.wisoft.wasabi.domain.tag.persistence.TagPopularityType;
+import io.wisoft.wasabi.domain.tag.persistence.TagUsage;
+import io.wisoft.wasabi.domain.tag.web.dto.PopularTagResponse;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 태그별 전체 게시글 수와 최근 windowHours 시간 동안의 사용량을 메모리에 유지한다. <br/>
+ * 최근 사용량은 태그마다 한 시간 단위 버킷의 원형 버퍼로 집계하며, 게시글이 작성될 때마다 해당 태그의 현재 버킷만 증가시킨다.
+ * 인기 태그는 주기적으로 미리 계산해 두고, 조회할 때는 계산된 목록을 그대로 반환한다. <br/>
+ * 스냅샷은 메모리의 집계가 아닌 DB 의 게시글과 태그의 연결(BoardTag)로 만든다. 체크포인트(TagPopularityCheckpoint) 이후의 연결을
+ * 체크포인트를 잠근 채 집계해 기존 스냅샷에 더하므로, 여러 서버가 서로의 집계를 덮어쓰거나 같은 연결을 두 번 더하지 않는다. <br/>
+ * 애플리케이션이 다시 시작되면 스냅샷에 체크포인트 이후의 연결을 더해 복원하므로, 마지막 스냅샷 이후 비정상 종료되어도 유실되지 않는다.
+ * 체크포인트가 없을 때만 게시글과 태그의 연결을 한 번 집계한다.
+ */
+@Component
+public class TagPopularityCounter {
+
+    private static final long HOUR_MILLIS = Duration.ofHours(1).toMillis();
+    private static final int SNAPSHOT_CHUNK_SIZE = 500;
+
+    // 전체 게시글이 많은 순, 최근 사용량이 많은 순, 이름 순
+    private static final Comparator<PopularTagResponse> TOTAL_RANKING =
+            Comparator.comparing(PopularTagResponse::boardCount).reversed()
+                    .thenComparing(Comparator.comparing(PopularTagResponse::recentCount).reversed())
+                    .thenComparing(PopularTagResponse::name);
+
+    // 최근 사용량이 많은 순, 전체 게시글이 많은 순, 이름 순
+    private static final Comparator<PopularTagResponse> RECENT_RANKING =
+            Comparator.comparing(PopularTagResponse::recentCount).reversed()
+                    .thenComparing(Comparator.comparing(PopularTagResponse::boardCount).reversed())
+                    .thenComparing(PopularTagResponse::name);
+
+    private final Logger logger = LoggerFactory.getLogger(TagPopularityCounter.class);
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, TagCounts> counts = new HashMap<>();
+    private volatile List<PopularTagResponse> mostUsedTags = List.of();
+    private volatile List<PopularTagResponse> trendingTags = List.of();
+
+    private final TagRepository tagRepository;
+    private final TagPopularityRepository tagPopularityRepository;
+    private final TagHourlyUsageRepository tagHourlyUsageRepository;
+    private final TagPopularityCheckpointRepository checkpointRepository;
+    private final TagSuggester tagSuggester;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate loadTransaction;
+    private final int windowHours;
+    private final int topSize;
+    private final Duration snapshotLag;
+
+    public TagPopularityCounter(final TagRepository tagRepository,
+                                final TagPopularityRepository tagPopularityRepository,
+                                final TagHourlyUsageRepository tagHourlyUsageRepository,
+                                final TagPopularityCheckpointRepository checkpointRepository,
+                                final TagSuggester tagSuggester,
+                                final PlatformTransactionManager transactionManager,
+                                @Value("${tag.popularity.window-hours:24}") final int windowHours,
+                                @Value("${tag.popularity.top-size:20}") final int topSize,
+                                @Value("${tag.popularity.snapshot-lag:1m}") final Duration snapshotLag) {
+        this.tagRepository = tagRepository;
+        this.tagPopularityRepository = tagPopularityRepository;
+        this.tagHourlyUsageRepository = tagHourlyUsageRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.tagSuggester = tagSuggester;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        this.loadTransaction.setReadOnly(true);
+        this.loadTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.windowHours = Math.max(1, windowHours);
+        this.topSize = Math.max(1, topSize);
+        this.snapshotLag = snapshotLag;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        load(currentHour());
+    }
+
+    /**
+     * 체크포인트, 스냅샷, 시간별 사용량, 체크포인트 이후의 연결을 하나의 읽기 전용 REPEATABLE_READ 트랜잭션에서 읽으므로,
+     * 그 사이에 다른 서버가 스냅샷을 저장하고 체크포인트를 옮겨도 같은 연결을 두 번 더하거나 빠뜨리지 않는다.
+     */
+    void load(final long currentHour) {
+
+        if (!checkpointRepository.existsById(TagPopularityCheckpoint.ID)) {
+            initialize();
+        }
+
+        final StoredCounts stored = loadTransaction.execute(status -> read(currentHour));
+        final List<TagBoardCount> snapshot = stored.snapshot();
+        final List<TagHourlyUsage> usages = stored.usages();
+        final List<TagUsage> unsaved = stored.unsaved();
+
+        final List<TagBoardCount> boardCounts;
+        lock.writeLock().lock();
+        try {
+            snapshot.forEach(count -> tagCounts(count.tagId(), count.name()).boardCount += count.boardCount());
+            usages.forEach(usage -> {
+                final TagCounts tag = counts.get(usage.getTagId());
+                if (tag != null) {
+                    tag.add(usage.getBucketHour(), usage.getUsageCount());
+                }
+            });
+            // 마지막 스냅샷 이후의 연결은 다음 스냅샷에 저장되고, 메모리에는 지금 더한다.
+            unsaved.forEach(usage -> {
+                final TagCounts tag = tagCounts(usage.tagId(), usage.name());
+                tag.boardCount++;
+                tag.add(hourOf(usage.createdAt()), 1L);
+            });
+
+            boardCounts = counts.entrySet().stream()
+                    .map(entry -> new TagBoardCount(entry.getKey(), entry.getValue().name, entry.getValue().boardCount))
+                    .toList();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        tagSuggester.load(boardCounts);
+        refresh(currentHour);
+
+        logger.info("[Result] 태그 인기도 적재 - 태그 {}개, 스냅샷 이후의 연결 {}개", boardCounts.size(), unsaved.size());
+    }
+
+    private StoredCounts read(final long currentHour) {
+
+        final TagPopularityCheckpoint checkpoint = checkpointRepository.findById(TagPopularityCheckpoint.ID)
+                .orElseThrow();
+        return new StoredCounts(
+                tagPopularityRepository.findAllBoardCounts(),
+                tagHourlyUsageRepository.findAllByBucketHourGreaterThanEqual(windowStart(currentHour)),
+                findAllUsagesAfter(checkpoint.getLastBoardTagId()));
+    }
+
+    /**
+     * 체크포인트가 없을 때 지금까지의 게시글과 태그의 연결을 한 번 집계해 스냅샷과 체크포인트를 만든다. <br/>
+     * 다른 서버가 먼저 만들었다면(체크포인트의 기본 키 위반) 그 체크포인트를 사용한다.
+     */
+    private void initialize() {
+
+        final long lastBoardTagId = tagRepository.findLastBoardTagId();
+        final Map<Long, Long> boardCounts = countBoards(lastBoardTagId);
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                tagPopularityRepository.deleteAllInBatch();
+                tagPopularityRepository.saveAll(boardCounts.entrySet().stream()
+                        .map(entry -> new TagPopularity(entry.getKey(), entry.getValue()))
+                        .toList());
+                checkpointRepository.saveAndFlush(new TagPopularityCheckpoint(lastBoardTagId));
+            });
+
+            logger.info("[Result] 태그 인기도 스냅샷 생성 - 태그 {}개", boardCounts.size());
+        } catch (final DataIntegrityViolationException e) {
+            if (!checkpointRepository.existsById(TagPopularityCheckpoint.ID)) {
+                throw e;
+            }
+        }
+    }
+
+    private Map<Long, Long> countBoards(final long lastBoardTagId) {
+
+        final List<TagBoardCount> boardCounts = new ArrayList<>(tagRepository.countBoardTags(lastBoardTagId));
+        boardCounts.addAll(tagRepository.countRepresentativeOnlyBoards());
+        return boardCounts.stream()
+                .collect(Collectors.groupingBy(TagBoardCount::tagId, Collectors.summingLong(TagBoardCount::boardCount)));
+    }
+
+    private List<TagUsage> findAllUsagesAfter(final long lastBoardTagId) {
+
+        final List<TagUsage> usages = new ArrayList<>();
+        long lastId = lastBoardTagId;
+        List<TagUsage> chunk;
+        do {
+            chunk = tagRepository.findUsagesAfter(lastId, PageRequest.ofSize(SNAPSHOT_CHUNK_SIZE));
+            usages.addAll(chunk);
+            if (!chunk.isEmpty()) {
+                lastId = chunk.get(chunk.size() - 1).id();
+            }
+        } while (chunk.size() == SNAPSHOT_CHUNK_SIZE);
+
+        return usages;
+    }
+
+    /**
+     * 트랜잭션 안에서 호출되면, 커밋된 게시글의 태그만 집계되도록 커밋된 뒤에 증가시킨다.
+     */
+    public void increaseAfterCommit(final List<TagEntry> tags) {
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            increase(tags);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                increase(tags);
+            }
+        });
+    }
+
+    public void increase(final List<TagEntry> tags) {
+        increase(tags, currentHour());
+    }
+
+    void increase(final List<TagEntry> tags, final long hour) {
+
+        lock.writeLock().lock();
+        try {
+            tags.forEach(tag -> {
+                final TagCounts tagCounts = tagCounts(tag.id(), tag.name());
+                tagCounts.boardCount++;
+                tagCounts.add(hour, 1L);
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        tagSuggester.increase(tags);
+    }
+
+    // write lock 을 잡은 상태에서 호출한다.
+    private TagCounts tagCounts(final Long tagId, final String name) {
+        return counts.computeIfAbsent(tagId, id -> new TagCounts(name, windowHours));
+    }
+
+    @Scheduled(fixedDelayString = "${tag.popularity.refresh-interval:60000}")
+    public void refresh() {
+        refresh(currentHour());
+    }
+
+    void refresh(final long currentHour) {
+
+        final List<PopularTagResponse> tags;
+        lock.readLock().lock();
+        try {
+            final long windowStart = windowStart(currentHour);
+            tags = counts.values().stream()
+                    .map(tag -> new PopularTagResponse(tag.name, tag.boardCount, tag.recent(windowStart, currentHour)))
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        mostUsedTags = top(tags, TOTAL_RANKING);
+        trendingTags = top(tags.stream().filter(tag -> tag.recentCount() > 0).toList(), RECENT_RANKING);
+    }
+
+    private List<PopularTagResponse> top(final List<PopularTagResponse> tags, final Comparator<PopularTagResponse> ranking) {
+
+        final PriorityQueue<PopularTagResponse> top = new PriorityQueue<>(ranking.reversed());
+        for (final PopularTagResponse tag : tags) {
+            top.offer(tag);
+            if (top.size() > topSize) {
+                top.poll();
+            }
+        }
+
+        final List<PopularTagResponse> ranked = new ArrayList<>(top);
+        ranked.sort(ranking);
+        return List.copyOf(ranked);
+    }
+
+    /**
+     * 마지막으로 계산된 인기 태그를 최대 size 개 반환한다.
+     */
+    public List<PopularTagResponse> getPopularTags(final TagPopularityType type, final int size) {
+
+        final List<PopularTagResponse> ranked = type == TagPopularityType.RECENT ? trendingTags : mostUsedTags;
+        return ranked.subList(0, Math.min(Math.max(size, 0), ranked.size()));
+    }
+
+    @Scheduled(fixedDelayString = "${tag.popularity.snapshot-interval:300000}")
+    public void snapshot() {
+        snapshot(currentHour(), LocalDateTime.now().minus(snapshotLag));
+    }
+
+    /**
+     * 체크포인트 이후의 게시글과 태그의 연결을 chunk 단위로 스냅샷에 더하고 체크포인트를 옮긴다. <br/>
+     * 연결의 id 는 커밋 순서와 다를 수 있으므로, 아직 커밋되지 않은 연결을 건너뛰지 않도록 createdBefore 이전에 작성된 게시글의 연결까지만 더한다.
+     */
+    void snapshot(final long currentHour, final LocalDateTime createdBefore) {
+
+        final long windowStart = windowStart(currentHour);
+        long saved = 0;
+        try {
+            int chunk;
+            do {
+                chunk = transactionTemplate.execute(status -> save(windowStart, createdBefore));
+                saved += chunk;
+            } while (chunk == SNAPSHOT_CHUNK_SIZE);
+
+            transactionTemplate.executeWithoutResult(status -> tagHourlyUsageRepository.deleteExpired(windowStart));
+        } catch (final RuntimeException e) {
+            // 저장하지 못한 연결은 체크포인트가 옮겨지지 않았으므로 다음 주기에 다시 더한다.
+            logger.warn("[Result] 태그 인기도 스냅샷 저장 실패", e);
+            return;
+        }
+
+        if (saved > 0) {
+            logger.info("[Result] 게시글과 태그의 연결 {}개를 인기도 스냅샷에 저장", saved);
+        }
+    }
+
+    private int save(final long windowStart, final LocalDateTime createdBefore) {
+
+        final TagPopularityCheckpoint checkpoint = checkpointRepository.findByIdForUpdate(TagPopularityCheckpoint.ID)
+                .orElse(null);
+        if (checkpoint == null) {
+            return 0;
+        }
+
+        final List<TagUsage> usages = tagRepository
+                .findUsagesAfter(checkpoint.getLastBoardTagId(), PageRequest.ofSize(SNAPSHOT_CHUNK_SIZE)).stream()
+                .takeWhile(usage -> usage.createdAt().isBefore(createdBefore))
+                .toList();
+        if (usages.isEmpty()) {
+            return 0;
+        }
+
+        final Map<Long, Long> boardCounts = usages.stream()
+                .collect(Collectors.groupingBy(TagUsage::tagId, Collectors.counting()));
+        final Map<TagHour, Long> hourlyCounts = usages.stream()
+                .filter(usage -> hourOf(usage.createdAt()) >= windowStart)
+                .collect(Collectors.groupingBy(usage -> new TagHour(usage.tagId(), hourOf(usage.createdAt())), Collectors.counting()));
+
+        final Map<Long, TagPopularity> popularities = tagPopularityRepository.findAllByTagIdIn(boardCounts.keySet()).stream()
+                .collect(Collectors.toMap(TagPopularity::getTagId, Function.identity()));
+        final Map<TagHour, TagHourlyUsage> hourlyUsages = tagHourlyUsageRepository
+                .findAllByTagIdInAndBucketHourGreaterThanEqual(boardCounts.keySet(), windowStart).stream()
+                .collect(Collectors.toMap(usage -> new TagHour(usage.getTagId(), usage.getBucketHour()), Function.identity()));
+
+        final List<TagPopularity> newPopularities = new ArrayList<>();
+        boardCounts.forEach((tagId, count) -> {
+            final TagPopularity popularity = popularities.get(tagId);
+            if (popularity == null) {
+                newPopularities.add(new TagPopularity(tagId, count));
+            } else {
+                popularity.increase(count);
+            }
+        });
+
+        final List<TagHourlyUsage> newUsages = new ArrayList<>();
+        hourlyCounts.forEach((tagHour, count) -> {
+            final TagHourlyUsage usage = hourlyUsages.get(tagHour);
+            if (usage == null) {
+                newUsages.add(new TagHourlyUsage(tagHour.tagId(), tagHour.hour(), count));
+            } else {
+                usage.increase(count);
+            }
+        });
+
+        tagPopularityRepository.saveAll(newPopularities);
+        tagHourlyUsageRepository.saveAll(newUsages);
+        checkpoint.advance(usages.get(usages.size() - 1).id());
+        return usages.size();
+    }
+
+    @PreDestroy
+    public void drain() {
+        snapshot();
+    }
+
+    private long windowStart(final long currentHour) {
+        return currentHour - windowHours + 1;
+    }
+
+    private static long currentHour() {
+        return System.currentTimeMillis() / HOUR_MILLIS;
+    }
+
+    private static long hourOf(final LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() / HOUR_MILLIS;
+    }
+
+    /**
+     * 한 태그의 집계 <br/>
+     * 버킷 i 는 epoch 부터 지난 시간(hour)을 windowHours 로 나눈 나머지가 i 인 시간의 사용량이며,
+     * 버킷의 시간이 바뀌면 이전 사용량은 집계 기간이 지난 것이므로 0 부터 다시 센다.
+     */
+    private static final class TagCounts {
+
+        private final String name;
+        private long boardCount;
+        private final long[] bucketHours;
+        private final long[] usages;
+
+        private TagCounts(final String name, final int windowHours) {
+            this.name = name;
+            this.bucketHours = new long[windowHours];
+            this.usages = new long[windowHours];
+            Arrays.fill(bucketHours, Long.MIN_VALUE);
+        }
+
+        private void add(final long hour, final long count) {
+
+            final int bucket = Math.floorMod(hour, usages.length);
+            if (bucketHours[bucket] > hour) {
+                return;
+            }
+            if (bucketHours[bucket] != hour) {
+                bucketHours[bucket] = hour;
+                usages[bucket] = 0;
+            }
+            usages[bucket] += count;
+        }
+
+        private long recent(final long windowStart, final long currentHour) {
+
+            long recent = 0;
+            for (int bucket = 0; bucket < usages.length; bucket++) {
+                if (bucketHours[bucket] >= windowStart && bucketHours[bucket] <= currentHour) {
+                    recent += usages[bucket];
+                }
+            }
+            return recent;
+        }
+    }
+
+    private record TagHour(Long tagId, long hour) {
+    }
+
+    private record StoredCounts(List<TagBoardCount> snapshot, List<TagHourlyUsage> usages, List<TagUsage> unsaved) {
+    }
+}
@@ -0,0 +1,18 @@
+package io.wisoft.wasabi.domain.tag.application;
+
+import io.wisoft.wasabi.domain.tag.persistence.TagBoardCount;
+import io.wisoft.wasabi.domain.tag.persistence.TagPopularity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface TagPopularityRepository extends JpaRepository<TagPopularity, Long> {
+
+    @Query("SELECT new io.wisoft.wasabi.domain.tag.persistence.TagBoardCount(tag.id, tag.name, popularity.boardCount)" +
+            " FROM TagPopularity popularity JOIN Tag tag ON tag.id = popularity.tagId")
+    List<TagBoardCount> findAllBoardCounts();
+
+    List<TagPopularity> findAllByTagIdIn(final Collection<Long> tagIds);
+}
@@ -1,11 +1,57 @@
 package io.wisoft.wasabi.domain.tag.application;
 
 import io.wisoft.wasabi.domain.tag.persistence.Tag;
+import io.wisoft.wasabi.domain.tag.persistence.TagBoardCount;
+import io.wisoft.wasabi.domain.tag.persistence.TagEntry;
+import io.wisoft.wasabi.domain.tag.persistence.TagUsage;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface TagRepository extends JpaRepository<Tag, Long> {
 
     Optional<Tag> findByName(final String name);
+
+    /**
+     * 대소문자를 구분하지 않는 collation 에서는 요청한 이름과 다른 이름(DB 의 태그 이름)의 태그가 조회될 수 있다.
+     */
+    @Query("SELECT new io.wisoft.wasabi.domain.tag.persistence.TagEntry(tag.id, tag.name) FROM Tag tag WHERE tag.name = :name")
+    Optional<TagEntry> findEntryByName(@Param("name") final String name);
+
+    @Query("SELECT new io.wisoft.wasabi.domain.tag.persistence.TagEntry(tag.id, tag.name) FROM Tag tag ORDER BY tag.id")
+    List<TagEntry> findAllEntries();
+
+    /**
+     * lastId 까지의 게시글과 태그의 연결 수
+     */
+    @Query("SELECT new io.wisoft.wasabi.domain.tag.persistence.TagBoardCount(tag.id, tag.name, COUNT(boardTag))" +
+            " FROM BoardTag boardTag JOIN boardTag.tag tag" +
+            " WHERE boardTag.id <= :lastId" +
+            " GROUP BY tag.id, tag.name")
+    List<TagBoardCount> countBoardTags(@Param("lastId") final Long lastId);
+
+    /**
+     * 여러 태그를 지원하기 이전에 작성되어 게시글과 태그의 연결 없이 대표 태그만 가진 게시글 수
+     */
+    @Query("SELECT new io.wisoft.wasabi.domain.tag.persistence.TagBoardCount(tag.id, tag.name, COUNT(board))" +
+            " FROM Board board JOIN board.tag tag" +
+            " WHERE NOT EXISTS (SELECT boardTag.id FROM BoardTag boardTag WHERE boardTag.board = board AND boardTag.tag = tag)" +
+            " GROUP BY tag.id, tag.name")
+    List<TagBoardCount> countRepresentativeOnlyBoards();
+
+    @Query("SELECT COALESCE(MAX(boardTag.id), 0) FROM BoardTag boardTag")
+    long findLastBoardTagId();
+
+    /**
+     * lastId 이후의 게시글과 태그의 연결을 id 순으로 조회한다.
+     */
+    @Query("SELECT new io.wisoft.wasabi.domain.tag.persistence.TagUsage(boardTag.id, tag.id, tag.name, board.createdAt)" +
+            " FROM BoardTag boardTag JOIN boardTag.tag tag JOIN boardTag.board board" +
+            " WHERE boardTag.id > :lastId" +
+            " ORDER BY boardTag.id")
+    List<TagUsage> findUsagesAfter(@Param("lastId") final Long lastId, final Pageable pageable);
 }
@@ -0,0 +1,43 @@
+package io.wisoft.wasabi.domain.tag.application;
+
+import io.wisoft.wasabi.domain.tag.persistence.TagPopularityType;
+import io.wisoft.wasabi.domain.tag.web.TagService;
+import io.wisoft.wasabi.domain.tag.web.dto.PopularTagResponse;
+import io.wisoft.wasabi.domain.tag.web.dto.TagSuggestResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+public class TagServiceImpl implements TagService {
+
+    private final Logger logger = LoggerFactory.getLogger(TagServiceImpl.class);
+    private final TagSuggester tagSuggester;
+    private final TagPopularityCounter tagPopularityCounter;
+
+    public TagServiceImpl(final TagSuggester tagSuggester,
+                          final TagPopularityCounter tagPopularityCounter) {
+        this.tagSuggester = tagSuggester;
+        this.tagPopularityCounter = tagPopularityCounter;
+    }
+
+    @Override
+    public List<TagSuggestResponse> suggestTags(final String prefix, final int size) {
+
+        final List<TagSuggestResponse> suggestions = tagSuggester.suggest(prefix, size);
+
+        logger.info("[Result] {} 로 시작하는 태그 {}개 추천", prefix, suggestions.size());
+        return suggestions;
+    }
+
+    @Override
+    public List<PopularTagResponse> getPopularTags(final TagPopularityType type, final int size) {
+
+        final List<PopularTagResponse> popularTags = tagPopularityCounter.getPopularTags(type, size);
+
+        logger.info("[Result] {} 기준 인기 태그 {}개 조회", type, popularTags.size());
+        return popularTags;
+    }
+}
@@ -0,0 +1,249 @@
+package io.wisoft.wasabi.domain.tag.application;
+
+import io.wisoft.wasabi.domain.tag.persistence.TagBoardCount;
+import io.wisoft.wasabi.domain.tag.persistence.TagEntry;
+import io.wisoft.wasabi.domain.tag.web.dto.TagSuggestResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 태그 이름의 접두어로 태그를 추천하는 메모리 압축 트라이(radix tree) <br/>
+ * 노드마다 하위 태그 중 게시글이 많은 태그를 최대 maxSuggestions 개까지 미리 정렬해 두므로,
+ * 추천은 DB 를 거치지 않고 접두어 길이만큼 트라이를 내려간 뒤 해당 노드의 목록을 반환한다. <br/>
+ * 태그별 게시글 수는 TagPopularityCounter 가 적재하고 갱신하며, 게시글에 태그가 달릴 때마다 해당 태그의 경로만 갱신한다.
+ * 대소문자는 구분하지 않으며, 태그는 id 로 구분하여 대소문자만 다른 이름(Spring, spring)으로 달린 게시글도 한 태그로 센다.
+ * 추천하는 이름은 태그를 처음 적재할 때의 이름(DB 의 태그 이름)이다.
+ */
+@Component
+public class TagSuggester {
+
+    // 게시글이 많은 순, 게시글 수가 같다면 이름 순
+    private static final Comparator<Candidate> RANKING =
+            Comparator.comparingLong(Candidate::boardCount).reversed()
+                    .thenComparing(Candidate::name);
+
+    private final Logger logger = LoggerFactory.getLogger(TagSuggester.class);
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Node root = new Node("");
+    private final Map<Long, Candidate> candidates = new HashMap<>();
+    private final int maxSuggestions;
+
+    public TagSuggester(@Value("${tag.suggest.max-size:10}") final int maxSuggestions) {
+        this.maxSuggestions = Math.max(1, maxSuggestions);
+    }
+
+    public void load(final Collection<TagBoardCount> counts) {
+
+        lock.writeLock().lock();
+        try {
+            counts.forEach(count -> add(count.tagId(), count.name(), count.boardCount()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        logger.info("[Result] 태그 추천 트라이 생성 - 태그 {}개", size());
+    }
+
+    public void increase(final Collection<TagEntry> tags) {
+
+        lock.writeLock().lock();
+        try {
+            tags.forEach(tag -> add(tag.id(), tag.name(), 1L));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 접두어로 시작하는 태그를 게시글이 많은 순으로 최대 size 개 반환한다. 접두어가 비어 있다면 전체 태그 중에서 반환한다.
+     */
+    public List<TagSuggestResponse> suggest(final String prefix, final int size) {
+
+        final String key = prefix == null ? "" : normalize(prefix);
+        final int limit = Math.min(Math.max(size, 0), maxSuggestions);
+
+        lock.readLock().lock();
+        try {
+            final Node node = find(key);
+            if (node == null) {
+                return List.of();
+            }
+
+            return node.top.stream()
+                    .limit(limit)
+                    .map(candidate -> new TagSuggestResponse(candidate.name(), candidate.boardCount()))
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+
+        lock.readLock().lock();
+        try {
+            return candidates.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 태그의 게시글 수를 count 만큼 늘리고, 루트부터 태그의 노드까지 경로의 상위 목록을 갱신한다. <br/>
+     * 게시글 수는 줄어들지 않으므로, 경로 밖의 노드의 상위 목록은 바뀌지 않는다. write lock 을 잡은 상태에서 호출한다. <br/>
+     * 이미 적재된 태그라면 전달한 이름 대신 적재된 이름의 경로를 갱신한다.
+     */
+    void add(final Long tagId, final String name, final long count) {
+
+        if (normalize(name).isEmpty()) {
+            return;
+        }
+
+        final Candidate candidate = candidates.computeIfAbsent(tagId, id -> new Candidate(name));
+        candidate.boardCount += count;
+
+        final String key = normalize(candidate.name());
+
+        insert(key).forEach(node -> node.offer(candidate, maxSuggestions));
+    }
+
+    // 키의 경로를 만들면서, 루트부터 키가 끝나는 노드까지 거쳐 간 노드를 반환한다.
+    private List<Node> insert(final String key) {
+
+        final List<Node> path = new ArrayList<>();
+        path.add(root);
+
+        Node node = root;
+        int offset = 0;
+        while (offset < key.length()) {
+            Node child = node.children.get(key.charAt(offset));
+            if (child == null) {
+                final Node leaf = new Node(key.substring(offset));
+                node.children.put(key.charAt(offset), leaf);
+                path.add(leaf);
+                return path;
+            }
+
+            final int common = commonPrefixLength(child.edge, key, offset);
+            if (common < child.edge.length()) {
+                child = split(node, child, common);
+            }
+
+            path.add(child);
+            node = child;
+            offset += common;
+        }
+
+        return path;
+    }
+
+    // 간선을 공통 접두어에서 나눈다. 새 중간 노드의 하위 태그는 기존 자식 노드와 같으므로 상위 목록을 그대로 복사한다.
+    private Node split(final Node parent, final Node child, final int at) {
+
+        final Node middle = new Node(child.edge.substring(0, at));
+        middle.top.addAll(child.top);
+
+        child.edge = child.edge.substring(at);
+        middle.children.put(child.edge.charAt(0), child);
+        parent.children.put(middle.edge.charAt(0), middle);
+        return middle;
+    }
+
+    // 접두어가 간선 중간에서 끝나면, 그 간선의 아래 노드가 접두어로 시작하는 모든 태그를 가진다.
+    private Node find(final String prefix) {
+
+        Node node = root;
+        int offset = 0;
+        while (offset < prefix.length()) {
+            final Node child = node.children.get(prefix.charAt(offset));
+            if (child == null) {
+                return null;
+            }
+
+            final int common = commonPrefixLength(child.edge, prefix, offset);
+            if (offset + common == prefix.length()) {
+                return child;
+            }
+            if (common < child.edge.length()) {
+                return null;
+            }
+
+            node = child;
+            offset += common;
+        }
+
+        return node;
+    }
+
+    private static int commonPrefixLength(final String edge, final String key, final int offset) {
+
+        int length = 0;
+        while (length < edge.length()
+                && offset + length < key.length()
+                && edge.charAt(length) == key.charAt(offset + length)) {
+            length++;
+        }
+        return length;
+    }
+
+    private static String normalize(final String name) {
+        return name.strip().toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Node {
+
+        private String edge;
+        private final Map<Character, Node> children = new HashMap<>(4);
+        private final List<Candidate> top = new ArrayList<>(4);
+
+        private Node(final String edge) {
+            this.edge = edge;
+        }
+
+        // 게시글 수가 늘어난 태그를 상위 목록에 반영한다. 목록은 최대 limit 개이므로 정렬 비용은 상수다.
+        private void offer(final Candidate candidate, final int limit) {
+
+            if (!top.contains(candidate)) {
+                if (top.size() == limit && RANKING.compare(candidate, top.get(limit - 1)) >= 0) {
+                    return;
+                }
+                top.add(candidate);
+            }
+
+            top.sort(RANKING);
+            if (top.size() > limit) {
+                top.remove(limit);
+            }
+        }
+    }
+
+    private static final class Candidate {
+
+        private final String name;
+        private long boardCount;
+
+        private Candidate(final String name) {
+            this.name = name;
+        }
+
+        private String name() {
+            return name;
+        }
+
+        private long boardCount() {
+            return boardCount;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package io.wisoft.wasabi.domain.tag.persistence;
+
+/**
+ * 태그와 태그가 달린 게시글 수
+ */
+public record TagBoardCount(
+        Long tagId,
+        String name,
+        Long boardCount
+) {
+}
@@ -0,0 +1,10 @@
+package io.wisoft.wasabi.domain.tag.persistence;
+
+/**
+ * 태그 사전에 적재하는 태그의 이름과 id
+ */
+public record TagEntry(
+        Long id,
+        String name
+) {
+}
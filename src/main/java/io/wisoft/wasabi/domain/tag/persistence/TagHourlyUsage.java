@@ -0,0 +1,59 @@
+package io.wisoft.wasabi.domain.tag.persistence;
+
+import jakarta.persistence.*;
+
+import static jakarta.persistence.GenerationType.IDENTITY;
+
+/**
+ * 한 시간 동안 태그가 달린 게시글 수의 스냅샷 <br/>
+ * bucketHour 는 epoch 부터 지난 시간(hour)이며, 최근 사용량 집계 기간이 지난 스냅샷은 삭제한다.
+ */
+@Entity
+@Table(
+        uniqueConstraints = @UniqueConstraint(name = "uk_tag_hourly_usage_tag_id_bucket_hour", columnNames = {"tag_id", "bucket_hour"}),
+        indexes = @Index(name = "idx_tag_hourly_usage_bucket_hour", columnList = "bucket_hour")
+)
+public class TagHourlyUsage {
+
+    @Id
+    @GeneratedValue(strategy = IDENTITY)
+    private Long id;
+
+    @Column(name = "tag_id", nullable = false)
+    private Long tagId;
+
+    @Column(name = "bucket_hour", nullable = false)
+    private long bucketHour;
+
+    @Column(nullable = false)
+    private long usageCount;
+
+    protected TagHourlyUsage() {
+    }
+
+    public TagHourlyUsage(final Long tagId, final long bucketHour, final long usageCount) {
+        this.tagId = tagId;
+        this.bucketHour = bucketHour;
+        this.usageCount = usageCount;
+    }
+
+    public void increase(final long count) {
+        this.usageCount += count;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getTagId() {
+        return tagId;
+    }
+
+    public long getBucketHour() {
+        return bucketHour;
+    }
+
+    public long getUsageCount() {
+        return usageCount;
+    }
+}
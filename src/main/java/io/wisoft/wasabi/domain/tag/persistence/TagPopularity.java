@@ -0,0 +1,48 @@
+package io.wisoft.wasabi.domain.tag.persistence;
+
+import jakarta.persistence.*;
+
+import static jakarta.persistence.GenerationType.IDENTITY;
+
+/**
+ * 태그별 게시글 수의 스냅샷 <br/>
+ * 애플리케이션이 다시 시작될 때 게시글 전체를 집계하지 않고 태그별 게시글 수를 복원하기 위해 사용한다.
+ * TagPopularityCheckpoint 까지의 게시글과 태그의 연결을 집계한 값이다.
+ */
+@Entity
+public class TagPopularity {
+
+    @Id
+    @GeneratedValue(strategy = IDENTITY)
+    private Long id;
+
+    @Column(name = "tag_id", nullable = false, unique = true)
+    private Long tagId;
+
+    @Column(nullable = false)
+    private long boardCount;
+
+    protected TagPopularity() {
+    }
+
+    public TagPopularity(final Long tagId, final long boardCount) {
+        this.tagId = tagId;
+        this.boardCount = boardCount;
+    }
+
+    public void increase(final long count) {
+        this.boardCount += count;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getTagId() {
+        return tagId;
+    }
+
+    public long getBoardCount() {
+        return boardCount;
+    }
+}
@@ -0,0 +1,40 @@
+package io.wisoft.wasabi.domain.tag.persistence;
+
+import jakarta.persistence.*;
+
+/**
+ * 태그 인기도 스냅샷에 반영된 마지막 게시글과 태그의 연결(BoardTag)의 id <br/>
+ * 스냅샷은 이 id 까지의 연결을 집계한 값이며, 이후의 연결은 스냅샷을 저장하거나 적재할 때 더한다.
+ * 여러 서버가 같은 연결을 두 번 더하지 않도록 한 행만 두고, 스냅샷을 저장할 때 잠근다.
+ */
+@Entity
+public class TagPopularityCheckpoint {
+
+    public static final Long ID = 1L;
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private long lastBoardTagId;
+
+    protected TagPopularityCheckpoint() {
+    }
+
+    public TagPopularityCheckpoint(final long lastBoardTagId) {
+        this.id = ID;
+        this.lastBoardTagId = lastBoardTagId;
+    }
+
+    public void advance(final long lastBoardTagId) {
+        this.lastBoardTagId = Math.max(this.lastBoardTagId, lastBoardTagId);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public long getLastBoardTagId() {
+        return lastBoardTagId;
+    }
+}
@@ -0,0 +1,10 @@
+package io.wisoft.wasabi.domain.tag.persistence;
+
+/**
+ * 인기 태그의 기준 <br/>
+ * TOTAL: 태그가 달린 전체 게시글 수, RECENT: 최근 사용량 집계 기간 동안 태그가 달린 게시글 수
+ */
+public enum TagPopularityType {
+    TOTAL,
+    RECENT
+}
@@ -0,0 +1,14 @@
+package io.wisoft.wasabi.domain.tag.persistence;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글과 태그의 연결(BoardTag)과 게시글이 작성된 시간
+ */
+public record TagUsage(
+        Long id,
+        Long tagId,
+        String name,
+        LocalDateTime createdAt
+) {
+}
@@ -0,0 +1,59 @@
+package io.wisoft.wasabi.domain.tag.web;
+
+import io.wisoft.wasabi.domain.tag.persistence.TagPopularityType;
+import io.wisoft.wasabi.domain.tag.web.dto.PopularTagResponse;
+import io.wisoft.wasabi.domain.tag.web.dto.TagSuggestResponse;
+import io.wisoft.wasabi.global.config.web.response.Response;
+import io.wisoft.wasabi.global.config.web.response.ResponseType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/tags")
+public class TagController {
+
+    private final TagService tagService;
+
+    public TagController(final TagService tagService) {
+        this.tagService = tagService;
+    }
+
+    /**
+     * 접두어로 시작하는 태그를 게시글이 많은 순으로 추천한다. DB 대신 메모리 트라이를 사용한다.
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<Response<List<TagSuggestResponse>>> suggestTags(
+            @RequestParam(defaultValue = "") final String prefix,
+            @RequestParam(defaultValue = "10") final int size) {
+
+        final List<TagSuggestResponse> data = tagService.suggestTags(prefix, size);
+        return ResponseEntity.ofNullable(
+                Response.of(
+                        ResponseType.TAG_SUGGEST_SUCCESS,
+                        data
+                )
+        );
+    }
+
+    /**
+     * 태그가 달린 전체 게시글 수(TOTAL)나 최근 게시글 수(RECENT, 기본값) 순으로 인기 태그를 조회한다. 미리 계산된 목록을 사용한다.
+     */
+    @GetMapping("/popular")
+    public ResponseEntity<Response<List<PopularTagResponse>>> popularTags(
+            @RequestParam(defaultValue = "RECENT") final TagPopularityType type,
+            @RequestParam(defaultValue = "10") final int size) {
+
+        final List<PopularTagResponse> data = tagService.getPopularTags(type, size);
+        return ResponseEntity.ofNullable(
+                Response.of(
+                        ResponseType.TAG_POPULAR_SUCCESS,
+                        data
+                )
+        );
+    }
+}
@@ -0,0 +1,14 @@
+package io.wisoft.wasabi.domain.tag.web;
+
+import io.wisoft.wasabi.domain.tag.persistence.TagPopularityType;
+import io.wisoft.wasabi.domain.tag.web.dto.PopularTagResponse;
+import io.wisoft.wasabi.domain.tag.web.dto.TagSuggestResponse;
+
+import java.util.List;
+
+public interface TagService {
+
+    List<TagSuggestResponse> suggestTags(final String prefix, final int size);
+
+    List<PopularTagResponse> getPopularTags(final TagPopularityType type, final int size);
+}
@@ -0,0 +1,8 @@
+package io.wisoft.wasabi.domain.tag.web.dto;
+
+public record PopularTagResponse(
+        String name,
+        Long boardCount,
+        Long recentCount
+) {
+}
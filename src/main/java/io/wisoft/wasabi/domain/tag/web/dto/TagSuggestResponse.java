@@ -0,0 +1,7 @@
+package io.wisoft.wasabi.domain.tag.web.dto;
+
+public record TagSuggestResponse(
+        String name,
+        Long boardCount
+) {
+}
@@ -7,6 +7,9 @@ public final class Const {
      */
     public static final String TOKEN_TYPE = "Bearer";
     public static final String IS_AUTHENTICATED = "isAuthenticated";
+    public static final String ANONYMOUS_ID = "anonymousId";
+    public static final String AUTH_PRINCIPAL = "authPrincipal";
+    public static final String AUTH_FAILURE = "authFailure";
     public static final String AUTH_HEADER = "Authorization";
 
     /**
@@ -37,6 +40,11 @@ public final class Const {
     public static final String IMAGE_EXTENSION_JPG = "image/jpg";
     public static final String CONTENT_TYPE_IMAGE = "image/";
 
+    /**
+     * 게시글 목록 커서 페이징
+     */
+    public static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     /**
      * 메일 인증 관련
      */
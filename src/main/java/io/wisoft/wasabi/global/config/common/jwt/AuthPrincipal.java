@@ -0,0 +1,13 @@
+package io.wisoft.wasabi.global.config.common.jwt;
+
+import io.wisoft.wasabi.domain.member.persistence.Role;
+
+/**
+ * 검증을 마친 액세스 토큰의 회원 정보
+ */
+public record AuthPrincipal(
+        Long memberId,
+        Role role,
+        boolean activation
+) {
+}
@@ -1,5 +1,6 @@
 package io.wisoft.wasabi.global.config.common.jwt;
 
+import io.wisoft.wasabi.domain.auth.exception.AuthExceptionExecutor;
 import io.wisoft.wasabi.global.config.common.Const;
 import jakarta.servlet.http.HttpServletRequest;
 import org.apache.logging.log4j.util.Strings;
@@ -18,4 +19,19 @@ public class AuthorizationExtractor {
         }
         return Strings.EMPTY;
     }
+
+    /**
+     * AuthenticationFilter 에서 검증해 둔 회원 정보를 꺼낸다. <br/>
+     * 토큰 검증에 실패했다면 그때 발생한 예외를, 토큰이 없다면 UnAuthorized 예외를 던진다.
+     */
+    public static AuthPrincipal extractPrincipal(final HttpServletRequest request) {
+        if (request.getAttribute(Const.AUTH_FAILURE) instanceof RuntimeException failure) {
+            throw failure;
+        }
+
+        if (request.getAttribute(Const.AUTH_PRINCIPAL) instanceof AuthPrincipal principal) {
+            return principal;
+        }
+        throw AuthExceptionExecutor.UnAuthorized();
+    }
 }
@@ -1,19 +1,29 @@
 package io.wisoft.wasabi.global.config.common.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import io.wisoft.wasabi.domain.member.persistence.Role;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import javax.crypto.KeyGenerator;
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
 @Component
-public class JwtTokenProvider {
+public class JwtTokenProvider implements MeterBinder {
 
     private final String secretKey;
 
@@ -23,13 +33,53 @@ public class JwtTokenProvider {
 
     private final SecretKey key;
 
+    // JwtParser 는 불변이며 thread-safe 하므로 요청마다 새로 만들지 않고 재사용한다.
+    private final JwtParser jwtParser;
+
+    // 검증을 마친 토큰의 회원 정보 (비활성화 시 null)
+    private final Cache<ByteBuffer, VerifiedToken> tokenCache;
+
     public JwtTokenProvider(@Value("${jwt.token.secret-key}") final String secretKey,
                             @Value("${jwt.access-token.expire-length}") final long accessTokenValidityInMilliseconds,
-                            @Value("${jwt.issuer}") final String issuer) {
+                            @Value("${jwt.issuer}") final String issuer,
+                            @Value("${jwt.token-cache.enabled:false}") final boolean tokenCacheEnabled,
+                            @Value("${jwt.token-cache.maximum-size:10000}") final long tokenCacheMaximumSize) {
         this.secretKey = secretKey;
         this.accessTokenValidityInMilliseconds = accessTokenValidityInMilliseconds;
         this.issuer = issuer;
         this.key = new SecretKeySpec(secretKey.getBytes(), "HmacSHA256");
+        this.jwtParser = Jwts.parser()
+            .verifyWith(this.key)
+            .build();
+        this.tokenCache = tokenCacheEnabled ? createTokenCache(tokenCacheMaximumSize) : null;
+    }
+
+    /**
+     * 토큰의 만료 시각이 지나면 캐시에서도 제거되도록 항목마다 만료 시간을 다르게 둔다.
+     */
+    private static Cache<ByteBuffer, VerifiedToken> createTokenCache(final long maximumSize) {
+        return Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfter(new Expiry<ByteBuffer, VerifiedToken>() {
+                @Override
+                public long expireAfterCreate(final ByteBuffer tokenHash, final VerifiedToken token, final long currentTime) {
+                    return token.timeToLiveNanos();
+                }
+
+                @Override
+                public long expireAfterUpdate(final ByteBuffer tokenHash, final VerifiedToken token,
+                                              final long currentTime, final long currentDuration) {
+                    return currentDuration;
+                }
+
+                @Override
+                public long expireAfterRead(final ByteBuffer tokenHash, final VerifiedToken token,
+                                            final long currentTime, final long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .recordStats()
+            .build();
     }
 
     public String createAccessToken(final Long memberId, final String name, final Role role, final boolean activation) {
@@ -49,24 +99,57 @@ public class JwtTokenProvider {
             .compact();
     }
 
-    public Long decodeAccessToken(final String accessToken) {
+    public AuthPrincipal decode(final String accessToken) {
+        if (this.tokenCache == null) {
+            return verify(accessToken).principal();
+        }
 
-        return Jwts.parser()
-            .verifyWith(this.key)
-            .build()
-            .parseSignedClaims(accessToken)
-            .getPayload()
-            .get("memberId", Double.class)
-            .longValue();
+        return this.tokenCache
+            .get(hash(accessToken), tokenHash -> verify(accessToken))
+            .principal();
     }
 
-    public Role decodeRole(final String accessToken) {
-        final Claims claims = Jwts.parser()
-            .verifyWith(this.key)
-            .build()
+    private VerifiedToken verify(final String accessToken) {
+        final Claims claims = this.jwtParser
             .parseSignedClaims(accessToken)
             .getPayload();
 
-        return Role.valueOf(claims.get("memberRole", String.class));
+        final AuthPrincipal principal = new AuthPrincipal(
+            claims.get("memberId", Double.class).longValue(),
+            Role.valueOf(claims.get("memberRole", String.class)),
+            claims.get("memberActivation", Boolean.class)
+        );
+        return new VerifiedToken(principal, claims.getExpiration());
+    }
+
+    // 토큰 원문 대신 해시를 키로 사용해 캐시가 토큰을 보관하지 않도록 한다.
+    private static ByteBuffer hash(final String accessToken) {
+        try {
+            final byte[] digest = MessageDigest.getInstance("SHA-256")
+                .digest(accessToken.getBytes(StandardCharsets.UTF_8));
+            return ByteBuffer.wrap(digest);
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 토큰 캐시의 hit/miss, 제거 횟수를 actuator(cache.* 메트릭)로 노출한다.
+     */
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        if (this.tokenCache != null) {
+            CaffeineCacheMetrics.monitor(registry, this.tokenCache, "jwtToken");
+        }
+    }
+
+    private record VerifiedToken(AuthPrincipal principal, Date expiration) {
+
+        private long timeToLiveNanos() {
+            if (expiration == null) {
+                return 0;
+            }
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, expiration.getTime() - System.currentTimeMillis()));
+        }
     }
 }
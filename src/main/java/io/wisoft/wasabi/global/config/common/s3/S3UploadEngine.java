@@ -0,0 +1,177 @@
+package io.wisoft.wasabi.global.config.common.s3;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 길이를 알고 있는 콘텐츠를 힙에 모두 올리지 않고 S3 에 업로드한다. <br/>
+ * - 임계값 미만: Content-Length 를 지정해 단일 PUT 으로 바로 스트리밍 <br/>
+ * - 임계값 이상: multipart upload 로 파트를 나누어 병렬 전송 <br/>
+ * 업로드 하나가 동시에 메모리에 올리는 파트 수는 max-parts-in-flight 로 제한되므로,
+ * 업로드당 사용하는 메모리는 최대 (max-parts-in-flight + 1) * part-size 이다.
+ */
+@Component
+@ConditionalOnProperty(name = "image.store.type", havingValue = "s3", matchIfMissing = true)
+public class S3UploadEngine {
+
+    private final Logger logger = LoggerFactory.getLogger(S3UploadEngine.class);
+    private final AmazonS3 amazonS3;
+    private final long multipartThreshold;
+    private final int partSize;
+    private final int maxPartsInFlight;
+    private final ThreadPoolTaskExecutor partExecutor;
+
+    public S3UploadEngine(final AmazonS3 amazonS3,
+                          @Value("${cloud.aws.s3.upload.multipart-threshold:16MB}") final DataSize multipartThreshold,
+                          @Value("${cloud.aws.s3.upload.part-size:8MB}") final DataSize partSize,
+                          @Value("${cloud.aws.s3.upload.max-parts-in-flight:4}") final int maxPartsInFlight,
+                          @Value("${cloud.aws.s3.upload.threads:8}") final int threads) {
+        this.amazonS3 = amazonS3;
+        this.multipartThreshold = multipartThreshold.toBytes();
+        this.partSize = Math.toIntExact(partSize.toBytes());
+        this.maxPartsInFlight = maxPartsInFlight;
+        this.partExecutor = createPartExecutor(threads);
+    }
+
+    // 스레드가 모두 사용 중이면 업로드를 요청한 스레드가 직접 전송하여, 대기 중인 파트가 쌓이지 않도록 한다.
+    private static ThreadPoolTaskExecutor createPartExecutor(final int threads) {
+        final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(threads);
+        executor.setThreadNamePrefix("S3PartUpload-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+
+        return executor;
+    }
+
+    public void upload(final String bucket,
+                       final String key,
+                       final InputStream content,
+                       final long contentLength,
+                       final String contentType) throws IOException {
+
+        final ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentType(contentType);
+
+        if (contentLength < multipartThreshold) {
+            metadata.setContentLength(contentLength);
+            amazonS3.putObject(new PutObjectRequest(bucket, key, content, metadata)
+                    .withCannedAcl(CannedAccessControlList.PublicRead));
+            return;
+        }
+
+        uploadMultipart(bucket, key, content, contentLength, metadata);
+    }
+
+    private void uploadMultipart(final String bucket,
+                                 final String key,
+                                 final InputStream content,
+                                 final long contentLength,
+                                 final ObjectMetadata metadata) throws IOException {
+
+        final String uploadId = amazonS3.initiateMultipartUpload(
+                new InitiateMultipartUploadRequest(bucket, key, metadata)
+                        .withCannedACL(CannedAccessControlList.PublicRead)
+        ).getUploadId();
+
+        try {
+            final List<PartETag> partETags = uploadParts(bucket, key, uploadId, content, contentLength);
+            amazonS3.completeMultipartUpload(new CompleteMultipartUploadRequest(bucket, key, uploadId, partETags));
+
+            logger.info("[Result] {} 을(를) {}개의 파트로 나누어 업로드", key, partETags.size());
+        } catch (final IOException | RuntimeException e) {
+            amazonS3.abortMultipartUpload(new AbortMultipartUploadRequest(bucket, key, uploadId));
+            throw e;
+        }
+    }
+
+    private List<PartETag> uploadParts(final String bucket,
+                                       final String key,
+                                       final String uploadId,
+                                       final InputStream content,
+                                       final long contentLength) throws IOException {
+
+        final Semaphore partsInFlight = new Semaphore(maxPartsInFlight);
+        final List<CompletableFuture<PartETag>> parts = new ArrayList<>();
+
+        long remaining = contentLength;
+        int partNumber = 1;
+        try {
+            // 앞선 파트 전송이 실패했다면 남은 콘텐츠를 더 읽지 않고 실패를 전파한다.
+            while (remaining > 0 && parts.stream().noneMatch(CompletableFuture::isCompletedExceptionally)) {
+                final byte[] part = content.readNBytes((int) Math.min(partSize, remaining));
+                if (part.length == 0) {
+                    throw new IOException("업로드할 콘텐츠가 Content-Length 보다 짧습니다.");
+                }
+                remaining -= part.length;
+
+                partsInFlight.acquire();
+                final UploadPartRequest request = new UploadPartRequest()
+                        .withBucketName(bucket)
+                        .withKey(key)
+                        .withUploadId(uploadId)
+                        .withPartNumber(partNumber++)
+                        .withInputStream(new ByteArrayInputStream(part))
+                        .withPartSize(part.length)
+                        .withLastPart(remaining == 0);
+
+                parts.add(CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return amazonS3.uploadPart(request).getPartETag();
+                    } finally {
+                        partsInFlight.release();
+                    }
+                }, partExecutor));
+            }
+
+            return CompletableFuture.allOf(parts.toArray(CompletableFuture[]::new))
+                    .thenApply(done -> parts.stream()
+                            .map(CompletableFuture::join)
+                            .sorted(Comparator.comparingInt(PartETag::getPartNumber))
+                            .toList())
+                    .join();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        partExecutor.shutdown();
+    }
+}
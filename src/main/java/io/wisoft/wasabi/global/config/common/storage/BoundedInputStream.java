@@ -0,0 +1,67 @@
+package io.wisoft.wasabi.global.config.common.storage;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 지정한 크기보다 많은 바이트를 읽으려 하면 바로 {@link LimitExceededException} 을 던져, 큰 요청을 끝까지 읽지 않고 중단한다.
+ */
+public class BoundedInputStream extends FilterInputStream {
+
+    private final long limit;
+    private long count;
+
+    public BoundedInputStream(final InputStream in, final long limit) {
+        super(in);
+        this.limit = limit;
+    }
+
+    @Override
+    public int read() throws IOException {
+
+        final int b = super.read();
+        if (b >= 0) {
+            increase(1);
+        }
+        return b;
+    }
+
+    @Override
+    public int read(final byte[] buffer, final int offset, final int length) throws IOException {
+
+        final int read = super.read(buffer, offset, length);
+        if (read > 0) {
+            increase(read);
+        }
+        return read;
+    }
+
+    @Override
+    public long skip(final long n) throws IOException {
+
+        final long skipped = super.skip(n);
+        increase(skipped);
+        return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    private void increase(final long read) throws LimitExceededException {
+
+        count += read;
+        if (count > limit) {
+            throw new LimitExceededException(limit);
+        }
+    }
+
+    public static class LimitExceededException extends IOException {
+
+        public LimitExceededException(final long limit) {
+            super(limit + " 바이트를 초과하는 요청");
+        }
+    }
+}
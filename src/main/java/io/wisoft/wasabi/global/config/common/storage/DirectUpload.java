@@ -0,0 +1,14 @@
+package io.wisoft.wasabi.global.config.common.storage;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * 클라이언트가 저장소에 직접 업로드할 때 사용하는 URL 과, 요청에 그대로 포함해야 하는 헤더
+ */
+public record DirectUpload(
+        String url,
+        Map<String, String> headers,
+        Instant expiresAt
+) {
+}
@@ -0,0 +1,61 @@
+package io.wisoft.wasabi.global.config.common.storage;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * 업로드를 허용하는 이미지 형식 <br/>
+ * 클라이언트가 보낸 Content-Type 대신 내용의 앞부분(magic bytes)으로 형식을 판별한다.
+ */
+public enum ImageContentType {
+
+    JPEG("image/jpeg", ".jpg", new byte[]{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF}),
+    PNG("image/png", ".png", new byte[]{(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'});
+
+    // 판별에 필요한 최대 바이트 수
+    public static final int SIGNATURE_LENGTH = 8;
+
+    private final String mimeType;
+    private final String extension;
+    private final byte[] signature;
+
+    ImageContentType(final String mimeType, final String extension, final byte[] signature) {
+        this.mimeType = mimeType;
+        this.extension = extension;
+        this.signature = signature;
+    }
+
+    public String getMimeType() {
+        return mimeType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * 클라이언트가 선언한 Content-Type 으로 형식을 찾는다. (image/jpg 는 image/jpeg 로 취급)
+     */
+    public static Optional<ImageContentType> ofMimeType(final String mimeType) {
+
+        final String normalized = "image/jpg".equalsIgnoreCase(mimeType) ? JPEG.mimeType : mimeType;
+        return Arrays.stream(values())
+                .filter(type -> type.mimeType.equalsIgnoreCase(normalized))
+                .findFirst();
+    }
+
+    public static Optional<ImageContentType> sniff(final byte[] header, final int length) {
+
+        return Arrays.stream(values())
+                .filter(type -> type.matches(header, length))
+                .findFirst();
+    }
+
+    private boolean matches(final byte[] header, final int length) {
+
+        if (length < signature.length) {
+            return false;
+        }
+        return Arrays.equals(header, 0, signature.length, signature, 0, signature.length);
+    }
+}
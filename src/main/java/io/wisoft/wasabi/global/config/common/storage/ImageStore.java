@@ -0,0 +1,50 @@
+package io.wisoft.wasabi.global.config.common.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+
+/**
+ * 이미지 저장소 <br/>
+ * 구현체는 image.store.type 속성(s3, local)으로 선택한다.
+ */
+public interface ImageStore {
+
+    void store(final String key, final InputStream content, final long contentLength, final String contentType) throws IOException;
+
+    /**
+     * 저장소에 접근하지 않고 이미지를 조회할 수 있는 URL 을 만든다.
+     */
+    String getUrl(final String key);
+
+    /**
+     * 저장된 이미지를 읽는다. 반환한 스트림은 호출한 쪽에서 닫아야 한다.
+     */
+    InputStream load(final String key) throws IOException;
+
+    /**
+     * 클라이언트가 서버를 거치지 않고 저장소에 직접 업로드할 수 있는 URL 을 만든다. 지원하지 않는 저장소는 빈 값을 반환한다.
+     */
+    Optional<DirectUpload> createDirectUpload(final String key, final String contentType, final Duration expiration);
+
+    /**
+     * 저장된 이미지의 크기를 조회한다. 이미지가 없다면 빈 값을 반환한다.
+     */
+    OptionalLong getContentLength(final String key) throws IOException;
+
+    /**
+     * 저장된 이미지를 다른 key 로 복사한다. 대상 key 에 이미지가 있다면 덮어쓴다.
+     */
+    void copy(final String sourceKey, final String targetKey) throws IOException;
+
+    void delete(final String key);
+
+    /**
+     * 여러 이미지를 한 번에 삭제하고, 삭제에 성공한 key 를 반환한다.
+     */
+    Set<String> deleteAll(final Collection<String> keys);
+}
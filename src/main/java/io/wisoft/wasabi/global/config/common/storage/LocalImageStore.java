@@ -0,0 +1,134 @@
+package io.wisoft.wasabi.global.config.common.storage;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+
+/**
+ * 로컬 디스크에 이미지를 저장한다. 저장한 이미지는 LocalImageController 가 제공한다.
+ */
+@Component
+@ConditionalOnProperty(name = "image.store.type", havingValue = "local")
+public class LocalImageStore implements ImageStore {
+
+    private final Logger logger = LoggerFactory.getLogger(LocalImageStore.class);
+    private final Path rootDirectory;
+    private final String baseUrl;
+
+    public LocalImageStore(@Value("${image.store.local.root-dir:./images}") final Path rootDirectory,
+                           @Value("${image.store.local.base-url:/images}") final String baseUrl) throws IOException {
+        this.rootDirectory = Files.createDirectories(rootDirectory).toAbsolutePath().normalize();
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+    }
+
+    // 임시 파일에 모두 쓴 뒤 이동하여, 업로드 중인 이미지가 제공되지 않도록 한다.
+    @Override
+    public void store(final String key,
+                      final InputStream content,
+                      final long contentLength,
+                      final String contentType) throws IOException {
+
+        final Path target = resolve(key).orElseThrow(() -> new IOException("잘못된 이미지 key: " + key));
+        final Path temp = Files.createTempFile(rootDirectory, ".upload-", ".tmp");
+        try {
+            Files.copy(content, temp, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public String getUrl(final String key) {
+        return baseUrl + "/" + key;
+    }
+
+    @Override
+    public InputStream load(final String key) throws IOException {
+
+        final Path image = resolve(key).orElseThrow(() -> new NoSuchFileException(key));
+        return Files.newInputStream(image);
+    }
+
+    @Override
+    public Optional<DirectUpload> createDirectUpload(final String key, final String contentType, final Duration expiration) {
+        return Optional.empty();
+    }
+
+    @Override
+    public OptionalLong getContentLength(final String key) throws IOException {
+
+        final Optional<Path> image = resolve(key).filter(Files::isRegularFile);
+        if (image.isEmpty()) {
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(Files.size(image.get()));
+    }
+
+    @Override
+    public void copy(final String sourceKey, final String targetKey) throws IOException {
+
+        final Path source = resolve(sourceKey).orElseThrow(() -> new NoSuchFileException(sourceKey));
+        try (final InputStream content = Files.newInputStream(source)) {
+            store(targetKey, content, Files.size(source), null);
+        }
+    }
+
+    @Override
+    public void delete(final String key) {
+        resolve(key).ifPresent(path -> {
+            try {
+                Files.deleteIfExists(path);
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    @Override
+    public Set<String> deleteAll(final Collection<String> keys) {
+
+        final Set<String> deletedKeys = new HashSet<>();
+        for (final String key : keys) {
+            try {
+                delete(key);
+                deletedKeys.add(key);
+            } catch (final UncheckedIOException e) {
+                logger.warn("[Result] 이미지 {} 삭제 실패", key, e);
+            }
+        }
+        return deletedKeys;
+    }
+
+    /**
+     * 저장소 디렉토리 밖의 파일이나 업로드 중인 임시 파일을 가리키는 key 는 허용하지 않는다.
+     */
+    public Optional<Path> resolve(final String key) {
+
+        if (key.isEmpty() || key.startsWith(".")) {
+            return Optional.empty();
+        }
+
+        final Path path = rootDirectory.resolve(key).normalize();
+        if (!path.getParent().equals(rootDirectory)) {
+            return Optional.empty();
+        }
+        return Optional.of(path);
+    }
+}
@@ -0,0 +1,151 @@
+package io.wisoft.wasabi.global.config.common.storage;
+
+import com.amazonaws.HttpMethod;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.Headers;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.CopyObjectRequest;
+import com.amazonaws.services.s3.model.DeleteObjectRequest;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.DeleteObjectsResult;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
+import io.wisoft.wasabi.global.config.common.s3.S3UploadEngine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+
+@Component
+@ConditionalOnProperty(name = "image.store.type", havingValue = "s3", matchIfMissing = true)
+public class S3ImageStore implements ImageStore {
+
+    // S3 다중 삭제 요청 한 번에 지정할 수 있는 최대 key 수
+    private static final int MAX_DELETE_KEYS = 1000;
+
+    private final Logger logger = LoggerFactory.getLogger(S3ImageStore.class);
+    private final AmazonS3 amazonS3;
+    private final S3UploadEngine s3UploadEngine;
+    private final String bucket;
+
+    public S3ImageStore(final AmazonS3 amazonS3,
+                        final S3UploadEngine s3UploadEngine,
+                        @Value("${cloud.aws.s3.bucket}") final String bucket) {
+        this.amazonS3 = amazonS3;
+        this.s3UploadEngine = s3UploadEngine;
+        this.bucket = bucket;
+    }
+
+    @Override
+    public void store(final String key,
+                      final InputStream content,
+                      final long contentLength,
+                      final String contentType) throws IOException {
+        s3UploadEngine.upload(bucket, key, content, contentLength, contentType);
+    }
+
+    @Override
+    public String getUrl(final String key) {
+        return amazonS3.getUrl(bucket, key).toString();
+    }
+
+    @Override
+    public InputStream load(final String key) {
+        return amazonS3.getObject(bucket, key).getObjectContent();
+    }
+
+    /**
+     * 업로드한 이미지는 공개되어야 하므로, 서명에 포함된 x-amz-acl 헤더를 클라이언트가 함께 보내도록 응답한다.
+     */
+    @Override
+    public Optional<DirectUpload> createDirectUpload(final String key, final String contentType, final Duration expiration) {
+
+        final Instant expiresAt = Instant.now().plus(expiration);
+        final GeneratePresignedUrlRequest request = new GeneratePresignedUrlRequest(bucket, key, HttpMethod.PUT)
+                .withExpiration(Date.from(expiresAt))
+                .withContentType(contentType);
+        request.putCustomRequestHeader(Headers.S3_CANNED_ACL, CannedAccessControlList.PublicRead.toString());
+
+        final URL url = amazonS3.generatePresignedUrl(request);
+        return Optional.of(new DirectUpload(
+                url.toString(),
+                Map.of(
+                        Headers.CONTENT_TYPE, contentType,
+                        Headers.S3_CANNED_ACL, CannedAccessControlList.PublicRead.toString()
+                ),
+                expiresAt
+        ));
+    }
+
+    @Override
+    public OptionalLong getContentLength(final String key) {
+        try {
+            return OptionalLong.of(amazonS3.getObjectMetadata(bucket, key).getContentLength());
+        } catch (final AmazonS3Exception e) {
+            if (e.getStatusCode() == HttpStatus.NOT_FOUND.value()) {
+                return OptionalLong.empty();
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void copy(final String sourceKey, final String targetKey) {
+        amazonS3.copyObject(new CopyObjectRequest(bucket, sourceKey, bucket, targetKey)
+                .withCannedAccessControlList(CannedAccessControlList.PublicRead));
+    }
+
+    @Override
+    public void delete(final String key) {
+        amazonS3.deleteObject(new DeleteObjectRequest(bucket, key));
+    }
+
+    @Override
+    public Set<String> deleteAll(final Collection<String> keys) {
+
+        final List<String> keyList = List.copyOf(keys);
+        final Set<String> deletedKeys = new HashSet<>();
+        for (int from = 0; from < keyList.size(); from += MAX_DELETE_KEYS) {
+            final List<String> chunk = keyList.subList(from, Math.min(from + MAX_DELETE_KEYS, keyList.size()));
+            deletedKeys.addAll(deleteObjects(chunk));
+        }
+        return deletedKeys;
+    }
+
+    private Set<String> deleteObjects(final List<String> keys) {
+
+        final DeleteObjectsRequest request = new DeleteObjectsRequest(bucket)
+                .withKeys(keys.toArray(String[]::new))
+                .withQuiet(false);
+        try {
+            return deletedKeys(amazonS3.deleteObjects(request).getDeletedObjects());
+        } catch (final MultiObjectDeleteException e) {
+            logger.warn("[Result] 이미지 {}개를 저장소에서 삭제하지 못함", e.getErrors().size());
+            return deletedKeys(e.getDeletedObjects());
+        }
+    }
+
+    private Set<String> deletedKeys(final List<DeleteObjectsResult.DeletedObject> deletedObjects) {
+
+        final Set<String> keys = new HashSet<>();
+        deletedObjects.forEach(deletedObject -> keys.add(deletedObject.getKey()));
+        return keys;
+    }
+}
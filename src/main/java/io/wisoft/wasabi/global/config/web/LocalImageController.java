@@ -0,0 +1,147 @@
+package io.wisoft.wasabi.global.config.web;
+
+import io.wisoft.wasabi.global.config.common.storage.LocalImageStore;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * LocalImageStore 에 저장된 이미지를 제공한다. <br/>
+ * 서블릿 컨테이너가 sendfile 을 지원하면 파일 전송을 컨테이너에 맡기고(zero-copy),
+ * 지원하지 않으면 FileChannel.transferTo 로 응답 스트림에 바로 전송한다.
+ */
+@Controller
+@ConditionalOnProperty(name = "image.store.type", havingValue = "local")
+public class LocalImageController {
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+    private static final String IMMUTABLE_CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+    private final LocalImageStore localImageStore;
+
+    public LocalImageController(final LocalImageStore localImageStore) {
+        this.localImageStore = localImageStore;
+    }
+
+    @GetMapping("${image.store.local.base-url:/images}/{fileName}")
+    public void serveImage(@PathVariable final String fileName,
+                           final HttpServletRequest request,
+                           final HttpServletResponse response) throws IOException {
+
+        final Path image = localImageStore.resolve(fileName)
+                .filter(Files::isRegularFile)
+                .orElse(null);
+        if (image == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        final long length = Files.size(image);
+        final String eTag = "\"" + Long.toHexString(length) + "-" + Long.toHexString(Files.getLastModifiedTime(image).toMillis()) + "\"";
+
+        response.setHeader(HttpHeaders.ETAG, eTag);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, IMMUTABLE_CACHE_CONTROL);
+
+        if (eTag.equals(request.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        response.setContentType(MediaTypeFactory.getMediaType(fileName)
+                .orElse(MediaType.APPLICATION_OCTET_STREAM)
+                .toString());
+
+        final HttpRange range = requestedRange(request, eTag);
+        if (range == null) {
+            response.setStatus(HttpServletResponse.SC_OK);
+            transfer(request, response, image, 0, length);
+            return;
+        }
+
+        final long start;
+        final long end;
+        try {
+            start = range.getRangeStart(length);
+            end = range.getRangeEnd(length);
+        } catch (final IllegalArgumentException e) {
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+            response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+            return;
+        }
+
+        response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+        response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+        transfer(request, response, image, start, end - start + 1);
+    }
+
+    /**
+     * 단일 범위 요청만 처리하며, 여러 범위를 요청하거나 If-Range 가 현재 ETag 와 다르면 전체 이미지를 응답한다.
+     */
+    private HttpRange requestedRange(final HttpServletRequest request, final String eTag) {
+
+        final String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader == null) {
+            return null;
+        }
+
+        final String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange != null && !ifRange.equals(eTag)) {
+            return null;
+        }
+
+        try {
+            final List<HttpRange> ranges = HttpRange.parseRanges(rangeHeader);
+            return ranges.size() == 1 ? ranges.get(0) : null;
+        } catch (final IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private void transfer(final HttpServletRequest request,
+                          final HttpServletResponse response,
+                          final Path image,
+                          final long position,
+                          final long count) throws IOException {
+
+        response.setContentLengthLong(count);
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, image.toString());
+            request.setAttribute(SENDFILE_START, position);
+            request.setAttribute(SENDFILE_END, position + count);
+            return;
+        }
+
+        try (final FileChannel channel = FileChannel.open(image, StandardOpenOption.READ)) {
+            final WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long transferred = 0;
+            while (transferred < count) {
+                final long sent = channel.transferTo(position + transferred, count - transferred, out);
+                if (sent <= 0) {
+                    break;
+                }
+                transferred += sent;
+            }
+        }
+    }
+}
@@ -1,11 +1,16 @@
 package io.wisoft.wasabi.global.config.web;
 
+import io.wisoft.wasabi.global.config.common.jwt.JwtTokenProvider;
 import io.wisoft.wasabi.global.config.web.resolver.AnyoneResolver;
 import io.wisoft.wasabi.global.config.web.resolver.MemberIdResolver;
 import io.wisoft.wasabi.global.config.web.filter.LogFilter;
-import io.wisoft.wasabi.global.config.web.filter.SessionFilter;
+import io.wisoft.wasabi.global.config.web.anonymous.AnonymousIdProvider;
+import io.wisoft.wasabi.global.config.web.anonymous.CookieAnonymousIdProvider;
+import io.wisoft.wasabi.global.config.web.anonymous.SessionAnonymousIdProvider;
+import io.wisoft.wasabi.global.config.web.filter.AuthenticationFilter;
 import io.wisoft.wasabi.global.config.web.interceptor.AdminInterceptor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -17,6 +22,7 @@ import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.time.Duration;
 import java.util.List;
 
 @EnableAspectJAutoProxy
@@ -59,8 +65,24 @@ public class WebMvcConfig implements WebMvcConfigurer {
     }
 
     @Bean
-    public FilterRegistrationBean<SessionFilter> sessionFilter() {
-        return new FilterRegistrationBean<>(new SessionFilter());
+    public FilterRegistrationBean<AuthenticationFilter> authenticationFilter(final JwtTokenProvider jwtTokenProvider,
+                                                                             final AnonymousIdProvider anonymousIdProvider) {
+        return new FilterRegistrationBean<>(new AuthenticationFilter(jwtTokenProvider, anonymousIdProvider));
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "anonymous.identity.mode", havingValue = "session", matchIfMissing = true)
+    public AnonymousIdProvider sessionAnonymousIdProvider() {
+        return new SessionAnonymousIdProvider();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "anonymous.identity.mode", havingValue = "cookie")
+    public AnonymousIdProvider cookieAnonymousIdProvider(
+            @Value("${anonymous.identity.secret-key:${jwt.token.secret-key}}") final String secretKey,
+            @Value("${anonymous.identity.cookie-name:WASABI_ANONYMOUS}") final String cookieName,
+            @Value("${anonymous.identity.cookie-max-age:365d}") final Duration cookieMaxAge) {
+        return new CookieAnonymousIdProvider(secretKey, cookieName, cookieMaxAge);
     }
 
     @Bean
@@ -0,0 +1,16 @@
+package io.wisoft.wasabi.global.config.web.anonymous;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 비회원 방문자를 식별하는 id 를 발급하고 검증한다. <br/>
+ * 구현체는 {@code anonymous.identity.mode} 속성(session, cookie)으로 선택한다.
+ */
+public interface AnonymousIdProvider {
+
+    /**
+     * 요청에 담긴 방문자 식별 정보를 검증해 id 를 반환하고, 없거나 유효하지 않다면 새로 발급한다.
+     */
+    Long resolve(final HttpServletRequest request, final HttpServletResponse response);
+}
@@ -0,0 +1,129 @@
+package io.wisoft.wasabi.global.config.web.anonymous;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+
+/**
+ * HMAC 으로 서명한 쿠키로 비회원 방문자를 식별한다. <br/>
+ * id 는 처음 방문할 때 한 번만 발급하고, 이후에는 서명만 검증하므로 세션 저장소에 접근하지 않는다.
+ */
+public class CookieAnonymousIdProvider implements AnonymousIdProvider {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final String SIGNATURE_PREFIX = "wasabi-anonymous:";
+    private static final char DELIMITER = '.';
+
+    private final String cookieName;
+    private final Duration maxAge;
+    private final SecureRandom random = new SecureRandom();
+    private final ThreadLocal<Mac> mac;
+
+    public CookieAnonymousIdProvider(final String secretKey,
+                                     final String cookieName,
+                                     final Duration maxAge) {
+        this.cookieName = cookieName;
+        this.maxAge = maxAge;
+
+        final SecretKeySpec key = new SecretKeySpec(secretKey.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+        this.mac = ThreadLocal.withInitial(() -> createMac(key));
+    }
+
+    private static Mac createMac(final SecretKeySpec key) {
+        try {
+            final Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (final GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public Long resolve(final HttpServletRequest request, final HttpServletResponse response) {
+
+        final Long verifiedId = verify(findCookieValue(request));
+        if (verifiedId != null) {
+            return verifiedId;
+        }
+
+        final long anonymousId = random.nextLong();
+        response.addHeader(HttpHeaders.SET_COOKIE, createCookie(anonymousId, request.isSecure()).toString());
+        return anonymousId;
+    }
+
+    private String findCookieValue(final HttpServletRequest request) {
+
+        final Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return null;
+        }
+
+        for (final Cookie cookie : cookies) {
+            if (cookieName.equals(cookie.getName())) {
+                return cookie.getValue();
+            }
+        }
+        return null;
+    }
+
+    // 쿠키 값은 "id.서명" 형식이며, 서명이 일치하지 않으면 null 을 반환한다.
+    private Long verify(final String value) {
+
+        if (value == null) {
+            return null;
+        }
+
+        final int delimiter = value.lastIndexOf(DELIMITER);
+        if (delimiter <= 0) {
+            return null;
+        }
+
+        final String id = value.substring(0, delimiter);
+        final byte[] signature;
+        try {
+            signature = Base64.getUrlDecoder().decode(value.substring(delimiter + 1));
+        } catch (final IllegalArgumentException e) {
+            return null;
+        }
+
+        if (!MessageDigest.isEqual(sign(id), signature)) {
+            return null;
+        }
+
+        try {
+            return Long.parseLong(id);
+        } catch (final NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private ResponseCookie createCookie(final long anonymousId, final boolean secure) {
+
+        final String id = Long.toString(anonymousId);
+        final String signature = Base64.getUrlEncoder().withoutPadding().encodeToString(sign(id));
+
+        return ResponseCookie.from(cookieName, id + DELIMITER + signature)
+                .path("/")
+                .maxAge(maxAge)
+                .httpOnly(true)
+                .secure(secure)
+                .sameSite("Lax")
+                .build();
+    }
+
+    private byte[] sign(final String id) {
+        return mac.get().doFinal((SIGNATURE_PREFIX + id).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,20 @@
+package io.wisoft.wasabi.global.config.web.anonymous;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.util.UUID;
+
+/**
+ * 세션 id 로 비회원 방문자를 식별한다. <br/>
+ * 비회원 요청마다 세션 저장소(Redis)를 조회하거나 새 세션을 저장한다.
+ */
+public class SessionAnonymousIdProvider implements AnonymousIdProvider {
+
+    @Override
+    public Long resolve(final HttpServletRequest request, final HttpServletResponse response) {
+
+        final UUID sessionId = UUID.fromString(request.getSession().getId());
+        return sessionId.getMostSignificantBits();
+    }
+}
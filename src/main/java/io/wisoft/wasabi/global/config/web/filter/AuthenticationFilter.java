@@ -0,0 +1,58 @@
+package io.wisoft.wasabi.global.config.web.filter;
+
+import io.jsonwebtoken.JwtException;
+import io.wisoft.wasabi.global.config.common.Const;
+import io.wisoft.wasabi.global.config.common.jwt.AuthorizationExtractor;
+import io.wisoft.wasabi.global.config.common.jwt.JwtTokenProvider;
+import io.wisoft.wasabi.global.config.web.anonymous.AnonymousIdProvider;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 요청당 한 번만 액세스 토큰을 검증해 회원 정보(AuthPrincipal)를 요청 속성에 담는다. <br/>
+ * 비회원 요청이라면 응답이 커밋되기 전에 방문자 id 를 확인(또는 발급)해 요청 속성에 담는다.
+ */
+public class AuthenticationFilter extends OncePerRequestFilter {
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final AnonymousIdProvider anonymousIdProvider;
+
+    public AuthenticationFilter(final JwtTokenProvider jwtTokenProvider,
+                                final AnonymousIdProvider anonymousIdProvider) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.anonymousIdProvider = anonymousIdProvider;
+    }
+
+    @Override
+    protected void doFilterInternal(final HttpServletRequest request,
+                                    final HttpServletResponse response,
+                                    final FilterChain filterChain) throws ServletException, IOException {
+        final String token = AuthorizationExtractor.extract(request, Const.TOKEN_TYPE);
+
+        final boolean isAuthenticated = StringUtils.hasText(token);
+        request.setAttribute(Const.IS_AUTHENTICATED, isAuthenticated);
+
+        if (isAuthenticated) {
+            authenticate(request, token);
+        } else {
+            request.setAttribute(Const.ANONYMOUS_ID, anonymousIdProvider.resolve(request, response));
+        }
+
+        doFilter(request, response, filterChain);
+    }
+
+    // 검증 실패는 필터가 아닌 핸들러에서 처리되도록, 회원 정보를 꺼낼 때 다시 던진다.
+    private void authenticate(final HttpServletRequest request, final String token) {
+        try {
+            request.setAttribute(Const.AUTH_PRINCIPAL, jwtTokenProvider.decode(token));
+        } catch (final JwtException | IllegalArgumentException e) {
+            request.setAttribute(Const.AUTH_FAILURE, e);
+        }
+    }
+}
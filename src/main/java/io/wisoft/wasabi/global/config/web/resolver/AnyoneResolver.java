@@ -2,7 +2,6 @@ package io.wisoft.wasabi.global.config.web.resolver;
 
 import io.wisoft.wasabi.global.config.common.Const;
 import io.wisoft.wasabi.global.config.common.jwt.AuthorizationExtractor;
-import io.wisoft.wasabi.global.config.common.jwt.JwtTokenProvider;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.core.MethodParameter;
 import org.springframework.stereotype.Component;
@@ -11,17 +10,9 @@ import org.springframework.web.context.request.NativeWebRequest;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.method.support.ModelAndViewContainer;
 
-import java.util.UUID;
-
 @Component
 public class AnyoneResolver implements HandlerMethodArgumentResolver {
 
-    private final JwtTokenProvider jwtTokenProvider;
-
-    public AnyoneResolver(final JwtTokenProvider jwtTokenProvider) {
-        this.jwtTokenProvider = jwtTokenProvider;
-    }
-
     @Override
     public boolean supportsParameter(final MethodParameter parameter) {
         return parameter.hasParameterAnnotation(Anyone.class);
@@ -37,13 +28,9 @@ public class AnyoneResolver implements HandlerMethodArgumentResolver {
         final boolean isAuthenticated = (boolean) request.getAttribute(Const.IS_AUTHENTICATED);
 
         if (!isAuthenticated) {
-            final UUID sessionId = UUID.fromString(request.getSession().getId());
-            final Long accessId = sessionId.getMostSignificantBits();
-            return accessId;
+            return (Long) request.getAttribute(Const.ANONYMOUS_ID);
         }
 
-        final String token = AuthorizationExtractor.extract(request, Const.TOKEN_TYPE);
-
-        return jwtTokenProvider.decodeAccessToken(token);
+        return AuthorizationExtractor.extractPrincipal(request).memberId();
     }
 }
@@ -1,13 +1,9 @@
 package io.wisoft.wasabi.global.config.web.resolver;
 
-import io.wisoft.wasabi.domain.auth.exception.AuthExceptionExecutor;
-import io.wisoft.wasabi.global.config.common.Const;
 import io.wisoft.wasabi.global.config.common.jwt.AuthorizationExtractor;
-import io.wisoft.wasabi.global.config.common.jwt.JwtTokenProvider;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.core.MethodParameter;
 import org.springframework.stereotype.Component;
-import org.springframework.util.StringUtils;
 import org.springframework.web.bind.support.WebDataBinderFactory;
 import org.springframework.web.context.request.NativeWebRequest;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
@@ -16,12 +12,6 @@ import org.springframework.web.method.support.ModelAndViewContainer;
 @Component
 public class MemberIdResolver implements HandlerMethodArgumentResolver {
 
-    private final JwtTokenProvider jwtTokenProvider;
-
-    public MemberIdResolver(final JwtTokenProvider jwtTokenProvider) {
-        this.jwtTokenProvider = jwtTokenProvider;
-    }
-
     @Override
     public boolean supportsParameter(final MethodParameter parameter) {
         return parameter.hasParameterAnnotation(MemberId.class);
@@ -34,12 +24,7 @@ public class MemberIdResolver implements HandlerMethodArgumentResolver {
                                   final WebDataBinderFactory binderFactory) {
 
         final HttpServletRequest request = (HttpServletRequest) webRequest.getNativeRequest();
-        final String token = AuthorizationExtractor.extract(request, Const.TOKEN_TYPE);
-
-        if (!StringUtils.hasText(token)) {
-            throw AuthExceptionExecutor.UnAuthorized();
-        }
 
-        return jwtTokenProvider.decodeAccessToken(token);
+        return AuthorizationExtractor.extractPrincipal(request).memberId();
     }
 }
@@ -31,10 +31,21 @@ public enum ResponseType {
     MY_LIKE_BOARD_LIST_SUCCESS(HttpStatus.OK, "BOARD-S005", "My Like Board List Success"),
     BOARD_IMAGE_UPLOAD_SUCCESS(HttpStatus.OK, "BOARD_S006", "Board Image Upload Success"),
     BOARD_IMAGE_DELETE_SUCCESS(HttpStatus.OK, "BOARD_S007", "Board Image Delete Success"),
+    BOARD_IMAGE_PRESIGNED_UPLOAD_SUCCESS(HttpStatus.OK, "BOARD_S008", "Board Image Presigned Upload Success"),
+    BOARD_SEARCH_SUCCESS(HttpStatus.OK, "BOARD-S009", "Board Search Success"),
 
     BOARD_NOT_FOUND(HttpStatus.NOT_FOUND, "BOARD-F001", "Board Not Found"),
     SORT_TYPE_NOT_FOUND(HttpStatus.BAD_REQUEST, "BOARD-F002", "Sort Type Invalid"),
     BOARD_IMAGE_UPLOAD_FAIL(HttpStatus.BAD_REQUEST, "BOARD-F003", "Board Image Upload Fail"),
+    BOARD_CURSOR_INVALID(HttpStatus.BAD_REQUEST, "BOARD-F004", "Board Cursor Invalid"),
+    BOARD_IMAGE_NOT_FOUND(HttpStatus.NOT_FOUND, "BOARD-F005", "Board Image Not Found"),
+    BOARD_IMAGE_TOO_LARGE(HttpStatus.PAYLOAD_TOO_LARGE, "BOARD-F006", "Board Image Too Large"),
+    BOARD_IMAGE_TYPE_INVALID(HttpStatus.UNSUPPORTED_MEDIA_TYPE, "BOARD-F007", "Board Image Type Invalid"),
+    BOARD_IMAGE_LENGTH_REQUIRED(HttpStatus.LENGTH_REQUIRED, "BOARD-F008", "Board Image Length Required"),
+    BOARD_IMAGE_NOT_UPLOADED(HttpStatus.BAD_REQUEST, "BOARD-F009", "Board Image Not Uploaded"),
+    BOARD_IMAGE_DIRECT_UPLOAD_UNSUPPORTED(HttpStatus.BAD_REQUEST, "BOARD-F010", "Board Image Direct Upload Unsupported"),
+    BOARD_IMAGE_NOT_ATTACHABLE(HttpStatus.BAD_REQUEST, "BOARD-F011", "Board Image Not Attachable"),
+    BOARD_IMAGE_ATTACHED(HttpStatus.CONFLICT, "BOARD-F012", "Board Image Attached"),
 
     /* 좋아요 - LIKE */
     LIKE_REGISTER_SUCCESS(HttpStatus.CREATED, "LIKE-S001", "Like Register Success"),
@@ -44,6 +55,10 @@ public enum ResponseType {
     LIKE_NOT_FOUND(HttpStatus.NOT_FOUND, "LIKE-F001", "Like Not Found"),
     EXIST_LIKE(HttpStatus.BAD_REQUEST, "LIKE-F0002", "Exist Like"),
 
+    /* 태그 - TAG */
+    TAG_SUGGEST_SUCCESS(HttpStatus.OK, "TAG-S001", "Tag Suggest Success"),
+    TAG_POPULAR_SUCCESS(HttpStatus.OK, "TAG-S002", "Popular Tag Success"),
+
     /* 댓글 - COMMENTS */
     COMMENT_WRITE_SUCCESS(HttpStatus.CREATED,"COMMENT-S001","Comment Write Success"),
 
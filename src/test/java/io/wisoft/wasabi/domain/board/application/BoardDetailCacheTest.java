@@ -0,0 +1,90 @@
+package io.wisoft.wasabi.domain.board.application;
+
+import autoparams.AutoSource;
+import io.wisoft.wasabi.domain.board.persistence.BoardDetail;
+import io.wisoft.wasabi.domain.board.persistence.BoardQueryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class BoardDetailCacheTest {
+
+    @Mock
+    private BoardQueryRepository boardQueryRepository;
+
+    private BoardDetailCache boardDetailCache;
+
+    @BeforeEach
+    void init() {
+        boardDetailCache = new BoardDetailCache(boardQueryRepository, 100, Duration.ofMinutes(1));
+    }
+
+    @Nested
+    @DisplayName("게시글 상세 캐시 조회")
+    class Get {
+
+        @DisplayName("같은 게시글을 다시 조회하면, DB 를 조회하지 않고 캐시된 결과를 반환한다.")
+        @ParameterizedTest
+        @AutoSource
+        void get_cached_detail(final Long boardId, final BoardDetail detail) {
+
+            // given
+            given(boardQueryRepository.readBoardDetail(boardId)).willReturn(Optional.of(detail));
+            boardDetailCache.get(boardId);
+
+            // when
+            final var result = boardDetailCache.get(boardId);
+
+            // then
+            assertThat(result).contains(detail);
+            then(boardQueryRepository).should(times(1)).readBoardDetail(boardId);
+        }
+
+        @DisplayName("캐시를 제거한 뒤 조회하면, DB 에서 다시 조회한다.")
+        @ParameterizedTest
+        @AutoSource
+        void get_detail_after_evict(final Long boardId, final BoardDetail detail) {
+
+            // given
+            given(boardQueryRepository.readBoardDetail(boardId)).willReturn(Optional.of(detail));
+            boardDetailCache.get(boardId);
+
+            // when
+            boardDetailCache.evict(boardId);
+            boardDetailCache.get(boardId);
+
+            // then
+            then(boardQueryRepository).should(times(2)).readBoardDetail(boardId);
+        }
+
+        @DisplayName("존재하지 않는 게시글은 캐싱하지 않는다.")
+        @ParameterizedTest
+        @AutoSource
+        void not_cache_not_found_board(final Long boardId) {
+
+            // given
+            given(boardQueryRepository.readBoardDetail(boardId)).willReturn(Optional.empty());
+
+            // when
+            boardDetailCache.get(boardId);
+            final var result = boardDetailCache.get(boardId);
+
+            // then
+            assertThat(result).isEmpty();
+            then(boardQueryRepository).should(times(2)).readBoardDetail(boardId);
+        }
+    }
+}
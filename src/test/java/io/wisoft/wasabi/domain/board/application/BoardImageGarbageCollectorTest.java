@@ -0,0 +1,238 @@
+package io.wisoft.wasabi.domain.board.application;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.wisoft.wasabi.domain.board.persistence.BoardImage;
+import io.wisoft.wasabi.domain.board.persistence.BoardImageObject;
+import io.wisoft.wasabi.domain.board.persistence.BoardImageStatus;
+import io.wisoft.wasabi.domain.board.persistence.OrphanBoardImage;
+import io.wisoft.wasabi.global.config.common.storage.ImageStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class BoardImageGarbageCollectorTest {
+
+    @Mock
+    private ImageStore imageStore;
+
+    @Mock
+    private BoardImageRepository boardImageRepository;
+
+    @Mock
+    private BoardImageObjectRepository boardImageObjectRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private BoardImageGarbageCollector garbageCollector;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        garbageCollector = new BoardImageGarbageCollector(
+                imageStore,
+                boardImageRepository,
+                boardImageObjectRepository,
+                new TransactionTemplate(transactionManager),
+                meterRegistry,
+                Duration.ofHours(24),
+                Duration.ofHours(1),
+                2
+        );
+
+        // 기본적으로 조회한 chunk 의 이미지는 삭제하기 전까지 게시글에 연결되지 않는다.
+        lenient().when(boardImageRepository.findOrphanImagesForUpdate(anyCollection(), anyCollection()))
+                .thenAnswer(invocation -> invocation.<Collection<Long>>getArgument(0).stream()
+                        .map(BoardImageGarbageCollectorTest::boardImage)
+                        .toList());
+    }
+
+    private static BoardImage boardImage(final Long id) {
+        final BoardImage boardImage = mock(BoardImage.class);
+        given(boardImage.getId()).willReturn(id);
+        return boardImage;
+    }
+
+    @Test
+    @DisplayName("불필요한 이미지를 chunk 단위로 조회하여, chunk 마다 한 번의 요청으로 저장소와 DB 에서 삭제한다.")
+    void collect_by_chunk() {
+
+        // given
+        final var first = List.of(new OrphanBoardImage(1L, "1.png", null), new OrphanBoardImage(2L, "2.png", null));
+        final var second = List.of(new OrphanBoardImage(5L, "5.png", null));
+
+        given(boardImageRepository.findOrphanImages(any(), any(), eq(0L), any())).willReturn(first);
+        given(boardImageRepository.findOrphanImages(any(), any(), eq(2L), any())).willReturn(second);
+        given(imageStore.deleteAll(anyCollection()))
+                .willAnswer(invocation -> Set.copyOf(invocation.<Collection<String>>getArgument(0)));
+
+        // when
+        garbageCollector.collect();
+
+        // then
+        then(imageStore).should(times(2)).deleteAll(anyCollection());
+        then(boardImageRepository).should().deleteBoardImagesByIds(
+                argThat(ids -> ids.containsAll(List.of(1L, 2L)) && ids.size() == 2));
+        then(boardImageRepository).should().deleteBoardImagesByIds(List.of(5L));
+        assertThat(meterRegistry.get("board.image.gc.deleted").counter().count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("저장소에서 삭제하지 못한 이미지는 DB 에서 삭제하지 않는다.")
+    void collect_partially_failed() {
+
+        // given
+        final var chunk = List.of(new OrphanBoardImage(1L, "1.png", null), new OrphanBoardImage(2L, "2.png", null));
+
+        given(boardImageRepository.findOrphanImages(any(), any(), eq(0L), any())).willReturn(chunk);
+        given(boardImageRepository.findOrphanImages(any(), any(), eq(2L), any())).willReturn(List.of());
+        given(imageStore.deleteAll(anyCollection())).willReturn(Set.of("1.png"));
+
+        // when
+        garbageCollector.collect();
+
+        // then
+        then(boardImageRepository).should().deleteBoardImagesByIds(List.of(1L));
+        assertThat(meterRegistry.get("board.image.gc.failed").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 이미지가 공유하는 이미지 객체는 저장소에서 삭제하지 않고 참조 수만 줄인다.")
+    void collect_shared_object() {
+
+        // given
+        final var chunk = List.of(new OrphanBoardImage(1L, "hash.png", "hash"), new OrphanBoardImage(2L, "hash.png", "hash"));
+        final var object = new BoardImageObject("hash", "hash.png", "/images/hash.png");
+        object.increaseReference();
+        object.increaseReference();
+
+        given(boardImageRepository.findOrphanImages(any(), any(), eq(0L), any())).willReturn(chunk);
+        given(boardImageRepository.findOrphanImages(any(), any(), eq(2L), any())).willReturn(List.of());
+        given(boardImageObjectRepository.findAllByContentHashesForUpdate(Set.of("hash"))).willReturn(List.of(object));
+
+        // when
+        garbageCollector.collect();
+
+        // then
+        then(imageStore).should(never()).deleteAll(anyCollection());
+        then(boardImageRepository).should().deleteBoardImagesByIds(List.of(1L, 2L));
+        assertThat(object.getReferenceCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("마지막 참조가 정리되면 이미지 객체를 저장소와 DB 에서 삭제한다.")
+    void collect_unreferenced_object() {
+
+        // given
+        final var chunk = List.of(new OrphanBoardImage(1L, "hash.png", "hash"), new OrphanBoardImage(2L, "hash.png", "hash"));
+        final var object = new BoardImageObject("hash", "hash.png", "/images/hash.png");
+        object.increaseReference();
+
+        given(boardImageRepository.findOrphanImages(any(), any(), eq(0L), any())).willReturn(chunk);
+        given(boardImageRepository.findOrphanImages(any(), any(), eq(2L), any())).willReturn(List.of());
+        given(boardImageObjectRepository.findAllByContentHashesForUpdate(Set.of("hash"))).willReturn(List.of(object));
+        given(imageStore.deleteAll(BoardImageVariant.allFileNames("hash.png"))).willReturn(Set.of("hash.png"));
+
+        // when
+        garbageCollector.collect();
+
+        // then
+        then(boardImageObjectRepository).should().delete(object);
+        then(boardImageRepository).should().deleteBoardImagesByIds(List.of(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("업로드를 완료하지 않은 직접 업로드 이미지는 staging key 의 객체와 함께 짧은 보관 기간으로 정리한다.")
+    void collect_abandoned_direct_upload() {
+
+        // given
+        final var chunk = List.of(new OrphanBoardImage(7L, "7.png", null));
+
+        given(boardImageRepository.findOrphanImagesByStatus(eq(BoardImageStatus.AWAITING_UPLOAD), any(), eq(0L), any()))
+                .willReturn(chunk);
+        given(imageStore.deleteAll(anyCollection()))
+                .willAnswer(invocation -> Set.copyOf(invocation.<Collection<String>>getArgument(0)));
+
+        // when
+        garbageCollector.collect();
+
+        // then
+        then(imageStore).should().deleteAll(argThat((Collection<String> keys) ->
+                keys.contains("7.png") && keys.contains(BoardImageServiceImpl.stagingFileName("7.png"))));
+        then(boardImageRepository).should().deleteBoardImagesByIds(List.of(7L));
+        assertThat(meterRegistry.get("board.image.gc.deleted").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 직접 업로드 이미지도 staging key 를 정리하는 단계에서만 정리하고, 업로드 중인 이미지는 정리하지 않는다.")
+    void collect_old_abandoned_direct_upload_with_staging_key() {
+
+        // given
+        final var chunk = List.of(new OrphanBoardImage(8L, "8.png", null));
+
+        given(boardImageRepository.findOrphanImagesByStatus(eq(BoardImageStatus.AWAITING_UPLOAD), any(), eq(0L), any()))
+                .willReturn(chunk);
+        given(imageStore.deleteAll(anyCollection()))
+                .willAnswer(invocation -> Set.copyOf(invocation.<Collection<String>>getArgument(0)));
+
+        // when
+        garbageCollector.collect();
+
+        // then
+        then(boardImageRepository).should().findOrphanImages(
+                argThat((Collection<BoardImageStatus> statuses) -> statuses.equals(Set.of(BoardImageStatus.READY, BoardImageStatus.FAILED))),
+                any(), eq(0L), any());
+        then(imageStore).should().deleteAll(argThat((Collection<String> keys) ->
+                keys.contains(BoardImageServiceImpl.stagingFileName("8.png"))));
+        then(boardImageRepository).should().deleteBoardImagesByIds(List.of(8L));
+    }
+
+    @Test
+    @DisplayName("조회한 뒤 게시글에 연결된 이미지는 행을 잠가 다시 확인할 때 제외하여, 저장소와 DB 에서 삭제하지 않는다.")
+    void skip_image_attached_after_select() {
+
+        // given
+        final var chunk = List.of(new OrphanBoardImage(1L, "1.png", null), new OrphanBoardImage(2L, "2.png", null));
+        final var orphan = boardImage(1L);
+
+        given(boardImageRepository.findOrphanImages(any(), any(), eq(0L), any())).willReturn(chunk);
+        given(boardImageRepository.findOrphanImages(any(), any(), eq(2L), any())).willReturn(List.of());
+        given(boardImageRepository.findOrphanImagesForUpdate(List.of(1L, 2L), Set.of(BoardImageStatus.READY, BoardImageStatus.FAILED)))
+                .willReturn(List.of(orphan));
+        given(imageStore.deleteAll(anyCollection()))
+                .willAnswer(invocation -> Set.copyOf(invocation.<Collection<String>>getArgument(0)));
+
+        // when
+        garbageCollector.collect();
+
+        // then
+        then(imageStore).should().deleteAll(BoardImageVariant.allFileNames("1.png"));
+        then(boardImageRepository).should().deleteBoardImagesByIds(List.of(1L));
+        assertThat(meterRegistry.get("board.image.gc.failed").counter().count()).isZero();
+    }
+}
@@ -0,0 +1,113 @@
+package io.wisoft.wasabi.domain.board.application;
+
+import io.wisoft.wasabi.domain.board.persistence.BoardImageObject;
+import io.wisoft.wasabi.global.config.common.storage.ImageStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class BoardImageObjectRegistryTest {
+
+    @Mock
+    private BoardImageObjectRepository boardImageObjectRepository;
+
+    @Mock
+    private ImageStore imageStore;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private BoardImageObjectRegistry boardImageObjectRegistry;
+
+    @BeforeEach
+    void setUp() {
+        boardImageObjectRegistry = new BoardImageObjectRegistry(boardImageObjectRepository, imageStore, transactionManager);
+    }
+
+    @Test
+    @DisplayName("같은 내용의 이미지가 저장되어 있다면, 참조 수를 늘려 재사용한다.")
+    void acquire() {
+
+        // given
+        final var object = new BoardImageObject("hash", "hash.png", "/images/hash.png");
+        given(boardImageObjectRepository.findByContentHashForUpdate("hash")).willReturn(Optional.of(object));
+
+        // when
+        final var result = boardImageObjectRegistry.acquire("hash");
+
+        // then
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(result).containsSame(object);
+            softAssertions.assertThat(object.getReferenceCount()).isEqualTo(2);
+        });
+    }
+
+    @Test
+    @DisplayName("동시에 같은 이미지가 먼저 등록되었다면, 먼저 등록된 객체를 재사용하고 방금 저장한 객체는 삭제한다.")
+    void register_conflict() {
+
+        // given
+        final var registered = new BoardImageObject("hash", "hash.jpg", "/images/hash.jpg");
+        given(boardImageObjectRepository.saveAndFlush(any())).willThrow(new DataIntegrityViolationException("duplicate"));
+        given(boardImageObjectRepository.findByContentHashForUpdate("hash")).willReturn(Optional.of(registered));
+
+        // when
+        final var result = boardImageObjectRegistry.register("hash", "hash.jpeg", "/images/hash.jpeg");
+
+        // then
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(result).isSameAs(registered);
+            softAssertions.assertThat(registered.getReferenceCount()).isEqualTo(2);
+        });
+        then(imageStore).should().deleteAll(BoardImageVariant.allFileNames("hash.jpeg"));
+    }
+
+    @Test
+    @DisplayName("다른 이미지가 참조하고 있다면, 저장소에서 삭제하지 않는다.")
+    void release_shared() {
+
+        // given
+        final var object = new BoardImageObject("hash", "hash.png", "/images/hash.png");
+        object.increaseReference();
+        given(boardImageObjectRepository.findByContentHashForUpdate("hash")).willReturn(Optional.of(object));
+
+        // when
+        boardImageObjectRegistry.release("hash");
+
+        // then
+        then(imageStore).should(never()).deleteAll(anyCollection());
+        then(boardImageObjectRepository).should(never()).delete(any());
+    }
+
+    @Test
+    @DisplayName("마지막 참조를 해제하면, 저장소와 DB 에서 이미지 객체를 삭제한다.")
+    void release_last_reference() {
+
+        // given
+        final var object = new BoardImageObject("hash", "hash.png", "/images/hash.png");
+        given(boardImageObjectRepository.findByContentHashForUpdate("hash")).willReturn(Optional.of(object));
+        given(imageStore.deleteAll(BoardImageVariant.allFileNames("hash.png"))).willReturn(Set.of("hash.png"));
+
+        // when
+        boardImageObjectRegistry.release("hash");
+
+        // then
+        then(boardImageObjectRepository).should().delete(object);
+    }
+}
@@ -0,0 +1,93 @@
+package io.wisoft.wasabi.domain.board.application;
+
+import io.wisoft.wasabi.domain.board.persistence.BoardImage;
+import io.wisoft.wasabi.domain.board.persistence.BoardImageStatus;
+import io.wisoft.wasabi.domain.board.persistence.OrphanBoardImage;
+import io.wisoft.wasabi.domain.board.persistence.PendingBoardImage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DataJpaTest
+class BoardImageRepositoryTest {
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private BoardImageRepository boardImageRepository;
+
+    @Test
+    @DisplayName("파일 이름으로 이미지를 id 순으로 조회하며, 저장소 경로가 달라도 파일 이름이 같다면 함께 조회한다.")
+    void find_all_by_file_names() {
+
+        // given
+        final var first = em.persist(new BoardImage("a.png", "/images/a.png"));
+        final var second = em.persist(new BoardImage("b.png", "/images/b.png"));
+        final var sameName = em.persist(new BoardImage("a.png", "/other/a.png"));
+        em.persist(new BoardImage("c.png", "/images/c.png"));
+        em.flush();
+        em.clear();
+
+        // when
+        final var result = boardImageRepository.findAllByFileNames(Set.of("a.png", "b.png", "unknown.png"));
+
+        // then
+        assertThat(result).extracting(BoardImage::getId)
+                .containsExactly(first.getId(), second.getId(), sameName.getId());
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 불필요한 이미지 중 요청한 상태의 이미지만 조회한다.")
+    void find_orphan_images_by_statuses() {
+
+        // given
+        final var ready = em.persist(new BoardImage("ready.png", "/images/ready.png", BoardImageStatus.READY));
+        final var failed = em.persist(new BoardImage("failed.png", "/images/failed.png", BoardImageStatus.FAILED));
+        em.persist(new BoardImage("pending.png", "/images/pending.png", BoardImageStatus.PENDING));
+        em.persist(new BoardImage("awaiting.png", "/images/awaiting.png", BoardImageStatus.AWAITING_UPLOAD));
+        em.flush();
+        em.clear();
+
+        // when
+        final var result = boardImageRepository.findOrphanImages(
+                Set.of(BoardImageStatus.READY, BoardImageStatus.FAILED), LocalDateTime.now().plusHours(1), 0L, PageRequest.ofSize(10));
+
+        // then
+        assertThat(result).extracting(OrphanBoardImage::id).containsExactly(ready.getId(), failed.getId());
+    }
+
+    @Test
+    @DisplayName("파일 이름 중 요청한 상태의 이미지의 id 와 파일 이름만 id 순으로 조회한다.")
+    void find_all_by_status_and_file_names() {
+
+        // given
+        final var first = em.persist(new BoardImage("first.png", "/images/first.png", BoardImageStatus.PENDING));
+        em.persist(new BoardImage("ready.png", "/images/ready.png", BoardImageStatus.READY));
+        final var second = em.persist(new BoardImage("second.png", "/images/second.png", BoardImageStatus.PENDING));
+        em.persist(new BoardImage("other.png", "/images/other.png", BoardImageStatus.PENDING));
+        em.flush();
+        em.clear();
+
+        // when
+        final var result = boardImageRepository.findAllByStatusAndFileNames(
+                BoardImageStatus.PENDING, Set.of("first.png", "ready.png", "second.png"));
+
+        // then
+        assertThat(result).containsExactly(
+                new PendingBoardImage(first.getId(), "first.png"),
+                new PendingBoardImage(second.getId(), "second.png"));
+    }
+}
@@ -0,0 +1,346 @@
+package io.wisoft.wasabi.domain.board.application;
+
+import io.wisoft.wasabi.domain.board.exception.BoardImageAttachedException;
+import io.wisoft.wasabi.domain.board.exception.BoardImageNotFoundException;
+import io.wisoft.wasabi.domain.board.exception.BoardImageNotUploadedException;
+import io.wisoft.wasabi.domain.board.persistence.Board;
+import io.wisoft.wasabi.domain.board.persistence.BoardImage;
+import io.wisoft.wasabi.domain.board.persistence.BoardImageObject;
+import io.wisoft.wasabi.domain.board.persistence.BoardImageStatus;
+import io.wisoft.wasabi.domain.board.web.dto.DeleteImageRequest;
+import io.wisoft.wasabi.domain.board.web.dto.DeleteImagesRequest;
+import io.wisoft.wasabi.domain.board.web.dto.PresignedUploadRequest;
+import io.wisoft.wasabi.domain.member.persistence.Member;
+import io.wisoft.wasabi.global.config.common.storage.DirectUpload;
+import io.wisoft.wasabi.global.config.common.storage.ImageStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class BoardImageServiceTest {
+
+    private static final byte[] PNG = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n', 1, 2, 3};
+
+    @Mock
+    private ImageStore imageStore;
+
+    @Mock
+    private BoardImageRepository boardImageRepository;
+
+    @Mock
+    private BoardImageObjectRegistry boardImageObjectRegistry;
+
+    @Mock
+    private BoardImageVariantGenerator variantGenerator;
+
+    @Mock
+    private ObjectProvider<BoardImageUploadPipeline> uploadPipeline;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private BoardImageServiceImpl boardImageService;
+
+    @BeforeEach
+    void setUp() {
+        boardImageService = new BoardImageServiceImpl(
+                imageStore,
+                boardImageRepository,
+                boardImageObjectRegistry,
+                variantGenerator,
+                uploadPipeline,
+                transactionManager,
+                DataSize.ofMegabytes(10),
+                Duration.ofMinutes(10)
+        );
+    }
+
+    @Nested
+    @DisplayName("이미지 스트리밍 업로드")
+    class SaveStreamingImage {
+
+        @Test
+        @DisplayName("본문은 트랜잭션 밖에서 전송하고, 이미지 저장만 짧은 트랜잭션에서 수행한다.")
+        void store_outside_transaction() {
+
+            // given
+            given(boardImageObjectRegistry.acquire(anyString())).willReturn(Optional.empty());
+            given(boardImageObjectRegistry.register(anyString(), anyString(), any()))
+                    .willAnswer(invocation -> new BoardImageObject(
+                            invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2)));
+
+            // when
+            boardImageService.saveImage(new ByteArrayInputStream(PNG), PNG.length);
+
+            // then
+            final InOrder inOrder = inOrder(imageStore, transactionManager, boardImageRepository);
+            then(imageStore).should(inOrder).store(anyString(), any(), eq((long) PNG.length), eq("image/png"));
+            then(transactionManager).should(inOrder).getTransaction(any());
+            then(boardImageRepository).should(inOrder).save(any(BoardImage.class));
+            then(transactionManager).should(inOrder).commit(any());
+        }
+
+        @Test
+        @DisplayName("이미지 저장에 실패하면, 트랜잭션 밖에서 늘린 이미지 객체의 참조를 되돌린다.")
+        void release_reference_when_save_fails() {
+
+            // given
+            final var object = new BoardImageObject("hash", "hash.png", "/images/hash.png");
+            given(boardImageObjectRegistry.acquire(anyString())).willReturn(Optional.of(object));
+            given(boardImageRepository.save(any(BoardImage.class))).willThrow(new DataIntegrityViolationException("fail"));
+
+            // when, then
+            assertThatThrownBy(() -> boardImageService.saveImage(new ByteArrayInputStream(PNG), PNG.length))
+                    .isInstanceOf(DataIntegrityViolationException.class);
+            then(boardImageObjectRegistry).should().release(anyString());
+        }
+    }
+
+    @Nested
+    @DisplayName("이미지 직접 업로드")
+    class DirectUploadImage {
+
+        @Test
+        @DisplayName("업로드 URL 은 이미지의 key 가 아닌 staging key 로 발급한다.")
+        void create_for_staging_key() throws Exception {
+
+            // given
+            given(imageStore.createDirectUpload(anyString(), eq("image/png"), any()))
+                    .willReturn(Optional.of(new DirectUpload("url", Map.of(), Instant.now())));
+            given(imageStore.getUrl(anyString())).willAnswer(invocation -> "/images/" + invocation.getArgument(0));
+
+            // when
+            final var response = boardImageService.createPresignedUpload(new PresignedUploadRequest("image/png", PNG.length));
+
+            // then
+            final var boardImage = ArgumentCaptor.forClass(BoardImage.class);
+            then(boardImageRepository).should().save(boardImage.capture());
+            then(imageStore).should().createDirectUpload(
+                    eq(BoardImageServiceImpl.stagingFileName(boardImage.getValue().getFileName())), eq("image/png"), any());
+            assertThat(response).isNotNull();
+        }
+
+        @Test
+        @DisplayName("업로드를 완료하면 staging key 의 객체를 이미지의 key 로 복사한 뒤 복사본을 검증한다.")
+        void complete_with_copy() throws Exception {
+
+            // given
+            final var boardImage = BoardMapper.presignedUploadToAwaitingEntity("image.png", "/images/image.png");
+            final String stagingFileName = BoardImageServiceImpl.stagingFileName("image.png");
+            given(boardImageRepository.findById(1L)).willReturn(Optional.of(boardImage));
+            given(imageStore.getContentLength(anyString())).willReturn(OptionalLong.of(PNG.length));
+            willAnswer(invocation -> new ByteArrayInputStream(PNG)).given(imageStore).load("image.png");
+
+            // when
+            boardImageService.completePresignedUpload(1L);
+
+            // then
+            final InOrder inOrder = inOrder(imageStore);
+            then(imageStore).should(inOrder).copy(stagingFileName, "image.png");
+            then(imageStore).should(inOrder).delete(stagingFileName);
+            then(imageStore).should(inOrder).load("image.png");
+            then(imageStore).should(never()).load(stagingFileName);
+            assertThat(boardImage.getStatus()).isEqualTo(BoardImageStatus.READY);
+        }
+
+        @Test
+        @DisplayName("축소 이미지가 생성되기 전에는 축소 이미지의 URL 을 응답하지 않는다.")
+        void complete_without_variant_urls() throws Exception {
+
+            // given
+            final var boardImage = BoardMapper.presignedUploadToAwaitingEntity("image.png", "/images/image.png");
+            given(boardImageRepository.findById(1L)).willReturn(Optional.of(boardImage));
+            given(imageStore.getContentLength(anyString())).willReturn(OptionalLong.of(PNG.length));
+            willAnswer(invocation -> new ByteArrayInputStream(PNG)).given(imageStore).load("image.png");
+
+            // when
+            final var response = boardImageService.completePresignedUpload(1L);
+
+            // then
+            assertSoftly(softAssertions -> {
+                softAssertions.assertThat(response.imageUrl()).isEqualTo("/images/image.png");
+                softAssertions.assertThat(response.mediumUrl()).isNull();
+                softAssertions.assertThat(response.thumbnailUrl()).isNull();
+            });
+        }
+
+        @Test
+        @DisplayName("staging key 와 이미지의 key 모두 객체가 없다면, 업로드되지 않은 이미지로 응답한다.")
+        void complete_not_uploaded() throws Exception {
+
+            // given
+            final var boardImage = BoardMapper.presignedUploadToAwaitingEntity("image.png", "/images/image.png");
+            given(boardImageRepository.findById(1L)).willReturn(Optional.of(boardImage));
+            given(imageStore.getContentLength(anyString())).willReturn(OptionalLong.empty());
+
+            // when, then
+            assertThatThrownBy(() -> boardImageService.completePresignedUpload(1L))
+                    .isInstanceOf(BoardImageNotUploadedException.class);
+            then(imageStore).should(never()).copy(anyString(), anyString());
+            assertThat(boardImage.getStatus()).isEqualTo(BoardImageStatus.AWAITING_UPLOAD);
+        }
+    }
+
+    @Nested
+    @DisplayName("이미지 삭제")
+    class DeleteImage {
+
+        private BoardImage attached(final BoardImage boardImage) {
+            boardImage.setBoard(new Board("title", "content", mock(Member.class)));
+            return boardImage;
+        }
+
+        @Test
+        @DisplayName("id 로 삭제하면 게시글에 연결되기 전의 이미지를 저장소에서도 삭제한다.")
+        void delete_by_id() {
+
+            // given
+            final var boardImage = new BoardImage("image.png", "/images/image.png");
+            given(boardImageRepository.findById(1L)).willReturn(Optional.of(boardImage));
+
+            // when
+            boardImageService.deleteImage(1L);
+
+            // then
+            then(boardImageRepository).should().delete(boardImage);
+            then(imageStore).should().deleteAll(BoardImageVariant.allFileNames("image.png"));
+        }
+
+        @Test
+        @DisplayName("id 로 게시글에 연결된 이미지를 삭제하면 예외가 발생한다.")
+        void delete_attached_by_id() {
+
+            // given
+            final var boardImage = attached(new BoardImage("image.png", "/images/image.png"));
+            given(boardImageRepository.findById(1L)).willReturn(Optional.of(boardImage));
+
+            // when, then
+            assertThatThrownBy(() -> boardImageService.deleteImage(1L))
+                    .isInstanceOf(BoardImageAttachedException.class);
+            then(boardImageRepository).should(never()).delete(any());
+            then(imageStore).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("파일 이름으로 찾은 이미지 중 URL 전체가 같은 이미지만 삭제한다.")
+        void delete_by_full_path() {
+
+            // given
+            given(boardImageRepository.findAllByFileNames(Set.of("image.png")))
+                    .willReturn(List.of(new BoardImage("image.png", "/other/image.png")));
+
+            // when, then
+            assertThatThrownBy(() -> boardImageService.deleteImage(new DeleteImageRequest("/images/image.png")))
+                    .isInstanceOf(BoardImageNotFoundException.class);
+            then(boardImageRepository).should(never()).delete(any());
+        }
+
+        @Test
+        @DisplayName("같은 URL 의 이미지가 여러 개라면 게시글에 연결되지 않은 이미지를 삭제한다.")
+        void delete_unattached_first() {
+
+            // given
+            final var attached = attached(new BoardImage("image.png", "/images/image.png"));
+            final var unattached = new BoardImage("image.png", "/images/image.png");
+            given(boardImageRepository.findAllByFileNames(Set.of("image.png"))).willReturn(List.of(attached, unattached));
+
+            // when
+            boardImageService.deleteImage(new DeleteImageRequest("/images/image.png"));
+
+            // then
+            then(boardImageRepository).should().delete(unattached);
+            then(boardImageRepository).should(never()).delete(attached);
+        }
+
+        @Test
+        @DisplayName("여러 이미지를 삭제하면 공유하는 이미지 객체는 해시마다 한 번에 참조 수를 줄이고, 중복 제거 이전의 이미지는 한 번에 삭제한다.")
+        void delete_images_release_per_hash() {
+
+            // given
+            final var object = new BoardImageObject("hash", "hash.png", "/images/hash.png");
+            final var shared = List.of(new BoardImage(object), new BoardImage(object));
+            final var legacy = new BoardImage("legacy.png", "/images/legacy.png");
+            given(boardImageRepository.findAllByFileNames(Set.of("hash.png", "legacy.png", "unknown.png")))
+                    .willReturn(List.of(shared.get(0), shared.get(1), legacy));
+
+            // when
+            final var response = boardImageService.deleteImages(new DeleteImagesRequest(
+                    List.of("/images/hash.png", "/images/hash.png", "/images/legacy.png", "/images/unknown.png")));
+
+            // then
+            assertThat(response.imageIds()).hasSize(3);
+            then(boardImageRepository).should().deleteBoardImagesByIds(any());
+            then(boardImageObjectRegistry).should().release("hash", 2);
+            then(boardImageObjectRegistry).should(never()).release(anyString());
+            then(imageStore).should().deleteAll(BoardImageVariant.allFileNames("legacy.png"));
+        }
+
+        @Test
+        @DisplayName("URL 로 게시글에 연결된 이미지를 삭제하면 예외가 발생한다.")
+        void delete_attached_by_path() {
+
+            // given
+            final var attached = attached(new BoardImage("image.png", "/images/image.png"));
+            given(boardImageRepository.findAllByFileNames(Set.of("image.png"))).willReturn(List.of(attached));
+
+            // when, then
+            assertThatThrownBy(() -> boardImageService.deleteImage(new DeleteImageRequest("/images/image.png")))
+                    .isInstanceOf(BoardImageAttachedException.class);
+            then(boardImageRepository).should(never()).delete(any());
+            then(imageStore).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("여러 이미지를 삭제할 때 게시글에 연결된 이미지는 삭제하지 않는다.")
+        void delete_images_skip_attached() {
+
+            // given
+            final var attached = attached(new BoardImage("attached.png", "/images/attached.png"));
+            final var unattached = new BoardImage("unattached.png", "/images/unattached.png");
+            given(boardImageRepository.findAllByFileNames(Set.of("attached.png", "unattached.png")))
+                    .willReturn(List.of(attached, unattached));
+
+            // when
+            final var response = boardImageService.deleteImages(new DeleteImagesRequest(
+                    List.of("/images/attached.png", "/images/unattached.png")));
+
+            // then
+            assertThat(response.imageIds()).hasSize(1);
+            then(imageStore).should().deleteAll(BoardImageVariant.allFileNames("unattached.png"));
+            then(imageStore).should(never()).deleteAll(BoardImageVariant.allFileNames("attached.png"));
+        }
+    }
+}
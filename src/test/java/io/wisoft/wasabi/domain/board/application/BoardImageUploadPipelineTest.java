@@ -0,0 +1,124 @@
+package io.wisoft.wasabi.domain.board.application;
+
+import com.amazonaws.SdkClientException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.wisoft.wasabi.domain.board.persistence.BoardImageStatus;
+import io.wisoft.wasabi.global.config.common.storage.ImageStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class BoardImageUploadPipelineTest {
+
+    @Mock
+    private ImageStore imageStore;
+
+    @Mock
+    private BoardImageRepository boardImageRepository;
+
+    @Mock
+    private BoardImageVariantGenerator variantGenerator;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    private Path spoolDirectory;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private BoardImageUploadPipeline uploadPipeline;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        meterRegistry = new SimpleMeterRegistry();
+        uploadPipeline = new BoardImageUploadPipeline(
+                imageStore,
+                boardImageRepository,
+                variantGenerator,
+                meterRegistry,
+                transactionManager,
+                spoolDirectory,
+                10,
+                1,
+                3,
+                Duration.ofMillis(1),
+                Duration.ofMillis(10),
+                Duration.ofSeconds(1)
+        );
+        uploadPipeline.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        uploadPipeline.stop();
+    }
+
+    @Test
+    @DisplayName("업로드에 실패하면 재시도하고, 성공하면 READY 상태로 변경한 뒤 스풀 파일로 축소 이미지 생성을 요청한다.")
+    void upload_after_retry() throws IOException {
+
+        // given
+        final Path spoolFile = Files.write(spoolDirectory.resolve("image.png"), new byte[]{1, 2, 3});
+
+        willThrow(new SdkClientException("temporary failure"))
+                .willDoNothing()
+                .given(imageStore).store(eq("image.png"), any(), eq(3L), eq("image/png"));
+
+        // when
+        uploadPipeline.enqueue(1L, "image.png");
+
+        // then
+        then(boardImageRepository).should(timeout(1000)).updateStatus(1L, BoardImageStatus.READY);
+        then(imageStore).should(times(2)).store(eq("image.png"), any(), eq(3L), eq("image/png"));
+        then(variantGenerator).should(timeout(1000)).submit("image.png", spoolFile);
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(meterRegistry.get("board.image.upload.retries").counter().count()).isEqualTo(1);
+            softAssertions.assertThat(meterRegistry.get("board.image.upload.latency").timer().count()).isEqualTo(1);
+        });
+    }
+
+    @Test
+    @DisplayName("최대 재시도 횟수만큼 실패하면 FAILED 상태로 변경한다.")
+    void upload_fail() throws IOException {
+
+        // given
+        Files.write(spoolDirectory.resolve("image.png"), new byte[]{1, 2, 3});
+
+        willThrow(new SdkClientException("failure"))
+                .given(imageStore).store(anyString(), any(), anyLong(), anyString());
+
+        // when
+        uploadPipeline.enqueue(1L, "image.png");
+
+        // then
+        then(boardImageRepository).should(timeout(1000)).updateStatus(1L, BoardImageStatus.FAILED);
+        then(imageStore).should(times(3)).store(anyString(), any(), anyLong(), anyString());
+        then(boardImageRepository).should(after(100).never()).updateStatus(1L, BoardImageStatus.READY);
+        then(variantGenerator).should(never()).submit(anyString(), any(Path.class));
+    }
+}
@@ -0,0 +1,133 @@
+package io.wisoft.wasabi.domain.board.application;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.wisoft.wasabi.domain.board.persistence.BoardImage;
+import io.wisoft.wasabi.domain.board.persistence.BoardImageStatus;
+import io.wisoft.wasabi.global.config.common.storage.ImageStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 커밋 이후의 트랜잭션 동기화 콜백에서 큐가 가득 찬 경우를 실제 트랜잭션으로 확인한다.
+ */
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BoardImageUploadPipelineTransactionTest {
+
+    @Autowired
+    private BoardImageRepository boardImageRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    private Path spoolDirectory;
+
+    private final ImageStore imageStore = mock(ImageStore.class);
+
+    private BoardImageUploadPipeline uploadPipeline;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        // worker 가 없으므로 큐에 들어간 첫 번째 작업이 빠지지 않아, 두 번째 작업부터는 큐가 가득 찬다.
+        uploadPipeline = new BoardImageUploadPipeline(
+                imageStore,
+                boardImageRepository,
+                mock(BoardImageVariantGenerator.class),
+                new SimpleMeterRegistry(),
+                transactionManager,
+                spoolDirectory,
+                1,
+                0,
+                3,
+                Duration.ofMillis(1),
+                Duration.ofMillis(10),
+                Duration.ofSeconds(1)
+        );
+        uploadPipeline.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        uploadPipeline.stop();
+        boardImageRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("커밋된 뒤 큐가 가득 차 있다면, 요청한 스레드에서 업로드하지 않고 PENDING 상태와 스풀 파일을 남긴다.")
+    void queue_full_after_commit() throws IOException {
+
+        // given
+        Files.write(spoolDirectory.resolve("first.png"), new byte[]{1, 2, 3});
+        final Path secondSpoolFile = Files.write(spoolDirectory.resolve("second.png"), new byte[]{4, 5, 6});
+
+        final TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // when
+        final List<Long> ids = transactionTemplate.execute(status -> {
+            final BoardImage first = boardImageRepository.save(
+                    new BoardImage("first.png", "/images/first.png", BoardImageStatus.PENDING));
+            final BoardImage second = boardImageRepository.save(
+                    new BoardImage("second.png", "/images/second.png", BoardImageStatus.PENDING));
+
+            uploadPipeline.enqueue(first.getId(), first.getFileName());
+            uploadPipeline.enqueue(second.getId(), second.getFileName());
+            return List.of(first.getId(), second.getId());
+        });
+
+        // then
+        then(imageStore).shouldHaveNoInteractions();
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(boardImageRepository.findAllById(ids))
+                    .extracting(BoardImage::getStatus)
+                    .containsOnly(BoardImageStatus.PENDING);
+            softAssertions.assertThat(secondSpoolFile).exists();
+            softAssertions.assertThat(uploadPipeline.requeuePending()).isZero();
+        });
+    }
+
+    @Test
+    @DisplayName("이 서버의 스풀 디렉터리에 파일이 남아 있는 PENDING 상태의 이미지만 다시 큐에 넣는다.")
+    void requeue_only_spooled_pending_images() throws IOException {
+
+        // given
+        boardImageRepository.save(new BoardImage("remote.png", "/images/remote.png", BoardImageStatus.PENDING));
+        boardImageRepository.save(new BoardImage("ready.png", "/images/ready.png", BoardImageStatus.READY));
+        boardImageRepository.save(new BoardImage("local.png", "/images/local.png", BoardImageStatus.PENDING));
+
+        Files.write(spoolDirectory.resolve("ready.png"), new byte[]{1, 2, 3});
+        Files.write(spoolDirectory.resolve("local.png"), new byte[]{4, 5, 6});
+
+        // when
+        final int requeued = uploadPipeline.requeuePending();
+
+        // then
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(requeued).isEqualTo(1);
+            softAssertions.assertThat(uploadPipeline.requeuePending()).isZero();
+        });
+    }
+}
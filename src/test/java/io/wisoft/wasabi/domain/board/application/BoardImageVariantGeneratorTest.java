@@ -0,0 +1,167 @@
+package io.wisoft.wasabi.domain.board.application;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.wisoft.wasabi.global.config.common.storage.ImageStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class BoardImageVariantGeneratorTest {
+
+    @Mock
+    private ImageStore imageStore;
+
+    @Mock
+    private BoardImageRepository boardImageRepository;
+
+    @Mock
+    private BoardImageObjectRepository boardImageObjectRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    private Path directory;
+
+    private BoardImageVariantGenerator variantGenerator;
+
+    @BeforeEach
+    void setUp() {
+        variantGenerator = createGenerator(40_000_000);
+    }
+
+    private BoardImageVariantGenerator createGenerator(final long maxPixels) {
+        return new BoardImageVariantGenerator(imageStore, boardImageRepository, boardImageObjectRepository,
+                transactionManager, new SimpleMeterRegistry(), 1, 10, maxPixels);
+    }
+
+    @AfterEach
+    void tearDown() {
+        variantGenerator.shutdown();
+    }
+
+    @Test
+    @DisplayName("원본 이미지의 비율을 유지한 축소 이미지들을 저장하고 생성 여부를 기록한 뒤, 원본 파일을 삭제한다.")
+    void generate_variants() throws IOException {
+
+        // given
+        final Path original = directory.resolve("image.png");
+        ImageIO.write(new BufferedImage(2048, 1024, BufferedImage.TYPE_INT_ARGB), "png", original.toFile());
+
+        final Map<String, BufferedImage> stored = new ConcurrentHashMap<>();
+        willAnswer(invocation -> {
+            try (final InputStream content = invocation.getArgument(1)) {
+                stored.put(invocation.getArgument(0), ImageIO.read(content));
+            }
+            return null;
+        }).given(imageStore).store(anyString(), any(), anyLong(), eq("image/png"));
+
+        // when
+        variantGenerator.submit("image.png", original);
+        variantGenerator.shutdown();
+
+        // then
+        then(imageStore).should(times(2)).store(anyString(), any(), anyLong(), eq("image/png"));
+        then(boardImageObjectRepository).should().markVariantsGenerated("image.png");
+        then(boardImageRepository).should().markVariantsGenerated("image.png");
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(stored.get("image_thumbnail.png").getWidth()).isEqualTo(320);
+            softAssertions.assertThat(stored.get("image_thumbnail.png").getHeight()).isEqualTo(160);
+            softAssertions.assertThat(stored.get("image_medium.png").getWidth()).isEqualTo(1024);
+            softAssertions.assertThat(stored.get("image_medium.png").getHeight()).isEqualTo(512);
+            softAssertions.assertThat(original).doesNotExist();
+        });
+    }
+
+    @Test
+    @DisplayName("원본 이미지가 축소 이미지보다 작다면 확대하지 않는다.")
+    void generate_variants_without_upscale() throws IOException {
+
+        // given
+        final Path original = directory.resolve("image.jpg");
+        ImageIO.write(new BufferedImage(100, 50, BufferedImage.TYPE_INT_RGB), "jpg", original.toFile());
+
+        final Map<String, BufferedImage> stored = new ConcurrentHashMap<>();
+        willAnswer(invocation -> {
+            try (final InputStream content = invocation.getArgument(1)) {
+                stored.put(invocation.getArgument(0), ImageIO.read(content));
+            }
+            return null;
+        }).given(imageStore).store(anyString(), any(), anyLong(), eq("image/jpg"));
+
+        // when
+        variantGenerator.submit("image.jpg", original);
+        variantGenerator.shutdown();
+
+        // then
+        then(imageStore).should(times(2)).store(anyString(), any(), anyLong(), eq("image/jpg"));
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(stored.get("image_thumbnail.jpg").getWidth()).isEqualTo(100);
+            softAssertions.assertThat(stored.get("image_medium.jpg").getWidth()).isEqualTo(100);
+        });
+    }
+
+    @Test
+    @DisplayName("이미지가 아닌 파일은 축소 이미지를 만들지 않고 원본 파일만 삭제한다.")
+    void skip_not_image() throws IOException {
+
+        // given
+        final Path original = Files.write(directory.resolve("image.png"), new byte[]{1, 2, 3});
+
+        // when
+        variantGenerator.submit("image.png", original);
+        variantGenerator.shutdown();
+
+        // then
+        then(imageStore).should(never()).store(anyString(), any(), anyLong(), anyString());
+        then(boardImageRepository).should(never()).markVariantsGenerated(anyString());
+        assertSoftly(softAssertions -> softAssertions.assertThat(original).doesNotExist());
+    }
+
+    @Test
+    @DisplayName("픽셀 수가 제한을 넘는 이미지는 디코딩하지 않고, 축소 이미지를 만들지 않는다.")
+    void skip_oversized_image() throws IOException {
+
+        // given
+        variantGenerator.shutdown();
+        variantGenerator = createGenerator(1_000);
+
+        final Path original = directory.resolve("image.png");
+        ImageIO.write(new BufferedImage(100, 50, BufferedImage.TYPE_INT_ARGB), "png", original.toFile());
+
+        // when
+        variantGenerator.submit("image.png", original);
+        variantGenerator.shutdown();
+
+        // then
+        then(imageStore).should(never()).store(anyString(), any(), anyLong(), anyString());
+        then(boardImageRepository).should(never()).markVariantsGenerated(anyString());
+        assertSoftly(softAssertions -> softAssertions.assertThat(original).doesNotExist());
+    }
+}
@@ -2,7 +2,6 @@ package io.wisoft.wasabi.domain.board.application;
 
 import autoparams.AutoSource;
 import autoparams.customization.Customization;
-import io.wisoft.wasabi.customization.NotSaveMemberCustomization;
 import io.wisoft.wasabi.customization.composite.BoardCompositeCustomizer;
 import io.wisoft.wasabi.domain.board.persistence.Board;
 import io.wisoft.wasabi.domain.board.application.BoardRepository;
@@ -20,7 +19,6 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.test.context.ActiveProfiles;
 
 import javax.validation.constraints.Min;
-import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.SoftAssertions.assertSoftly;
@@ -88,128 +86,90 @@ class BoardRepositoryTest {
                 softAssertions.assertThat(result.getContent()).isEqualTo(expected.getContent());
             });
         }
+    }
 
-        @DisplayName("작성한 게시글 목록 조회 요청시 자신이 작성한 게시글들만 최신순으로 조회된다.")
-        @ParameterizedTest
-        @AutoSource
-        @Customization(BoardCompositeCustomizer.class)
-        void read_my_boards(final Member member,
-                            final List<Board> boards) {
-
-            // given
-            em.persist(member);
-            boardRepository.saveAll(boards);
-            boards.stream()
-                .map(board -> new Like(member, board))
-                .forEach(em::persist);
-
-            // when
-            final var result = boardRepository.findAllMyBoards(member.getId(), pageable);
-
-            // then
-            assertSoftly(softAssertions -> {
-                softAssertions.assertThat(result.getContent()).isNotEmpty();
-                softAssertions.assertThat(result.getContent().size()).isEqualTo(boards.size());
-
-            });
-        }
+    @Nested
+    @DisplayName("게시글 존재 확인")
+    class ExistsBoard {
 
-        @DisplayName("좋아요한 게시글 목록 조회 요청시 자신이 좋아요를 누른 게시글들만 최신순으로 조회된다.")
+        @DisplayName("게시글이 존재하면 참의 결과가 조회된다.")
         @ParameterizedTest
         @AutoSource
         @Customization(BoardCompositeCustomizer.class)
-        void read_my_like_boards(final Member member,
-                                 final List<Board> boards) {
+        void check_exists_board(final Member member,
+                                final Board board) {
 
             // given
             em.persist(member);
-            boardRepository.saveAll(boards);
-            boards.stream()
-                .map(board -> new Like(member, board))
-                .forEach(em::persist);
-
-            final var expected = member.getLikes();
+            boardRepository.save(board);
 
             // when
-            final var result = boardRepository.findAllMyLikeBoards(member.getId(), pageable);
+            final var result = boardRepository.existsById(board.getId());
 
             // then
-            assertThat(result.getContent().size()).isEqualTo(expected.size());
+            assertThat(result).isTrue();
         }
 
-        @DisplayName("작성한 게시글 목록 조회 요청시 자신이 작성하지 않은 게시글 목록은 조회되지 않는다.")
+        @DisplayName("존재하지 않는 게시글에 대해서는 거짓의 결과가 조회된다.")
         @ParameterizedTest
         @AutoSource
-        @Customization(NotSaveMemberCustomization.class)
-        void read_not_my_boards(final List<Member> members) {
+        void check_not_exists_board(@Min(1) final Long boardId) {
 
             // given
-            members.forEach(em::persist);
-
-            final List<Board> boards = List.of(
-                new Board(
-                    "title",
-                    "content",
-                    members.get(0)
-                ),
-                new Board(
-                    "title",
-                    "content",
-                    members.get(1)
-                )
-            );
-            boardRepository.saveAll(boards);
-
-            final var expected = members.get(0).getBoards();
 
             // when
-            final var result = boardRepository.findAllMyBoards(members.get(0).getId(), pageable);
+            final var result = boardRepository.existsById(boardId);
 
             // then
-            assertSoftly(softAssertions -> {
-                softAssertions.assertThat(result.getContent()).isNotEmpty();
-                softAssertions.assertThat(result.getContent().size()).isEqualTo(expected.size());
-            });
+            assertThat(result).isFalse();
         }
-
     }
 
     @Nested
-    @DisplayName("게시글 존재 확인")
-    class ExistsBoard {
+    @DisplayName("게시글 좋아요 수 갱신")
+    class UpdateLikeCount {
 
-        @DisplayName("게시글이 존재하면 참의 결과가 조회된다.")
+        @DisplayName("좋아요 수가 0인 게시글의 좋아요 수를 감소시키면, 갱신되지 않는다.")
         @ParameterizedTest
         @AutoSource
         @Customization(BoardCompositeCustomizer.class)
-        void check_exists_board(final Member member,
-                                final Board board) {
+        void decrease_zero_like_count(final Member member,
+                                      final Board board) {
 
             // given
             em.persist(member);
             boardRepository.save(board);
 
             // when
-            final var result = boardRepository.existsById(board.getId());
+            final var result = boardRepository.decreaseLikeCount(board.getId());
 
             // then
-            assertThat(result).isTrue();
+            assertThat(result).isZero();
         }
 
-        @DisplayName("존재하지 않는 게시글에 대해서는 거짓의 결과가 조회된다.")
+        @DisplayName("실제 좋아요 수와 어긋난 게시글의 좋아요 수를 보정하면, 실제 좋아요 수로 갱신된다.")
         @ParameterizedTest
         @AutoSource
-        void check_not_exists_board(@Min(1) final Long boardId) {
+        @Customization(BoardCompositeCustomizer.class)
+        void reconcile_like_counts(final Member member,
+                                   final Board board) {
 
             // given
+            em.persist(member);
+            boardRepository.save(board);
+            em.persist(new Like(member, board));
+            boardRepository.increaseAnonymousLikeCount(board.getId());
 
             // when
-            final var result = boardRepository.existsById(boardId);
+            final var result = boardRepository.reconcileLikeCounts();
 
             // then
-            assertThat(result).isFalse();
+            final var reconciled = boardRepository.findById(board.getId()).get();
+            assertSoftly(softAssertions -> {
+                softAssertions.assertThat(result).isEqualTo(1);
+                softAssertions.assertThat(reconciled.getLikeCount()).isEqualTo(1L);
+                softAssertions.assertThat(reconciled.getAnonymousLikeCount()).isZero();
+            });
         }
     }
 }
-
-
@@ -0,0 +1,128 @@
+package io.wisoft.wasabi.domain.board.application;
+
+import io.wisoft.wasabi.domain.board.persistence.BoardQueryRepository;
+import io.wisoft.wasabi.domain.board.persistence.BoardSearchDocument;
+import io.wisoft.wasabi.domain.board.web.dto.SearchBoardResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class BoardSearchIndexTest {
+
+    @Mock
+    private BoardQueryRepository boardQueryRepository;
+
+    private BoardSearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() {
+        searchIndex = new BoardSearchIndex(boardQueryRepository, 2);
+    }
+
+    @Test
+    @DisplayName("시작할 때 DB 의 게시글을 chunk 단위로 읽어 색인한다.")
+    void rebuild_by_chunk() {
+
+        // given
+        given(boardQueryRepository.searchDocuments(0L, 2))
+                .willReturn(List.of(document(1L, "스프링", "내용"), document(2L, "자바", "내용")));
+        given(boardQueryRepository.searchDocuments(2L, 2))
+                .willReturn(List.of(document(3L, "코틀린", "내용")));
+
+        // when
+        searchIndex.rebuild();
+
+        // then
+        assertThat(searchIndex.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("제목에 검색어가 포함된 게시글이 내용에만 포함된 게시글보다 먼저 조회된다.")
+    void search_ranked_by_bm25() {
+
+        // given
+        searchIndex.index(document(1L, "오늘의 일기", "스프링 부트 공부를 했다."));
+        searchIndex.index(document(2L, "스프링 부트 시작하기", "프로젝트를 만든다."));
+        searchIndex.index(document(3L, "자바 기초", "변수와 타입"));
+
+        // when
+        final var result = searchIndex.search("스프링부트", PageRequest.ofSize(10));
+
+        // then
+        assertThat(result.getContent())
+                .extracting(SearchBoardResponse::id)
+                .containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("대표 태그뿐 아니라 추가 태그에 검색어가 포함된 게시글도 조회된다.")
+    void search_by_additional_tag() {
+
+        // given
+        searchIndex.index(new BoardSearchDocument(1L, "제목", "내용", List.of("spring", "querydsl"), "writer", LocalDateTime.now()));
+        searchIndex.index(document(2L, "제목", "내용"));
+
+        // when
+        final var result = searchIndex.search("querydsl", PageRequest.ofSize(10));
+
+        // then
+        assertThat(result.getContent())
+                .extracting(SearchBoardResponse::id)
+                .containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("검색 결과를 페이지 단위로 조회한다.")
+    void search_paginated() {
+
+        // given
+        for (long id = 1; id <= 5; id++) {
+            searchIndex.index(document(id, "jpa " + id, "content"));
+        }
+
+        // when
+        final var first = searchIndex.search("JPA", PageRequest.of(0, 2));
+        final var last = searchIndex.search("JPA", PageRequest.of(2, 2));
+
+        // then
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(first.getContent()).extracting(SearchBoardResponse::id).containsExactly(5L, 4L);
+            softAssertions.assertThat(first.hasNext()).isTrue();
+            softAssertions.assertThat(last.getContent()).extracting(SearchBoardResponse::id).containsExactly(1L);
+            softAssertions.assertThat(last.hasNext()).isFalse();
+        });
+    }
+
+    @Test
+    @DisplayName("같은 게시글을 다시 색인하면, 이전 색인을 대체한다.")
+    void index_replaces_previous() {
+
+        // given
+        searchIndex.index(document(1L, "스프링", "내용"));
+
+        // when
+        searchIndex.index(document(1L, "자바", "내용"));
+
+        // then
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(searchIndex.search("스프링", PageRequest.ofSize(10))).isEmpty();
+            softAssertions.assertThat(searchIndex.search("자바", PageRequest.ofSize(10))).hasSize(1);
+        });
+    }
+
+    private BoardSearchDocument document(final Long id, final String title, final String content) {
+        return new BoardSearchDocument(id, title, content, List.of(), "writer", LocalDateTime.now());
+    }
+}
@@ -0,0 +1,134 @@
+package io.wisoft.wasabi.domain.board.application;
+
+import autoparams.AutoSource;
+import autoparams.customization.Customization;
+import io.wisoft.wasabi.customization.NotSaveMemberCustomization;
+import io.wisoft.wasabi.domain.board.persistence.Board;
+import io.wisoft.wasabi.domain.board.persistence.BoardImage;
+import io.wisoft.wasabi.domain.board.web.dto.WriteBoardRequest;
+import io.wisoft.wasabi.domain.member.persistence.Member;
+import io.wisoft.wasabi.domain.tag.application.TagDictionary;
+import io.wisoft.wasabi.domain.tag.application.TagPopularityCounter;
+import io.wisoft.wasabi.domain.tag.application.TagSuggester;
+import io.wisoft.wasabi.domain.tag.persistence.Tag;
+import io.wisoft.wasabi.setting.QueryDslTestConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static io.wisoft.wasabi.setting.QueryCounter.measure;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+/**
+ * 작성자와 태그에 이미 등록된 게시글 수와 관계없이, 게시글 작성에 드는 쿼리 수가 일정한지 확인한다.
+ */
+@Import({QueryDslTestConfig.class, BoardServiceImpl.class, BoardViewCounter.class, BoardDetailCache.class, BoardSearchIndex.class, BoardTagIndex.class,
+        TagDictionary.class, TagSuggester.class, TagPopularityCounter.class})
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class BoardServiceQueryCountTest {
+
+    private static final int MANY_BOARDS = 100;
+    private static final int MANY_IMAGES = 30;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private BoardServiceImpl boardService;
+
+    @Nested
+    @DisplayName("게시글 작성 쿼리 수")
+    class QueryCount {
+
+        @DisplayName("게시글 작성 시, 작성자와 태그의 게시글 수와 관계없이 같은 수의 쿼리가 실행되고 게시글 목록을 로딩하지 않는다.")
+        @ParameterizedTest
+        @AutoSource
+        @Customization(NotSaveMemberCustomization.class)
+        void write_board_with_constant_query_count(final Member newWriter,
+                                                   final Member prolificWriter) {
+
+            // given
+            em.persist(newWriter);
+            em.persist(prolificWriter);
+
+            final Tag newTag = em.persist(new Tag("new"));
+            final Tag popularTag = em.persist(new Tag("spring"));
+
+            for (int i = 0; i < MANY_BOARDS; i++) {
+                final Board board = new Board("title", "content", prolificWriter);
+                board.setTag(popularTag);
+                em.persist(board);
+            }
+
+            // when
+            final var quiet = measure(em, () -> boardService.writeBoard(request(newTag), newWriter.getId()));
+            final var popular = measure(em, () -> boardService.writeBoard(request(popularTag), prolificWriter.getId()));
+
+            // then
+            assertSoftly(softAssertions -> {
+                softAssertions.assertThat(popular.statements()).isEqualTo(quiet.statements());
+                softAssertions.assertThat(popular.entityLoads()).isEqualTo(quiet.entityLoads());
+                softAssertions.assertThat(popular.collectionLoads()).isZero();
+            });
+        }
+    }
+
+    @Nested
+    @DisplayName("게시글 이미지 연결 쿼리 수")
+    class ImageQueryCount {
+
+        @DisplayName("게시글 작성 시, 포함한 이미지 수와 관계없이 같은 수의 쿼리로 이미지를 연결하고 이미지를 로딩하지 않는다.")
+        @ParameterizedTest
+        @AutoSource
+        @Customization(NotSaveMemberCustomization.class)
+        void write_board_with_images_constant_query_count(final Member writer) {
+
+            // given
+            em.persist(writer);
+            final Tag tag = em.persist(new Tag("spring"));
+
+            final List<Long> oneImage = saveImages(1);
+            final List<Long> manyImages = saveImages(MANY_IMAGES);
+
+            // when
+            final var single = measure(em, () -> boardService.writeBoard(request(tag, oneImage), writer.getId()));
+            final var multiple = measure(em, () -> boardService.writeBoard(request(tag, manyImages), writer.getId()));
+
+            // then
+            em.clear();
+            assertSoftly(softAssertions -> {
+                softAssertions.assertThat(multiple.statements()).isEqualTo(single.statements());
+                softAssertions.assertThat(multiple.entityLoads()).isEqualTo(single.entityLoads());
+                softAssertions.assertThat(multiple.collectionLoads()).isZero();
+                softAssertions.assertThat(manyImages)
+                        .allSatisfy(id -> assertThat(em.find(BoardImage.class, id).getBoard()).isNotNull());
+            });
+        }
+
+        private List<Long> saveImages(final int count) {
+            return IntStream.range(0, count)
+                    .mapToObj(i -> em.persist(new BoardImage(i + ".png", "/images/" + i + ".png")).getId())
+                    .toList();
+        }
+    }
+
+    private WriteBoardRequest request(final Tag tag) {
+        return request(tag, List.of());
+    }
+
+    private WriteBoardRequest request(final Tag tag, final List<Long> imageIds) {
+        return new WriteBoardRequest("title", "content", tag.getName(), new String[]{}, imageIds);
+    }
+}
@@ -8,17 +8,22 @@ import io.wisoft.wasabi.domain.board.application.BoardImageRepository;
 import io.wisoft.wasabi.domain.board.application.BoardMapper;
 import io.wisoft.wasabi.domain.board.application.BoardRepository;
 import io.wisoft.wasabi.domain.board.application.BoardServiceImpl;
+import io.wisoft.wasabi.domain.board.exception.BoardImageNotAttachableException;
+import io.wisoft.wasabi.domain.board.exception.BoardNotFoundException;
+import io.wisoft.wasabi.domain.board.web.dto.MyBoardsResponse;
 import io.wisoft.wasabi.domain.board.web.dto.MyLikeBoardsResponse;
-import io.wisoft.wasabi.domain.board.web.dto.ReadBoardResponse;
 import io.wisoft.wasabi.domain.board.web.dto.SortBoardResponse;
 import io.wisoft.wasabi.domain.board.web.dto.WriteBoardRequest;
 import io.wisoft.wasabi.domain.board.persistence.*;
 import io.wisoft.wasabi.domain.member.persistence.Member;
 import io.wisoft.wasabi.domain.member.application.MemberRepository;
 import io.wisoft.wasabi.domain.tag.persistence.Tag;
-import io.wisoft.wasabi.domain.tag.application.TagRepository;
+import io.wisoft.wasabi.domain.tag.persistence.TagEntry;
+import io.wisoft.wasabi.domain.tag.application.TagDictionary;
+import io.wisoft.wasabi.domain.tag.application.TagPopularityCounter;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.mockito.InjectMocks;
@@ -26,7 +31,6 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
 
 import java.util.ArrayList;
@@ -35,10 +39,17 @@ import java.util.Optional;
 
 import static io.wisoft.wasabi.domain.board.BoardListToSliceMapper.createBoardList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.SoftAssertions.assertSoftly;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 
 @ExtendWith(MockitoExtension.class)
 class BoardServiceTest {
@@ -53,7 +64,7 @@ class BoardServiceTest {
     private BoardRepository boardRepository;
 
     @Mock
-    private TagRepository tagRepository;
+    private TagDictionary tagDictionary;
 
     @Mock
     private BoardQueryRepository boardQueryRepository;
@@ -61,11 +72,29 @@ class BoardServiceTest {
     @Mock
     private BoardImageRepository boardImageRepository;
 
+    @Mock
+    private BoardViewCounter boardViewCounter;
+
+    @Mock
+    private BoardDetailCache boardDetailCache;
+
+    @Mock
+    private BoardSearchIndex boardSearchIndex;
+
+    @Mock
+    private BoardTagRepository boardTagRepository;
+
+    @Mock
+    private BoardTagIndex boardTagIndex;
+
+    @Mock
+    private TagPopularityCounter tagPopularityCounter;
+
     @Nested
     @DisplayName("게시글 작성")
     class WriteBoard {
 
-        @DisplayName("요청시 태그가 이미 존재한다면 조회한 태그를 이용해 게시글을 저장한다.")
+        @DisplayName("요청시 태그 사전에서 얻은 태그를 이용해 게시글을 저장한다.")
         @ParameterizedTest
         @AutoSource
         @Customization(NotSaveTagCustomization.class)
@@ -74,12 +103,16 @@ class BoardServiceTest {
                                   final Tag tag) {
 
             // given
-            given(memberRepository.findById(any())).willReturn(Optional.of(member));
+            given(memberRepository.existsById(any())).willReturn(true);
+            given(memberRepository.getReferenceById(any())).willReturn(member);
 
             final var board = BoardMapper.writeBoardRequestToEntity(request, member);
 
-            given(tagRepository.findByName(any())).willReturn(Optional.of(tag));
+            given(tagDictionary.getOrCreateEntry(any())).willAnswer(invocation -> new TagEntry(tag.getId(), invocation.getArgument(0)));
+            given(tagDictionary.getReference(any())).willReturn(tag);
             given(boardRepository.save(any())).willReturn(board);
+            given(boardImageRepository.attachToBoard(any(), any(), any()))
+                    .willReturn((int) request.imageIds().stream().distinct().count());
 
             // when
             final var response = boardServiceImpl.writeBoard(request, 1L);
@@ -88,15 +121,40 @@ class BoardServiceTest {
             assertThat(tag.getName()).isEqualTo("tag");
         }
 
-        @DisplayName("요청시 저장된 태그가 없다면 태그가 저장된 후 게시글을 저장한다.")
+        @DisplayName("요청한 이미지 중 게시글과 연결하지 못한 이미지가 있다면 예외가 발생한다.")
+        @ParameterizedTest
+        @AutoSource
+        void write_board_with_not_attachable_image(final Member member) {
+
+            // given
+            given(memberRepository.existsById(any())).willReturn(true);
+            given(memberRepository.getReferenceById(any())).willReturn(member);
+
+            final var request = new WriteBoardRequest(
+                    "title",
+                    "content",
+                    null,
+                    new String[]{},
+                    List.of(1L, 2L, 2L));
+
+            given(boardImageRepository.attachToBoard(any(), eq(List.of(1L, 2L)), any())).willReturn(1);
+
+            // when & then
+            assertThatThrownBy(() -> boardServiceImpl.writeBoard(request, 1L))
+                    .isInstanceOf(BoardImageNotAttachableException.class);
+        }
+
+        @DisplayName("요청시 저장된 태그가 없다면 태그 사전이 생성한 태그로 게시글을 저장한다.")
         @ParameterizedTest
         @AutoSource
         @Customization(NotSaveTagCustomization.class)
         void write_board_with_none_tag(final Member member, final Tag tag) {
 
             // given
-            given(memberRepository.findById(any())).willReturn(Optional.of(member));
-            given(tagRepository.save(any())).willReturn(tag);
+            given(memberRepository.existsById(any())).willReturn(true);
+            given(memberRepository.getReferenceById(any())).willReturn(member);
+            given(tagDictionary.getOrCreateEntry("tag")).willReturn(new TagEntry(tag.getId(), "tag"));
+            given(tagDictionary.getReference(any())).willReturn(tag);
 
             final var request = new WriteBoardRequest(
                     "title",
@@ -113,6 +171,39 @@ class BoardServiceTest {
 
             // then
             assertThat(tag.getName()).isEqualTo("tag");
+            then(tagPopularityCounter).should().increaseAfterCommit(List.of(new TagEntry(tag.getId(), "tag")));
+        }
+
+        @DisplayName("이름은 다르지만 같은 태그로 찾아진 태그는, 게시글에 한 번만 연결되고 DB 의 태그 이름으로 집계된다.")
+        @ParameterizedTest
+        @AutoSource
+        void write_board_with_same_tag_in_different_case(final Member member) {
+
+            // given
+            given(memberRepository.existsById(any())).willReturn(true);
+            given(memberRepository.getReferenceById(any())).willReturn(member);
+
+            final Tag tag = mock(Tag.class);
+            given(tagDictionary.getOrCreateEntry(any())).willReturn(new TagEntry(1L, "java"));
+            given(tagDictionary.getReference(new TagEntry(1L, "java"))).willReturn(tag);
+
+            final var request = new WriteBoardRequest(
+                    "title",
+                    "content",
+                    "Java",
+                    new String[]{},
+                    new ArrayList<>(),
+                    List.of("java", "JAVA"));
+
+            final var board = BoardMapper.writeBoardRequestToEntity(request, member);
+            given(boardRepository.save(any())).willReturn(board);
+
+            // when
+            boardServiceImpl.writeBoard(request, 1L);
+
+            // then
+            then(boardTagRepository).should().saveAll(argThat((List<BoardTag> boardTags) -> boardTags.size() == 1));
+            then(tagPopularityCounter).should().increaseAfterCommit(List.of(new TagEntry(1L, "java")));
         }
 
         @DisplayName("요청시 태그가 유효하지 않은 값이면 null로 저장된다.")
@@ -121,7 +212,8 @@ class BoardServiceTest {
         void write_board_with_null(final Member member) {
 
             // given
-            given(memberRepository.findById(any())).willReturn(Optional.of(member));
+            given(memberRepository.existsById(any())).willReturn(true);
+            given(memberRepository.getReferenceById(any())).willReturn(member);
 
             final var request = new WriteBoardRequest(
                     "title",
@@ -154,17 +246,41 @@ class BoardServiceTest {
         void read_board_success(final Member member,
                                 final Board board,
                                 final boolean isAuthenticated,
-                                final ReadBoardResponse response) {
+                                final BoardDetail detail,
+                                final BoardStatus status) {
 
             //given
-            given(boardRepository.findById(any())).willReturn(Optional.of(board));
-            given(boardQueryRepository.readBoard(any(), any(), anyBoolean())).willReturn(response);
+            given(boardQueryRepository.readBoardStatus(any(), any(), anyBoolean())).willReturn(Optional.of(status));
+            given(boardDetailCache.get(any())).willReturn(Optional.of(detail));
+            given(boardViewCounter.getPendingViews(any())).willReturn(1L);
 
             //when
             final var result = boardServiceImpl.readBoard(board.getId(), member.getId(), isAuthenticated);
 
             //then
-            assertThat(result).isNotNull();
+            assertSoftly(softAssertions -> {
+                softAssertions.assertThat(result).isNotNull();
+                softAssertions.assertThat(result.title()).isEqualTo(detail.title());
+                softAssertions.assertThat(result.isLike()).isEqualTo(status.isLike());
+                softAssertions.assertThat(result.views()).isEqualTo(status.views() + 1);
+            });
+            then(boardViewCounter).should().increase(board.getId());
+        }
+
+        @DisplayName("존재하지 않는 게시글을 조회하면, 조회수가 증가하지 않고 예외가 발생한다.")
+        @ParameterizedTest
+        @AutoSource
+        void read_not_found_board(final Long boardId,
+                                  final Long accessId,
+                                  final boolean isAuthenticated) {
+
+            //given
+            given(boardQueryRepository.readBoardStatus(any(), any(), anyBoolean())).willReturn(Optional.empty());
+
+            //when & then
+            assertThatThrownBy(() -> boardServiceImpl.readBoard(boardId, accessId, isAuthenticated))
+                    .isInstanceOf(BoardNotFoundException.class);
+            then(boardViewCounter).should(never()).increase(any());
         }
 
         @ParameterizedTest
@@ -240,55 +356,115 @@ class BoardServiceTest {
             });
         }
 
-        @DisplayName("작성한 게시글 목록 조회 요청시 자신이 작성한 게시글 목록이 최신순으로 조회된다.")
         @ParameterizedTest
         @AutoSource
+        @DisplayName("여러 태그로 게시글 목록 조회시, 모든 태그를 가진 게시글 id 로 한 페이지를 조회한다.")
+        @Customization(NotSaveBoardCustomization.class)
+        void read_boards_by_all_tags(final Board board1, final Board board2) {
+
+            //given
+            final var boardList = createBoardList(board2, board1);
+            final long[] boardIds = {1L, 2L};
+
+            given(tagDictionary.findId("spring")).willReturn(Optional.of(10L));
+            given(tagDictionary.findId("jpa")).willReturn(Optional.of(20L));
+            given(boardTagIndex.all(List.of(10L, 20L))).willReturn(boardIds);
+            given(boardQueryRepository.boardListByIds(boardIds, BoardSortType.LATEST, pageable)).willReturn(boardList);
+
+            //when
+            final var result = boardServiceImpl.getBoardList("latest", pageable, List.of("spring", "jpa"), TagMatchType.ALL);
+
+            //then
+            assertThat(result.getContent()).hasSize(2);
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 태그가 포함된 모든 태그 조회시, 태그별 게시글 목록을 확인하지 않고 빈 목록을 조회한다.")
+        void read_boards_by_all_tags_with_unknown_tag() {
+
+            //given
+            given(tagDictionary.findId("spring")).willReturn(Optional.of(10L));
+            given(tagDictionary.findId("unknown")).willReturn(Optional.empty());
+            given(boardQueryRepository.boardListByIds(new long[0], BoardSortType.LATEST, pageable))
+                    .willReturn(new SliceImpl<>(List.of(), pageable, false));
+
+            //when
+            final var result = boardServiceImpl.getBoardList("latest", pageable, List.of("spring", "unknown"), TagMatchType.ALL);
+
+            //then
+            assertThat(result.getContent()).isEmpty();
+            then(boardTagIndex).should(never()).all(any());
+        }
+
+        @ParameterizedTest
+        @AutoSource
+        @DisplayName("게시글 목록 커서 조회시, 다음 페이지가 있다면 마지막 게시글을 가리키는 커서가 함께 반환된다.")
         @Customization(NotSaveBoardCustomization.class)
+        void read_boards_by_cursor(final Board board1, final Board board2) {
+
+            //given
+            board1.increaseView();
+
+            final var boardList = createBoardList(board1, board2);
+            final var slice = new SliceImpl<>(boardList.getContent(), PageRequest.ofSize(2), true);
+
+            given(boardQueryRepository.boardListByCursor(null, 2, BoardSortType.VIEWS, "tag")).willReturn(slice);
+
+            //when
+            final var result = boardServiceImpl.getBoardList("views", null, 2, "tag");
+
+            //then
+            final var nextCursor = BoardCursor.decode(result.nextCursor(), BoardSortType.VIEWS);
+            assertSoftly(softAssertions -> {
+                softAssertions.assertThat(result.boards().getContent()).hasSize(2);
+                softAssertions.assertThat(nextCursor.id()).isEqualTo(board2.getId());
+                softAssertions.assertThat(nextCursor.views()).isEqualTo(board2.getViews());
+            });
+        }
+
+        @DisplayName("작성한 게시글 목록 조회 요청시 자신이 작성한 게시글 목록과 다음 페이지 커서가 조회된다.")
+        @ParameterizedTest
+        @AutoSource
         void read_my_Boards(
                 final Long memberId,
-                final List<Board> boardList
+                final List<MyBoardsResponse> boardList
         ) {
 
             // given
-            final var boards = new SliceImpl<>(boardList);
-            given(boardRepository.findAllMyBoards(any(), any())).willReturn(boards);
+            final var boards = new SliceImpl<>(boardList, PageRequest.ofSize(boardList.size()), true);
+            given(boardQueryRepository.myBoards(any(), any(), anyInt())).willReturn(boards);
 
             // when
-            final var myBoards = boardServiceImpl.getMyBoards(memberId, pageable);
+            final var myBoards = boardServiceImpl.getMyBoards(memberId, null, boardList.size());
 
             // then
+            final var last = boardList.get(boardList.size() - 1);
+            final var nextCursor = BoardCursor.decode(myBoards.nextCursor(), BoardSortType.LATEST);
             assertSoftly(softAssertions -> {
-                softAssertions.assertThat(myBoards).isNotEmpty();
-                softAssertions.assertThat(myBoards.getSize()).isEqualTo(3);
+                softAssertions.assertThat(myBoards.boards()).isNotEmpty();
+                softAssertions.assertThat(myBoards.boards().getSize()).isEqualTo(boardList.size());
+                softAssertions.assertThat(nextCursor.id()).isEqualTo(last.id());
+                softAssertions.assertThat(nextCursor.createdAt()).isEqualTo(last.createdAt());
             });
         }
 
         @ParameterizedTest
         @AutoSource
-        @DisplayName("좋아요한 게시글 목록 조회 요청시 자신이 좋아요를 누른 게시글 목록이 최신순으로 조회된다.")
-        @Customization(NotSaveBoardCustomization.class)
+        @DisplayName("좋아요한 게시글 목록의 마지막 페이지를 조회하면, 다음 페이지 커서가 없다.")
         void read_my_like_boards(final Long memberId,
-                                 final Board board1,
-                                 final Board board2,
-                                 final Board board3) {
+                                 final List<MyLikeBoardsResponse> boardList) {
 
             // given
-            final var boards = new SliceImpl<>(List.of(board3, board2, board1));
-            given(boardRepository.findAllMyLikeBoards(any(), any())).willReturn(boards);
+            final var boards = new SliceImpl<>(boardList, PageRequest.ofSize(boardList.size()), false);
+            given(boardQueryRepository.myLikeBoards(any(), any(), anyInt())).willReturn(boards);
 
             // when
-            final var pageable = PageRequest.of(0, 3);
-            final Slice<MyLikeBoardsResponse> myLikeBoards = boardServiceImpl.getMyLikeBoards(memberId, pageable);
+            final var myLikeBoards = boardServiceImpl.getMyLikeBoards(memberId, null, boardList.size());
 
             // then
             assertSoftly(softAssertions -> {
-                final var response1 = myLikeBoards.getContent().get(0);
-                final var response2 = myLikeBoards.getContent().get(1);
-                final var response3 = myLikeBoards.getContent().get(2);
-
-                softAssertions.assertThat(myLikeBoards.getSize()).isEqualTo(3);
-                softAssertions.assertThat(response1.createdAt()).isAfter(response2.createdAt());
-                softAssertions.assertThat(response2.createdAt()).isAfter(response3.createdAt());
+                softAssertions.assertThat(myLikeBoards.boards().getContent()).isEqualTo(boardList);
+                softAssertions.assertThat(myLikeBoards.nextCursor()).isNull();
             });
         }
     }
@@ -0,0 +1,119 @@
+package io.wisoft.wasabi.domain.board.application;
+
+import io.wisoft.wasabi.domain.board.persistence.BoardTagEntry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class BoardTagIndexTest {
+
+    private static final Long SPRING = 1L;
+    private static final Long JPA = 2L;
+    private static final Long KOTLIN = 3L;
+
+    @Mock
+    private BoardTagRepository boardTagRepository;
+
+    private BoardTagIndex boardTagIndex;
+
+    @BeforeEach
+    void setUp() {
+        boardTagIndex = new BoardTagIndex(boardTagRepository, 2);
+    }
+
+    @Test
+    @DisplayName("모든 태그를 가진 게시글 id 를 오름차순으로 조회한다.")
+    void all() {
+
+        // given
+        boardTagIndex.add(1L, List.of(SPRING, JPA));
+        boardTagIndex.add(2L, List.of(SPRING));
+        boardTagIndex.add(3L, List.of(SPRING, JPA, KOTLIN));
+        boardTagIndex.add(4L, List.of(JPA));
+
+        // when
+        final long[] result = boardTagIndex.all(List.of(SPRING, JPA));
+
+        // then
+        assertThat(result).containsExactly(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("게시글이 없는 태그가 포함되면, 모든 태그를 가진 게시글은 없다.")
+    void all_with_unknown_tag() {
+
+        // given
+        boardTagIndex.add(1L, List.of(SPRING));
+
+        // when
+        final long[] result = boardTagIndex.all(List.of(SPRING, 99L));
+
+        // then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    @DisplayName("하나 이상의 태그를 가진 게시글 id 를 중복 없이 오름차순으로 조회한다.")
+    void any() {
+
+        // given
+        boardTagIndex.add(3L, List.of(SPRING, JPA));
+        boardTagIndex.add(1L, List.of(KOTLIN));
+        boardTagIndex.add(2L, List.of(JPA));
+
+        // when
+        final long[] result = boardTagIndex.any(List.of(SPRING, JPA));
+
+        // then
+        assertThat(result).containsExactly(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("순서와 관계없이 추가된 게시글도 정렬된 위치에 한 번만 추가된다.")
+    void add_out_of_order() {
+
+        // given
+        boardTagIndex.add(5L, List.of(SPRING));
+        boardTagIndex.add(2L, List.of(SPRING));
+        boardTagIndex.add(9L, List.of(SPRING));
+        boardTagIndex.add(2L, List.of(SPRING));
+
+        // when
+        final long[] result = boardTagIndex.all(List.of(SPRING));
+
+        // then
+        assertThat(result).containsExactly(2L, 5L, 9L);
+        assertThat(boardTagIndex.count(SPRING)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("시작할 때 게시글과 태그의 연결과 이전 게시글의 대표 태그를 chunk 단위로 읽어 추가한다.")
+    void load() {
+
+        // given
+        given(boardTagRepository.findEntries(eq(0L), any()))
+                .willReturn(List.of(new BoardTagEntry(1L, 10L, SPRING), new BoardTagEntry(2L, 10L, JPA)));
+        given(boardTagRepository.findEntries(eq(2L), any()))
+                .willReturn(List.of());
+        given(boardTagRepository.findRepresentativeEntries(eq(0L), any()))
+                .willReturn(List.of(new BoardTagEntry(3L, 3L, SPRING)));
+
+        // when
+        boardTagIndex.load();
+
+        // then
+        assertThat(boardTagIndex.all(List.of(SPRING))).containsExactly(3L, 10L);
+        assertThat(boardTagIndex.all(List.of(SPRING, JPA))).containsExactly(10L);
+    }
+}
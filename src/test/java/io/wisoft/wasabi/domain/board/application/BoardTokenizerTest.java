@@ -0,0 +1,48 @@
+package io.wisoft.wasabi.domain.board.application;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoardTokenizerTest {
+
+    @Test
+    @DisplayName("한글은 두 글자씩 겹쳐 자르고, 영어는 소문자 단어로 자른다.")
+    void tokenize_korean_and_english() {
+
+        // given
+        final String text = "Spring 부트로 만든 API";
+
+        // when
+        final var tokens = BoardTokenizer.tokenize(text);
+
+        // then
+        assertThat(tokens).containsExactly("spring", "부트", "트로", "만든", "api");
+    }
+
+    @Test
+    @DisplayName("문자 체계가 바뀌는 곳에서 토큰을 나누고, 한 글자 한글 단어는 그대로 사용한다.")
+    void tokenize_mixed_script() {
+
+        // given
+        final String text = "JPA를 쓴 글";
+
+        // when
+        final var tokens = BoardTokenizer.tokenize(text);
+
+        // then
+        assertThat(tokens).containsExactly("jpa", "를", "쓴", "글");
+    }
+
+    @Test
+    @DisplayName("글자나 숫자가 없는 문자열은 토큰이 없다.")
+    void tokenize_blank() {
+
+        // when
+        final var tokens = BoardTokenizer.tokenize(" !? ");
+
+        // then
+        assertThat(tokens).isEmpty();
+    }
+}
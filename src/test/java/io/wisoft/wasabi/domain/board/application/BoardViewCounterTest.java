@@ -0,0 +1,84 @@
+package io.wisoft.wasabi.domain.board.application;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class BoardViewCounterTest {
+
+    @InjectMocks
+    private BoardViewCounter boardViewCounter;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Nested
+    @DisplayName("조회수 반영")
+    class Flush {
+
+        @DisplayName("누적된 조회수를 반영하면, 게시글별 조회수가 한 번의 배치로 반영되고 초기화된다.")
+        @Test
+        void flush_pending_views() {
+
+            // given
+            boardViewCounter.increase(1L);
+            boardViewCounter.increase(1L);
+            boardViewCounter.increase(2L);
+
+            // when
+            boardViewCounter.flush();
+
+            // then
+            then(jdbcTemplate).should().batchUpdate(anyString(), anyList());
+            assertSoftly(softAssertions -> {
+                softAssertions.assertThat(boardViewCounter.getPendingViews(1L)).isZero();
+                softAssertions.assertThat(boardViewCounter.getPendingViews(2L)).isZero();
+            });
+        }
+
+        @DisplayName("누적된 조회수가 없다면, DB 에 반영하지 않는다.")
+        @Test
+        void flush_without_pending_views() {
+
+            // when
+            boardViewCounter.flush();
+
+            // then
+            then(jdbcTemplate).should(never()).batchUpdate(anyString(), anyList());
+        }
+
+        @DisplayName("조회수 반영에 실패하면, 다음 반영을 위해 조회수가 유지된다.")
+        @Test
+        void keep_pending_views_when_flush_failed() {
+
+            // given
+            boardViewCounter.increase(1L);
+            boardViewCounter.increase(1L);
+            given(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                    .willThrow(new DataAccessResourceFailureException("connection refused"));
+
+            // when
+            boardViewCounter.flush();
+
+            // then
+            assertThat(boardViewCounter.getPendingViews(1L)).isEqualTo(2L);
+        }
+    }
+}
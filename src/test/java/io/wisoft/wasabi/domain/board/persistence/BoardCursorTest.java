@@ -0,0 +1,67 @@
+package io.wisoft.wasabi.domain.board.persistence;
+
+import io.wisoft.wasabi.domain.board.exception.BoardCursorInvalidException;
+import io.wisoft.wasabi.domain.board.web.dto.SortBoardResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class BoardCursorTest {
+
+    private final SortBoardResponse board =
+            new SortBoardResponse(10L, "title", "writer", LocalDateTime.of(2024, 1, 1, 12, 0, 30), 5L, 7);
+
+    @Nested
+    @DisplayName("커서 인코딩/디코딩")
+    class EncodeAndDecode {
+
+        @DisplayName("인코딩한 커서를 디코딩하면, 원래의 정렬 기준 값과 id 를 얻는다.")
+        @Test
+        void decode_encoded_cursor() {
+
+            // given
+            final String latest = BoardCursor.of(BoardSortType.LATEST, board).encode();
+            final String views = BoardCursor.of(BoardSortType.VIEWS, board).encode();
+            final String likes = BoardCursor.of(BoardSortType.LIKES, board).encode();
+
+            // when
+            final var latestCursor = BoardCursor.decode(latest, BoardSortType.LATEST);
+            final var viewsCursor = BoardCursor.decode(views, BoardSortType.VIEWS);
+            final var likesCursor = BoardCursor.decode(likes, BoardSortType.LIKES);
+
+            // then
+            assertSoftly(softAssertions -> {
+                softAssertions.assertThat(latestCursor.createdAt()).isEqualTo(board.createdAt());
+                softAssertions.assertThat(viewsCursor.views()).isEqualTo(board.views());
+                softAssertions.assertThat(likesCursor.likeCount()).isEqualTo(board.likeCount());
+                softAssertions.assertThat(likesCursor.id()).isEqualTo(board.id());
+            });
+        }
+
+        @DisplayName("다른 정렬 기준으로 발급된 커서를 사용하면, 예외가 발생한다.")
+        @Test
+        void decode_cursor_with_other_sort_type() {
+
+            // given
+            final String cursor = BoardCursor.of(BoardSortType.VIEWS, board).encode();
+
+            // when & then
+            assertThatThrownBy(() -> BoardCursor.decode(cursor, BoardSortType.LIKES))
+                    .isInstanceOf(BoardCursorInvalidException.class);
+        }
+
+        @DisplayName("형식이 잘못된 커서를 사용하면, 예외가 발생한다.")
+        @Test
+        void decode_malformed_cursor() {
+
+            // when & then
+            assertThatThrownBy(() -> BoardCursor.decode("not-a-cursor!", BoardSortType.LATEST))
+                    .isInstanceOf(BoardCursorInvalidException.class);
+        }
+    }
+}
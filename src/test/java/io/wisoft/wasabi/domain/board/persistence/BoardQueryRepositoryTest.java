@@ -2,11 +2,13 @@ package io.wisoft.wasabi.domain.board.persistence;
 
 import autoparams.AutoSource;
 import autoparams.customization.Customization;
+import io.wisoft.wasabi.customization.NotSaveMemberCustomization;
 import io.wisoft.wasabi.customization.composite.BoardCompositeCustomizer;
 import io.wisoft.wasabi.domain.board.persistence.Board;
 import io.wisoft.wasabi.domain.board.persistence.BoardQueryRepository;
 import io.wisoft.wasabi.domain.board.application.BoardRepository;
 import io.wisoft.wasabi.domain.board.persistence.BoardSortType;
+import io.wisoft.wasabi.domain.board.web.dto.SortBoardResponse;
 import io.wisoft.wasabi.domain.like.persistence.Like;
 import io.wisoft.wasabi.domain.like.persistence.AnonymousLike;
 import io.wisoft.wasabi.domain.member.persistence.Member;
@@ -63,12 +65,44 @@ class BoardQueryRepositoryTest {
             em.persist(board);
 
             // when
-            final var result = boardQueryRepository.readBoard(board.getId(), member.getId(), isAuthenticated);
+            final var detail = boardQueryRepository.readBoardDetail(board.getId());
+            final var status = boardQueryRepository.readBoardStatus(board.getId(), member.getId(), isAuthenticated);
 
             // then
             assertSoftly(softAssertions -> {
-                softAssertions.assertThat(result).isNotNull();
-                softAssertions.assertThat(result.id()).isEqualTo(board.getId());
+                softAssertions.assertThat(detail).isPresent();
+                softAssertions.assertThat(detail.get().id()).isEqualTo(board.getId());
+                softAssertions.assertThat(status).isPresent();
+                softAssertions.assertThat(status.get().isLike()).isFalse();
+            });
+        }
+
+        @DisplayName("게시글 상세 조회시, 업로드에 실패한 이미지를 제외한 게시글의 이미지를 함께 조회한다.")
+        @ParameterizedTest
+        @AutoSource
+        @Customization(BoardCompositeCustomizer.class)
+        void read_board_detail_with_images(final Member member,
+                                           final Board board) {
+
+            // given
+            em.persist(member);
+            em.persist(board);
+
+            final var ready = new BoardImage("ready.png", "/images/ready.png");
+            final var failed = new BoardImage("failed.png", "/images/failed.png", BoardImageStatus.FAILED);
+            ready.setBoard(board);
+            failed.setBoard(board);
+            em.persist(ready);
+            em.persist(failed);
+
+            // when
+            final var detail = boardQueryRepository.readBoardDetail(board.getId());
+
+            // then
+            assertSoftly(softAssertions -> {
+                softAssertions.assertThat(detail).isPresent();
+                softAssertions.assertThat(detail.get().images())
+                        .containsExactly(new BoardImageFile(ready.getId(), "ready.png", "/images/ready.png", false));
             });
         }
 
@@ -127,6 +161,7 @@ class BoardQueryRepositoryTest {
             em.persist(member);
             boardRepository.saveAll(boards);
             em.persist(new Like(member, boards.get(0)));
+            boardRepository.increaseLikeCount(boards.get(0).getId());
 
             final var expected = boards.get(0);
             em.persist(expected);
@@ -151,6 +186,8 @@ class BoardQueryRepositoryTest {
             boardRepository.saveAll(boards);
             em.persist(new Like(member, boards.get(0)));
             em.persist(new AnonymousLike(sessionId, boards.get(0)));
+            boardRepository.increaseLikeCount(boards.get(0).getId());
+            boardRepository.increaseAnonymousLikeCount(boards.get(0).getId());
 
             // when
             final var result = boardQueryRepository.boardList(pageable, BoardSortType.LIKES, "").getContent();
@@ -168,6 +205,181 @@ class BoardQueryRepositoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("게시글 목록 커서 조회")
+    class ReadBoardByCursor {
+
+        @DisplayName("커서 이후의 게시글을 조회하면, 이전 페이지와 중복되지 않는 게시글이 조회된다.")
+        @ParameterizedTest
+        @AutoSource
+        @Customization(BoardCompositeCustomizer.class)
+        void read_boards_after_cursor(final Member member,
+                                      final List<Board> boards) {
+
+            // given
+            em.persist(member);
+            boardRepository.saveAll(boards);
+
+            final var firstPage = boardQueryRepository.boardListByCursor(null, 2, BoardSortType.LATEST, null);
+            final var lastBoard = firstPage.getContent().get(firstPage.getNumberOfElements() - 1);
+            final var cursor = BoardCursor.of(BoardSortType.LATEST, lastBoard);
+
+            // when
+            final var result = boardQueryRepository.boardListByCursor(cursor, 2, BoardSortType.LATEST, null);
+
+            // then
+            assertSoftly(softAssertions -> {
+                softAssertions.assertThat(firstPage.hasNext()).isTrue();
+                softAssertions.assertThat(result.getContent()).hasSize(boards.size() - 2);
+                softAssertions.assertThat(result.getContent())
+                        .doesNotContainAnyElementsOf(firstPage.getContent());
+            });
+        }
+
+        @DisplayName("좋아요 순 커서 조회시, 좋아요 수가 같은 게시글은 id 순으로 이어서 조회된다.")
+        @ParameterizedTest
+        @AutoSource
+        @Customization(BoardCompositeCustomizer.class)
+        void read_boards_after_like_count_cursor(final Member member,
+                                                 final List<Board> boards) {
+
+            // given
+            em.persist(member);
+            boardRepository.saveAll(boards);
+
+            final var firstPage = boardQueryRepository.boardListByCursor(null, 1, BoardSortType.LIKES, null);
+            final var cursor = BoardCursor.of(BoardSortType.LIKES, firstPage.getContent().get(0));
+
+            // when
+            final var result = boardQueryRepository.boardListByCursor(cursor, boards.size(), BoardSortType.LIKES, null);
+
+            // then
+            assertSoftly(softAssertions -> {
+                softAssertions.assertThat(result.hasNext()).isFalse();
+                softAssertions.assertThat(result.getContent()).hasSize(boards.size() - 1);
+                softAssertions.assertThat(result.getContent())
+                        .allMatch(board -> board.id() < cursor.id());
+            });
+        }
+    }
+
+    @Nested
+    @DisplayName("내 게시글 목록 조회")
+    class ReadMyBoards {
+
+        private final Pageable pageable = PageRequest.of(0, 3);
+
+        @DisplayName("작성한 게시글 목록 조회 요청시 자신이 작성한 게시글들만 최신순으로 조회된다.")
+        @ParameterizedTest
+        @AutoSource
+        @Customization(BoardCompositeCustomizer.class)
+        void read_my_boards(final Member member,
+                            final List<Board> boards) {
+
+            // given
+            em.persist(member);
+            boardRepository.saveAll(boards);
+            boards.stream()
+                .map(board -> new Like(member, board))
+                .forEach(em::persist);
+
+            // when
+            final var result = boardQueryRepository.myBoards(member.getId(), null, pageable.getPageSize());
+
+            // then
+            assertSoftly(softAssertions -> {
+                softAssertions.assertThat(result.getContent()).isNotEmpty();
+                softAssertions.assertThat(result.getContent().size()).isEqualTo(boards.size());
+
+            });
+        }
+
+        @DisplayName("좋아요한 게시글 목록 조회 요청시 자신이 좋아요를 누른 게시글들만 최신순으로 조회된다.")
+        @ParameterizedTest
+        @AutoSource
+        @Customization(BoardCompositeCustomizer.class)
+        void read_my_like_boards(final Member member,
+                                 final List<Board> boards) {
+
+            // given
+            em.persist(member);
+            boardRepository.saveAll(boards);
+            boards.stream()
+                .map(board -> new Like(member, board))
+                .forEach(em::persist);
+
+            final var expected = member.getLikes();
+
+            // when
+            final var result = boardQueryRepository.myLikeBoards(member.getId(), null, pageable.getPageSize());
+
+            // then
+            assertThat(result.getContent().size()).isEqualTo(expected.size());
+        }
+
+        @DisplayName("작성한 게시글 목록 조회 요청시 자신이 작성하지 않은 게시글 목록은 조회되지 않는다.")
+        @ParameterizedTest
+        @AutoSource
+        @Customization(NotSaveMemberCustomization.class)
+        void read_not_my_boards(final List<Member> members) {
+
+            // given
+            members.forEach(em::persist);
+
+            final List<Board> boards = List.of(
+                new Board(
+                    "title",
+                    "content",
+                    members.get(0)
+                ),
+                new Board(
+                    "title",
+                    "content",
+                    members.get(1)
+                )
+            );
+            boardRepository.saveAll(boards);
+
+            final var expected = members.get(0).getBoards();
+
+            // when
+            final var result = boardQueryRepository.myBoards(members.get(0).getId(), null, pageable.getPageSize());
+
+            // then
+            assertSoftly(softAssertions -> {
+                softAssertions.assertThat(result.getContent()).isNotEmpty();
+                softAssertions.assertThat(result.getContent().size()).isEqualTo(expected.size());
+            });
+        }
+
+        @DisplayName("커서 이후의 내 게시글을 조회하면, 이전 페이지와 중복되지 않는 게시글이 조회된다.")
+        @ParameterizedTest
+        @AutoSource
+        @Customization(BoardCompositeCustomizer.class)
+        void read_my_boards_after_cursor(final Member member,
+                                         final List<Board> boards) {
+
+            // given
+            em.persist(member);
+            boardRepository.saveAll(boards);
+
+            final var firstPage = boardQueryRepository.myBoards(member.getId(), null, 1);
+            final var last = firstPage.getContent().get(0);
+            final var cursor = BoardCursor.ofLatest(last.createdAt(), last.id());
+
+            // when
+            final var result = boardQueryRepository.myBoards(member.getId(), cursor, boards.size());
+
+            // then
+            assertSoftly(softAssertions -> {
+                softAssertions.assertThat(firstPage.hasNext()).isTrue();
+                softAssertions.assertThat(result.hasNext()).isFalse();
+                softAssertions.assertThat(result.getContent()).hasSize(boards.size() - 1);
+                softAssertions.assertThat(result.getContent()).doesNotContain(last);
+            });
+        }
+    }
+
     @Nested
     @DisplayName("게시글 태그 검색")
     class SearchBoard {
@@ -199,5 +411,118 @@ class BoardQueryRepositoryTest {
             final var searchKeywordBoard = result.getContent().get(0);
             assertThat(searchKeywordBoard.id()).isEqualTo(expected.getId());
         }
+
+        @DisplayName("게시글 태그 검색 목록 조회 시, 대표 태그가 아닌 추가 태그가 포함된 게시글도 조회된다.")
+        @ParameterizedTest
+        @AutoSource
+        @Customization(BoardCompositeCustomizer.class)
+        void search_boards_by_additional_tag(final Member member,
+                                             final Tag tag,
+                                             final List<Board> boards) {
+
+            // given
+            em.persist(member);
+            em.persist(tag);
+            final Tag additional = em.persist(new Tag("querydsl"));
+
+            final var expected = boards.get(0);
+            expected.setTag(tag);
+            boardRepository.saveAll(boards);
+            em.persist(new BoardTag(expected, tag));
+            em.persist(new BoardTag(expected, additional));
+
+            // when
+            final var result = boardQueryRepository.boardList(pageable, BoardSortType.VIEWS, "querydsl");
+
+            // then
+            assertThat(result.getContent())
+                    .extracting(SortBoardResponse::id)
+                    .containsExactly(expected.getId());
+        }
+
+        @DisplayName("검색 색인에 사용할 게시글을 조회하면, 대표 태그와 추가 태그의 이름이 중복 없이 함께 조회된다.")
+        @ParameterizedTest
+        @AutoSource
+        @Customization(BoardCompositeCustomizer.class)
+        void search_document_with_all_tags(final Member member,
+                                           final Tag tag,
+                                           final Board board) {
+
+            // given
+            em.persist(member);
+            em.persist(tag);
+            final Tag additional = em.persist(new Tag("querydsl"));
+
+            board.setTag(tag);
+            em.persist(board);
+            em.persist(new BoardTag(board, tag));
+            em.persist(new BoardTag(board, additional));
+
+            // when
+            final var document = boardQueryRepository.searchDocument(board.getId());
+
+            // then
+            assertThat(document).hasValueSatisfying(found ->
+                    assertThat(found.tags()).containsExactly(tag.getName(), "querydsl"));
+        }
+    }
+
+    @Nested
+    @DisplayName("게시글 id 목록으로 조회")
+    class ReadBoardByIds {
+
+        @DisplayName("최신순 조회시, 게시글 id 목록의 끝에서부터 한 페이지만 조회된다.")
+        @ParameterizedTest
+        @AutoSource
+        @Customization(BoardCompositeCustomizer.class)
+        void read_boards_by_ids(final Member member,
+                                final List<Board> boards) {
+
+            // given
+            em.persist(member);
+            boardRepository.saveAll(boards);
+
+            final long[] ids = boards.stream().mapToLong(Board::getId).sorted().toArray();
+
+            // when
+            final var result = boardQueryRepository.boardListByIds(ids, BoardSortType.LATEST, PageRequest.of(0, ids.length - 1));
+
+            // then
+            assertSoftly(softAssertions -> {
+                softAssertions.assertThat(result.getContent()).hasSize(ids.length - 1);
+                softAssertions.assertThat(result.getContent().get(0).id()).isEqualTo(ids[ids.length - 1]);
+                softAssertions.assertThat(result.hasNext()).isTrue();
+            });
+        }
+
+        @DisplayName("조회수 순 조회시, 후보 게시글을 조회수 순으로 정렬한 뒤 요청한 페이지만 조회된다.")
+        @ParameterizedTest
+        @AutoSource
+        @Customization(BoardCompositeCustomizer.class)
+        void read_boards_by_ids_order_by_views(final Member member,
+                                               final List<Board> boards) {
+
+            // given
+            em.persist(member);
+            for (int i = 0; i < boards.size(); i++) {
+                for (int view = 0; view < i; view++) {
+                    boards.get(i).increaseView();
+                }
+            }
+            boardRepository.saveAll(boards);
+
+            final long[] ids = boards.stream().mapToLong(Board::getId).sorted().toArray();
+
+            // when
+            final var result = boardQueryRepository.boardListByIds(ids, BoardSortType.VIEWS, PageRequest.of(1, 1));
+
+            // then
+            assertSoftly(softAssertions -> {
+                softAssertions.assertThat(result.getContent())
+                        .extracting(SortBoardResponse::id)
+                        .containsExactly(boards.get(boards.size() - 2).getId());
+                softAssertions.assertThat(result.hasNext()).isEqualTo(boards.size() > 2);
+            });
+        }
     }
-}
\ No newline at end of file
+}
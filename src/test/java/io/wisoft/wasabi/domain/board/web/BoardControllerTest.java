@@ -6,8 +6,10 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import io.wisoft.wasabi.customization.NotSaveBoardCustomization;
 import io.wisoft.wasabi.customization.composite.BoardCompositeCustomizer;
 import io.wisoft.wasabi.domain.auth.exception.TokenNotExistException;
-import io.wisoft.wasabi.domain.board.application.BoardMapper;
+import io.wisoft.wasabi.domain.board.exception.BoardImageNotUploadedException;
+import io.wisoft.wasabi.domain.board.exception.BoardImageTooLargeException;
 import io.wisoft.wasabi.domain.board.persistence.Board;
+import io.wisoft.wasabi.domain.board.persistence.TagMatchType;
 import io.wisoft.wasabi.domain.board.web.dto.*;
 import io.wisoft.wasabi.domain.like.web.LikeService;
 import io.wisoft.wasabi.domain.like.web.dto.RegisterLikeRequest;
@@ -30,21 +32,32 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockHttpSession;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.io.InputStream;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import static io.wisoft.wasabi.domain.board.BoardListToSliceMapper.createBoardList;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 
@@ -266,6 +279,31 @@ class BoardControllerTest {
             result.andExpect(status().isOk());
         }
 
+        @DisplayName("커서와 함께 게시글 목록 조회시, 게시글 목록과 다음 커서가 반환된다.")
+        @ParameterizedTest
+        @AutoSource
+        @Customization(NotSaveBoardCustomization.class)
+        void read_boards_by_cursor(final Board board1,
+                                   final Board board2,
+                                   final String nextCursor) throws Exception {
+            //given
+            final var boardList = createBoardList(board2, board1);
+
+            given(boardService.getBoardList(any(), any(), anyInt(), any()))
+                    .willReturn(new CursorSliceResponse<>(boardList, nextCursor));
+
+            //when
+            final var result = mockMvc.perform(
+                    get("/boards?sortBy=latest&cursor=&size=2")
+                            .contentType(APPLICATION_JSON)
+                            .accept(APPLICATION_JSON)
+            );
+
+            //then
+            result.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.nextCursor").value(nextCursor));
+        }
+
         @DisplayName("작성한 게시글 목록 조회 요청시 자신이 작성한 게시글 목록이 반환된다.")
         @ParameterizedTest
         @AutoSource
@@ -274,14 +312,14 @@ class BoardControllerTest {
         ) throws Exception {
 
             // given
-            given(boardService.getMyBoards(any(), any())).willReturn(new SliceImpl<>(boardsResponses));
+            given(boardService.getMyBoards(any(), any(), anyInt()))
+                    .willReturn(new CursorSliceResponse<>(new SliceImpl<>(boardsResponses), null));
 
             final String accessToken = jwtTokenProvider.createAccessToken(1L, "writer", Role.GENERAL, true);
 
             // when
             final var result = mockMvc.perform(
                     get("/boards/my-board")
-                            .param("page", String.valueOf(0))
                             .param("size", String.valueOf(3))
                             .contentType(APPLICATION_JSON)
                             .header(Const.AUTH_HEADER, Const.TOKEN_TYPE + " " + accessToken)
@@ -298,7 +336,7 @@ class BoardControllerTest {
         void read_my_like_boards_fail(final TokenNotExistException exception) throws Exception {
 
             // given
-            given(boardService.getMyLikeBoards(any(), any())).willThrow(exception);
+            given(boardService.getMyLikeBoards(any(), any(), anyInt())).willThrow(exception);
 
             // when
             final var result = mockMvc.perform(
@@ -312,15 +350,14 @@ class BoardControllerTest {
         @DisplayName("좋아요한 게시글 목록 조회 요청시 자신이 좋아요를 누른 게시글 목록이 반환된다.")
         @ParameterizedTest
         @AutoSource
-        @Customization(NotSaveBoardCustomization.class)
-        void read_my_like_boards(final List<Board> boards) throws Exception {
+        void read_my_like_boards(final List<MyLikeBoardsResponse> boards) throws Exception {
 
             // given
             final String accessToken = jwtTokenProvider.createAccessToken(1L, "writer", Role.GENERAL, true);
 
-            final var response = BoardMapper.entityToMyLikeBoardsResponse(new SliceImpl<>(boards));
+            final var response = new CursorSliceResponse<>(new SliceImpl<>(boards), null);
 
-            given(boardService.getMyLikeBoards(any(), any())).willReturn(response);
+            given(boardService.getMyLikeBoards(any(), any(), anyInt())).willReturn(response);
 
             // when
             final var result = mockMvc.perform(
@@ -360,4 +397,239 @@ class BoardControllerTest {
             result.andExpect(status().isOk());
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("게시글 여러 태그 조회")
+    class ReadBoardByTags {
+
+        @Test
+        @DisplayName("여러 태그로 게시글 목록 조회시, 태그 조건에 맞는 게시글 목록이 반환된다.")
+        void read_boards_by_tags() throws Exception {
+
+            // given
+            final var boards = List.of(new SortBoardResponse(1L, "title", "writer", LocalDateTime.now(), 0L, 0));
+
+            given(boardService.getBoardList(eq("default"), any(), eq(List.of("spring", "jpa")), eq(TagMatchType.ANY)))
+                    .willReturn(new SliceImpl<>(boards));
+
+            // when
+            final var result = mockMvc.perform(
+                    get("/boards")
+                            .param("tags", "spring", "jpa")
+                            .param("match", "ANY"));
+
+            // then
+            result.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.content[0].id").value(1L));
+        }
+    }
+
+    @Nested
+    @DisplayName("게시글 전문 검색")
+    class FullTextSearch {
+
+        @Test
+        @DisplayName("검색어로 게시글 검색시, 관련도 순으로 정렬된 게시글 목록이 반환된다.")
+        void search_boards() throws Exception {
+
+            // given
+            final var boards = List.of(
+                    new SearchBoardResponse(2L, "스프링 부트 시작하기", "writer", LocalDateTime.now(), 1.5),
+                    new SearchBoardResponse(1L, "오늘의 일기", "writer", LocalDateTime.now(), 0.7));
+
+            given(boardService.searchBoards(eq("스프링"), any()))
+                    .willReturn(new SliceImpl<>(boards));
+
+            // when
+            final var result = mockMvc.perform(
+                    get("/boards/search")
+                            .param("keyword", "스프링"));
+
+            // then
+            result.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.content[0].id").value(2L));
+        }
+    }
+
+    @Nested
+    @DisplayName("이미지 스트리밍 업로드")
+    class UploadImageStream {
+
+        @Test
+        @DisplayName("요청 본문 전체를 이미지로 받아 업로드한다.")
+        void upload_image_stream() throws Exception {
+
+            // given
+            final byte[] image = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+            final var response = new UploadImageResponse("/images/image.png", 1L, "/images/image_medium.png", "/images/image_thumbnail.png");
+
+            given(boardImageService.saveImage(any(InputStream.class), eq((long) image.length))).willReturn(response);
+
+            // when
+            final var result = mockMvc.perform(
+                    post("/boards/image")
+                            .contentType(MediaType.IMAGE_PNG)
+                            .content(image));
+
+            // then
+            result.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.imageId").value(1L));
+        }
+
+        @Test
+        @DisplayName("크기 제한을 넘는 이미지는 거절하고 연결을 닫는다.")
+        void upload_image_stream_too_large() throws Exception {
+
+            // given
+            given(boardImageService.saveImage(any(InputStream.class), anyLong()))
+                    .willThrow(new BoardImageTooLargeException());
+
+            // when
+            final var result = mockMvc.perform(
+                    post("/boards/image")
+                            .contentType(MediaType.IMAGE_JPEG)
+                            .content(new byte[]{1, 2, 3}));
+
+            // then
+            result.andExpect(status().isPayloadTooLarge())
+                    .andExpect(header().string(HttpHeaders.CONNECTION, "close"));
+        }
+    }
+
+    @Nested
+    @DisplayName("이미지 직접 업로드")
+    class PresignedUpload {
+
+        @Test
+        @DisplayName("직접 업로드 URL 발급 요청시, 업로드할 URL 과 함께 서명된 헤더가 반환된다.")
+        void create_presigned_upload() throws Exception {
+
+            // given
+            final var request = new PresignedUploadRequest("image/png", 1024L);
+            final var response = new PresignedUploadResponse(
+                    1L,
+                    "/images/image.png",
+                    "https://bucket.s3.amazonaws.com/image.png?X-Amz-Signature=signature",
+                    Map.of("Content-Type", "image/png"),
+                    Instant.now());
+
+            given(boardImageService.createPresignedUpload(request)).willReturn(response);
+
+            // when
+            final var result = mockMvc.perform(
+                    post("/boards/image/presigned")
+                            .contentType(APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)));
+
+            // then
+            result.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.imageId").value(1L))
+                    .andExpect(jsonPath("$.data.uploadHeaders['Content-Type']").value("image/png"));
+        }
+
+        @Test
+        @DisplayName("크기가 0 이하인 이미지의 직접 업로드 URL 은 발급하지 않는다.")
+        void create_presigned_upload_invalid_length() throws Exception {
+
+            // given
+            final var request = new PresignedUploadRequest("image/png", 0L);
+
+            // when
+            final var result = mockMvc.perform(
+                    post("/boards/image/presigned")
+                            .contentType(APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)));
+
+            // then
+            result.andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @DisplayName("업로드 완료 요청시, 검증된 이미지 정보가 반환된다.")
+        void complete_presigned_upload() throws Exception {
+
+            // given
+            final var response = new UploadImageResponse("/images/image.png", 1L, "/images/image_medium.png", "/images/image_thumbnail.png");
+
+            given(boardImageService.completePresignedUpload(1L)).willReturn(response);
+
+            // when
+            final var result = mockMvc.perform(post("/boards/image/1/complete"));
+
+            // then
+            result.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.imageUrl").value("/images/image.png"));
+        }
+
+        @Test
+        @DisplayName("저장소에 업로드되지 않은 이미지의 업로드 완료 요청시, 예외가 발생한다.")
+        void complete_presigned_upload_not_uploaded() throws Exception {
+
+            // given
+            given(boardImageService.completePresignedUpload(1L)).willThrow(new BoardImageNotUploadedException());
+
+            // when
+            final var result = mockMvc.perform(post("/boards/image/1/complete"));
+
+            // then
+            result.andExpect(status().isBadRequest());
+        }
+    }
+
+    @Nested
+    @DisplayName("이미지 삭제")
+    class DeleteImage {
+
+        @Test
+        @DisplayName("이미지 id 로 삭제 요청시, 삭제된 이미지 id 가 반환된다.")
+        void delete_image_by_id() throws Exception {
+
+            // given
+            given(boardImageService.deleteImage(1L)).willReturn(new DeleteImageResponse(1L));
+
+            // when
+            final var result = mockMvc.perform(delete("/boards/image/1"));
+
+            // then
+            result.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.imageId").value(1L));
+        }
+
+        @Test
+        @DisplayName("여러 이미지 삭제 요청시, 삭제된 이미지 id 목록이 반환된다.")
+        void delete_images() throws Exception {
+
+            // given
+            final var request = new DeleteImagesRequest(List.of("/images/1.png", "/images/2.png"));
+
+            given(boardImageService.deleteImages(request)).willReturn(new DeleteImagesResponse(List.of(1L, 2L)));
+
+            // when
+            final var result = mockMvc.perform(
+                    delete("/boards/images")
+                            .contentType(APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)));
+
+            // then
+            result.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.imageIds.length()").value(2));
+        }
+
+        @Test
+        @DisplayName("삭제할 이미지 경로 없이 여러 이미지 삭제 요청시, 예외가 발생한다.")
+        void delete_images_empty() throws Exception {
+
+            // given
+            final var request = new DeleteImagesRequest(List.of());
+
+            // when
+            final var result = mockMvc.perform(
+                    delete("/boards/images")
+                            .contentType(APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)));
+
+            // then
+            result.andExpect(status().isBadRequest());
+        }
+    }
+}
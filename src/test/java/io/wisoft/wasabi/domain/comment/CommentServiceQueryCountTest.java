@@ -0,0 +1,77 @@
+package io.wisoft.wasabi.domain.comment;
+
+import autoparams.AutoSource;
+import autoparams.customization.Customization;
+import io.wisoft.wasabi.customization.NotSaveMemberCustomization;
+import io.wisoft.wasabi.domain.board.application.BoardDetailCache;
+import io.wisoft.wasabi.domain.board.persistence.Board;
+import io.wisoft.wasabi.domain.comment.dto.WriteCommentRequest;
+import io.wisoft.wasabi.domain.member.persistence.Member;
+import io.wisoft.wasabi.setting.QueryDslTestConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import static io.wisoft.wasabi.setting.QueryCounter.measure;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+/**
+ * 작성자와 게시글에 이미 등록된 댓글 수와 관계없이, 댓글 작성에 드는 쿼리 수가 일정한지 확인한다.
+ */
+@Import({QueryDslTestConfig.class, CommentServiceImpl.class, BoardDetailCache.class})
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class CommentServiceQueryCountTest {
+
+    private static final int MANY_COMMENTS = 100;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private CommentServiceImpl commentService;
+
+    @Nested
+    @DisplayName("댓글 작성 쿼리 수")
+    class QueryCount {
+
+        @DisplayName("댓글 작성 시, 작성자와 게시글의 댓글 수와 관계없이 같은 수의 쿼리가 실행되고 댓글 목록을 로딩하지 않는다.")
+        @ParameterizedTest
+        @AutoSource
+        @Customization(NotSaveMemberCustomization.class)
+        void write_comment_with_constant_query_count(final Member newWriter,
+                                                     final Member prolificWriter) {
+
+            // given
+            em.persist(newWriter);
+            em.persist(prolificWriter);
+
+            final Board quietBoard = em.persist(new Board("title", "content", newWriter));
+            final Board popularBoard = em.persist(new Board("title", "content", prolificWriter));
+
+            for (int i = 0; i < MANY_COMMENTS; i++) {
+                em.persist(new Comment("content", prolificWriter, popularBoard));
+            }
+
+            // when
+            final var quiet = measure(em, () -> commentService.writeComment(
+                    new WriteCommentRequest(quietBoard.getId(), "content"), newWriter.getId()));
+            final var popular = measure(em, () -> commentService.writeComment(
+                    new WriteCommentRequest(popularBoard.getId(), "content"), prolificWriter.getId()));
+
+            // then
+            assertSoftly(softAssertions -> {
+                softAssertions.assertThat(popular.statements()).isEqualTo(quiet.statements());
+                softAssertions.assertThat(popular.entityLoads()).isZero();
+                softAssertions.assertThat(popular.collectionLoads()).isZero();
+            });
+        }
+    }
+}
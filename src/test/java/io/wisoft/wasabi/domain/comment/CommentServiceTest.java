@@ -1,6 +1,7 @@
 package io.wisoft.wasabi.domain.comment;
 
 import autoparams.AutoSource;
+import io.wisoft.wasabi.domain.board.application.BoardDetailCache;
 import io.wisoft.wasabi.domain.board.application.BoardRepository;
 import io.wisoft.wasabi.domain.board.persistence.Board;
 import io.wisoft.wasabi.domain.comment.dto.WriteCommentRequest;
@@ -13,7 +14,6 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
@@ -34,6 +34,9 @@ public class CommentServiceTest {
     @Mock
     private CommentRepository commentRepository;
 
+    @Mock
+    private BoardDetailCache boardDetailCache;
+
     @Nested
     @DisplayName("댓글 작성")
     class WriteComment {
@@ -44,8 +47,10 @@ public class CommentServiceTest {
         void write_board_with_tag(final Member member, final Board board) {
 
             // given
-            given(memberRepository.findById(any())).willReturn(Optional.of(member));
-            given(boardRepository.findById(any())).willReturn(Optional.of(board));
+            given(memberRepository.existsById(any())).willReturn(true);
+            given(boardRepository.existsById(any())).willReturn(true);
+            given(memberRepository.getReferenceById(any())).willReturn(member);
+            given(boardRepository.getReferenceById(any())).willReturn(board);
 
             final var request = new WriteCommentRequest(
                     1L,
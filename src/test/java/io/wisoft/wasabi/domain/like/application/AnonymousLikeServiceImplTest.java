@@ -49,7 +49,8 @@ class AnonymousLikeServiceImplTest {
                                      @Min(1) final Long accessId) {
 
             // given
-            given(boardRepository.findById(any())).willReturn(Optional.of(board));
+            given(boardRepository.increaseAnonymousLikeCount(any())).willReturn(1);
+            given(boardRepository.getReferenceById(any())).willReturn(board);
 
             // when
             final var result = anonymousLikeService.registerLike(accessId, request);
@@ -0,0 +1,128 @@
+package io.wisoft.wasabi.domain.like.application;
+
+import autoparams.AutoSource;
+import autoparams.customization.Customization;
+import io.wisoft.wasabi.customization.composite.BoardCompositeCustomizer;
+import io.wisoft.wasabi.domain.board.persistence.Board;
+import io.wisoft.wasabi.domain.like.persistence.Like;
+import io.wisoft.wasabi.domain.like.web.dto.RegisterLikeRequest;
+import io.wisoft.wasabi.domain.member.persistence.Member;
+import io.wisoft.wasabi.domain.member.persistence.Part;
+import io.wisoft.wasabi.domain.member.persistence.Role;
+import io.wisoft.wasabi.setting.QueryDslTestConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import static io.wisoft.wasabi.setting.QueryCounter.measure;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+/**
+ * 게시글에 이미 등록된 좋아요 수와 관계없이, 좋아요 등록/취소에 드는 쿼리 수가 일정한지 확인한다.
+ */
+@Import({QueryDslTestConfig.class, LikeServiceImpl.class})
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class LikeServiceQueryCountTest {
+
+    private static final int FEW_LIKES = 1;
+    private static final int MANY_LIKES = 100;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private LikeServiceImpl likeService;
+
+    @Nested
+    @DisplayName("좋아요 등록/취소 쿼리 수")
+    class QueryCount {
+
+        @DisplayName("좋아요 등록 시, 게시글의 좋아요 수와 관계없이 같은 수의 쿼리가 실행되고 좋아요 목록을 로딩하지 않는다.")
+        @ParameterizedTest
+        @AutoSource
+        @Customization(BoardCompositeCustomizer.class)
+        void register_like_with_constant_query_count(final Member member,
+                                                     final Board quietBoard,
+                                                     final Board popularBoard) {
+
+            // given
+            init(member, quietBoard, popularBoard);
+
+            // when
+            final var quiet = measure(em, () ->
+                    likeService.registerLike(member.getId(), new RegisterLikeRequest(quietBoard.getId())));
+            final var popular = measure(em, () ->
+                    likeService.registerLike(member.getId(), new RegisterLikeRequest(popularBoard.getId())));
+
+            // then
+            assertSoftly(softAssertions -> {
+                softAssertions.assertThat(popular.statements()).isEqualTo(quiet.statements());
+                softAssertions.assertThat(popular.entityLoads()).isZero();
+                softAssertions.assertThat(popular.collectionLoads()).isZero();
+            });
+        }
+
+        @DisplayName("좋아요 취소 시, 게시글의 좋아요 수와 관계없이 같은 수의 쿼리가 실행되고 좋아요 목록을 로딩하지 않는다.")
+        @ParameterizedTest
+        @AutoSource
+        @Customization(BoardCompositeCustomizer.class)
+        void cancel_like_with_constant_query_count(final Member member,
+                                                   final Board quietBoard,
+                                                   final Board popularBoard) {
+
+            // given
+            init(member, quietBoard, popularBoard);
+            em.persist(new Like(member, quietBoard));
+            em.persist(new Like(member, popularBoard));
+
+            // when
+            final var quiet = measure(em, () -> likeService.cancelLike(member.getId(), quietBoard.getId()));
+            final var popular = measure(em, () -> likeService.cancelLike(member.getId(), popularBoard.getId()));
+
+            // then
+            assertSoftly(softAssertions -> {
+                softAssertions.assertThat(popular.statements()).isEqualTo(quiet.statements());
+                softAssertions.assertThat(popular.entityLoads()).isEqualTo(quiet.entityLoads());
+                softAssertions.assertThat(popular.collectionLoads()).isZero();
+            });
+        }
+    }
+
+    private void init(final Member member, final Board quietBoard, final Board popularBoard) {
+
+        em.persist(member);
+        em.persist(quietBoard);
+        em.persist(popularBoard);
+
+        persistLikes(quietBoard, FEW_LIKES);
+        persistLikes(popularBoard, MANY_LIKES);
+    }
+
+    private void persistLikes(final Board board, final int count) {
+
+        for (int i = 0; i < count; i++) {
+            final Member liker = new Member(
+                    "liker" + board.getId() + "-" + i + "@gmail.com",
+                    "test1234",
+                    "test",
+                    "010-1111-1111",
+                    false,
+                    Role.GENERAL,
+                    "",
+                    Part.UNDEFINED,
+                    "",
+                    ""
+            );
+            em.persist(liker);
+            em.persist(new Like(liker, board));
+        }
+    }
+}
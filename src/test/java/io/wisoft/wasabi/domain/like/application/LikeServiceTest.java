@@ -63,8 +63,10 @@ class LikeServiceTest {
                            final Board board) {
 
             //given
-            given(memberRepository.findById(any())).willReturn(Optional.of(member));
-            given(boardRepository.findById(any())).willReturn(Optional.of(board));
+            given(memberRepository.existsById(any())).willReturn(true);
+            given(boardRepository.increaseLikeCount(any())).willReturn(1);
+            given(memberRepository.getReferenceById(any())).willReturn(member);
+            given(boardRepository.getReferenceById(any())).willReturn(board);
 
             final var request = new RegisterLikeRequest(board.getId());
 
@@ -91,7 +93,7 @@ class LikeServiceTest {
             //given
             final var request = new RegisterLikeRequest(1L);
 
-            given(memberRepository.findById(any())).willReturn(Optional.empty());
+            given(memberRepository.existsById(any())).willReturn(false);
 
             //when
 
@@ -107,8 +109,7 @@ class LikeServiceTest {
                                            final Board board) {
 
             // given
-            given(memberRepository.findById(any())).willReturn(Optional.of(member));
-            given(boardRepository.findById(any())).willReturn(Optional.of(board));
+            given(memberRepository.existsById(any())).willReturn(true);
 
             final var request = new RegisterLikeRequest(board.getId());
 
@@ -120,6 +121,25 @@ class LikeServiceTest {
             assertThrows(ExistLikeException.class,
                     () -> likeService.registerLike(member.getId(), request));
         }
+
+        @DisplayName("존재하지 않는 게시글의 좋아요 요청 시 등록되지 않는다.")
+        @ParameterizedTest
+        @AutoSource
+        void register_like_fail_not_found_board(final Long memberId,
+                                                final Long boardId) {
+
+            // given
+            given(memberRepository.existsById(any())).willReturn(true);
+            given(boardRepository.increaseLikeCount(any())).willReturn(0);
+
+            final var request = new RegisterLikeRequest(boardId);
+
+            // when
+
+            // then
+            assertThrows(BoardNotFoundException.class,
+                    () -> likeService.registerLike(memberId, request));
+        }
     }
 
     @Nested
@@ -3,6 +3,7 @@ package io.wisoft.wasabi.domain.like.persistence;
 import autoparams.AutoSource;
 import autoparams.customization.Customization;
 import io.wisoft.wasabi.customization.composite.BoardCompositeCustomizer;
+import io.wisoft.wasabi.domain.board.application.BoardRepository;
 import io.wisoft.wasabi.domain.board.persistence.Board;
 import io.wisoft.wasabi.domain.member.persistence.Member;
 import io.wisoft.wasabi.setting.QueryDslTestConfig;
@@ -30,6 +31,9 @@ class LikeQueryRepositoryTest {
     @Autowired
     private LikeQueryRepository likeQueryRepository;
 
+    @Autowired
+    private BoardRepository boardRepository;
+
     private void init(final Member member,
                       final Board board) {
 
@@ -54,9 +58,11 @@ class LikeQueryRepositoryTest {
 
             final Like like = new Like(member, board);
             em.persist(like);
+            boardRepository.increaseLikeCount(board.getId());
 
             final AnonymousLike anonymousLike = new AnonymousLike(sessionId, board);
             em.persist(anonymousLike);
+            boardRepository.increaseAnonymousLikeCount(board.getId());
 
             // when
             final var result = likeQueryRepository.countByBoardId(board.getId());
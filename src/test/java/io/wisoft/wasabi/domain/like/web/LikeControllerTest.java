@@ -10,6 +10,7 @@ import io.wisoft.wasabi.domain.like.exception.LikeNotFoundException;
 import io.wisoft.wasabi.domain.member.persistence.Role;
 import io.wisoft.wasabi.global.config.common.Const;
 import io.wisoft.wasabi.global.config.web.resolver.MemberIdResolver;
+import io.wisoft.wasabi.global.config.common.jwt.AuthPrincipal;
 import io.wisoft.wasabi.global.config.common.jwt.JwtTokenProvider;
 import io.wisoft.wasabi.global.config.web.response.ResponseAspect;
 import org.junit.jupiter.api.BeforeEach;
@@ -68,6 +69,8 @@ class LikeControllerTest {
                 Role.GENERAL,
                 false
         );
+
+        given(jwtTokenProvider.decode(any())).willReturn(new AuthPrincipal(1L, Role.GENERAL, false));
     }
 
     @Nested
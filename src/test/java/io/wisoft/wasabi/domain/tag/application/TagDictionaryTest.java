@@ -0,0 +1,112 @@
+package io.wisoft.wasabi.domain.tag.application;
+
+import io.wisoft.wasabi.domain.tag.persistence.Tag;
+import io.wisoft.wasabi.domain.tag.persistence.TagEntry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class TagDictionaryTest {
+
+    @Mock
+    private TagRepository tagRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TagDictionary tagDictionary;
+
+    @BeforeEach
+    void setUp() {
+        tagDictionary = new TagDictionary(tagRepository, transactionManager);
+    }
+
+    @Test
+    @DisplayName("적재된 태그는 조회하지 않고 참조로 반환한다.")
+    void get_loaded_tag_without_query() {
+
+        // given
+        final Tag reference = mock(Tag.class);
+        given(tagRepository.findAllEntries()).willReturn(List.of(new TagEntry(1L, "spring")));
+        given(tagRepository.getReferenceById(1L)).willReturn(reference);
+        tagDictionary.load();
+
+        // when
+        final Tag tag = tagDictionary.getOrCreate("spring");
+
+        // then
+        assertThat(tag).isSameAs(reference);
+        then(tagRepository).should(never()).findEntryByName(anyString());
+        then(tagRepository).should(never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("없는 태그는 생성한 뒤 사전에 추가하여, 다음 요청부터는 조회하지 않는다.")
+    void create_missing_tag_once() {
+
+        // given
+        final Tag created = mock(Tag.class);
+        given(created.getId()).willReturn(2L);
+        given(tagRepository.findEntryByName("jpa")).willReturn(Optional.empty());
+        given(tagRepository.saveAndFlush(any())).willReturn(created);
+
+        // when
+        tagDictionary.getOrCreate("jpa");
+        tagDictionary.getOrCreate("jpa");
+
+        // then
+        then(tagRepository).should().findEntryByName("jpa");
+        then(tagRepository).should().saveAndFlush(any());
+        then(tagRepository).should(times(2)).getReferenceById(2L);
+    }
+
+    @Test
+    @DisplayName("동시에 같은 이름의 태그가 먼저 생성되었다면, 먼저 생성된 태그를 사용한다.")
+    void create_conflict_retry() {
+
+        // given
+        given(tagRepository.findEntryByName("jpa"))
+                .willReturn(Optional.empty())
+                .willReturn(Optional.of(new TagEntry(3L, "jpa")));
+        given(tagRepository.saveAndFlush(any())).willThrow(new DataIntegrityViolationException("duplicate"));
+
+        // when
+        tagDictionary.getOrCreate("jpa");
+
+        // then
+        then(tagRepository).should().getReferenceById(3L);
+    }
+
+    @Test
+    @DisplayName("대소문자만 다른 이름으로 찾은 태그는 DB 의 태그 이름으로 반환한다.")
+    void get_entry_with_stored_name() {
+
+        // given
+        given(tagRepository.findEntryByName("Spring")).willReturn(Optional.of(new TagEntry(1L, "spring")));
+
+        // when
+        final TagEntry entry = tagDictionary.getOrCreateEntry("Spring");
+
+        // then
+        assertThat(entry).isEqualTo(new TagEntry(1L, "spring"));
+        then(tagRepository).should(never()).saveAndFlush(any());
+    }
+}
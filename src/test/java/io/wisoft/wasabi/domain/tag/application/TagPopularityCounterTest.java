@@ -0,0 +1,231 @@
+package io.wisoft.wasabi.domain.tag.application;
+
+import io.wisoft.wasabi.domain.tag.persistence.TagBoardCount;
+import io.wisoft.wasabi.domain.tag.persistence.TagEntry;
+import io.wisoft.wasabi.domain.tag.persistence.TagHourlyUsage;
+import io.wisoft.wasabi.domain.tag.persistence.TagPopularity;
+import io.wisoft.wasabi.domain.tag.persistence.TagPopularityCheckpoint;
+import io.wisoft.wasabi.domain.tag.persistence.TagPopularityType;
+import io.wisoft.wasabi.domain.tag.persistence.TagUsage;
+import io.wisoft.wasabi.domain.tag.web.dto.PopularTagResponse;
+import io.wisoft.wasabi.domain.tag.web.dto.TagSuggestResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.tuple;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class TagPopularityCounterTest {
+
+    private static final TagEntry SPRING = new TagEntry(1L, "spring");
+    private static final TagEntry JPA = new TagEntry(2L, "jpa");
+    private static final TagEntry KOTLIN = new TagEntry(3L, "kotlin");
+
+    @Mock
+    private TagRepository tagRepository;
+
+    @Mock
+    private TagPopularityRepository tagPopularityRepository;
+
+    @Mock
+    private TagHourlyUsageRepository tagHourlyUsageRepository;
+
+    @Mock
+    private TagPopularityCheckpointRepository checkpointRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Captor
+    private ArgumentCaptor<List<TagPopularity>> popularitiesCaptor;
+
+    @Captor
+    private ArgumentCaptor<List<TagHourlyUsage>> usagesCaptor;
+
+    private TagSuggester tagSuggester;
+    private TagPopularityCounter tagPopularityCounter;
+
+    @BeforeEach
+    void setUp() {
+        tagSuggester = new TagSuggester(10);
+        tagPopularityCounter = new TagPopularityCounter(
+                tagRepository, tagPopularityRepository, tagHourlyUsageRepository, checkpointRepository,
+                tagSuggester, transactionManager, 3, 2, Duration.ofMinutes(1));
+    }
+
+    @Test
+    @DisplayName("게시글이 작성되면 태그별 게시글 수가 늘어나고, 갱신된 뒤에 상위 인기 태그가 조회된다.")
+    void increase_and_refresh() {
+
+        // given
+        tagPopularityCounter.increase(List.of(SPRING, JPA), 100L);
+        tagPopularityCounter.increase(List.of(SPRING, KOTLIN), 100L);
+        tagPopularityCounter.increase(List.of(KOTLIN), 100L);
+        tagPopularityCounter.increase(List.of(KOTLIN), 100L);
+
+        // when
+        final var beforeRefresh = tagPopularityCounter.getPopularTags(TagPopularityType.TOTAL, 10);
+        tagPopularityCounter.refresh(100L);
+        final var result = tagPopularityCounter.getPopularTags(TagPopularityType.TOTAL, 10);
+
+        // then
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(beforeRefresh).isEmpty();
+            softAssertions.assertThat(result).containsExactly(
+                    new PopularTagResponse("kotlin", 3L, 3L),
+                    new PopularTagResponse("spring", 2L, 2L));
+            softAssertions.assertThat(tagSuggester.suggest("k", 10))
+                    .containsExactly(new TagSuggestResponse("kotlin", 3L));
+        });
+    }
+
+    @Test
+    @DisplayName("최근 사용량은 집계 기간이 지난 시간의 게시글을 제외하고, 같은 버킷을 사용하는 새 시간부터 다시 센다.")
+    void recent_window() {
+
+        // given
+        tagPopularityCounter.increase(List.of(SPRING), 100L);
+        tagPopularityCounter.increase(List.of(SPRING), 100L);
+        tagPopularityCounter.increase(List.of(SPRING), 100L);
+        tagPopularityCounter.increase(List.of(JPA), 102L);
+        tagPopularityCounter.increase(List.of(JPA), 103L);
+        tagPopularityCounter.increase(List.of(SPRING), 103L);
+
+        // when
+        tagPopularityCounter.refresh(103L);
+        final var recent = tagPopularityCounter.getPopularTags(TagPopularityType.RECENT, 10);
+        final var total = tagPopularityCounter.getPopularTags(TagPopularityType.TOTAL, 10);
+
+        // then
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(recent).containsExactly(
+                    new PopularTagResponse("jpa", 2L, 2L),
+                    new PopularTagResponse("spring", 4L, 1L));
+            softAssertions.assertThat(total).containsExactly(
+                    new PopularTagResponse("spring", 4L, 1L),
+                    new PopularTagResponse("jpa", 2L, 2L));
+        });
+    }
+
+    @Test
+    @DisplayName("스냅샷이 있다면 게시글을 집계하지 않고, 하나의 읽기 전용 트랜잭션에서 읽은 스냅샷에 마지막 스냅샷 이후의 연결을 더해 복원한다.")
+    void load_from_snapshot() {
+
+        // given
+        given(checkpointRepository.existsById(TagPopularityCheckpoint.ID)).willReturn(true);
+        given(checkpointRepository.findById(TagPopularityCheckpoint.ID))
+                .willReturn(Optional.of(new TagPopularityCheckpoint(10L)));
+        given(tagPopularityRepository.findAllBoardCounts())
+                .willReturn(List.of(new TagBoardCount(1L, "spring", 5L)));
+        given(tagHourlyUsageRepository.findAllByBucketHourGreaterThanEqual(98L))
+                .willReturn(List.of(new TagHourlyUsage(1L, 99L, 2L), new TagHourlyUsage(99L, 99L, 1L)));
+        given(tagRepository.findUsagesAfter(eq(10L), any()))
+                .willReturn(List.of(new TagUsage(11L, 1L, "spring", hour(100L)), new TagUsage(12L, 2L, "jpa", hour(100L))));
+
+        // when
+        tagPopularityCounter.load(100L);
+
+        // then
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(tagPopularityCounter.getPopularTags(TagPopularityType.RECENT, 10))
+                    .containsExactly(
+                            new PopularTagResponse("spring", 6L, 3L),
+                            new PopularTagResponse("jpa", 1L, 1L));
+            softAssertions.assertThat(tagSuggester.suggest("spr", 10))
+                    .containsExactly(new TagSuggestResponse("spring", 6L));
+        });
+        then(tagRepository).should(never()).countBoardTags(anyLong());
+        then(transactionManager).should().getTransaction(argThat(definition ->
+                definition.isReadOnly() && definition.getIsolationLevel() == TransactionDefinition.ISOLATION_REPEATABLE_READ));
+    }
+
+    @Test
+    @DisplayName("체크포인트가 없다면 게시글을 한 번 집계해, 스냅샷과 체크포인트를 만든다.")
+    void load_without_snapshot() {
+
+        // given
+        final var checkpoint = new TagPopularityCheckpoint(7L);
+        given(checkpointRepository.existsById(TagPopularityCheckpoint.ID)).willReturn(false);
+        given(tagRepository.findLastBoardTagId()).willReturn(7L);
+        given(tagRepository.countBoardTags(7L)).willReturn(List.of(new TagBoardCount(1L, "spring", 2L)));
+        given(tagRepository.countRepresentativeOnlyBoards()).willReturn(List.of(new TagBoardCount(1L, "spring", 3L)));
+        given(checkpointRepository.saveAndFlush(any())).willReturn(checkpoint);
+        given(checkpointRepository.findById(TagPopularityCheckpoint.ID)).willReturn(Optional.of(checkpoint));
+        given(tagPopularityRepository.findAllBoardCounts()).willReturn(List.of(new TagBoardCount(1L, "spring", 5L)));
+        given(tagRepository.findUsagesAfter(eq(7L), any())).willReturn(List.of());
+
+        // when
+        tagPopularityCounter.load(100L);
+
+        // then
+        then(tagPopularityRepository).should().saveAll(popularitiesCaptor.capture());
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(popularitiesCaptor.getValue())
+                    .extracting(TagPopularity::getTagId, TagPopularity::getBoardCount)
+                    .containsExactly(tuple(1L, 5L));
+            softAssertions.assertThat(tagSuggester.suggest("spr", 10))
+                    .containsExactly(new TagSuggestResponse("spring", 5L));
+        });
+    }
+
+    @Test
+    @DisplayName("체크포인트 이후의 연결을 스냅샷에 더하고 체크포인트를 옮기며, 너무 최근의 연결은 다음 주기로 미룬다.")
+    void snapshot() {
+
+        // given
+        final var checkpoint = new TagPopularityCheckpoint(10L);
+        final var popularity = new TagPopularity(1L, 4L);
+        final var usage = new TagHourlyUsage(1L, 100L, 1L);
+
+        given(checkpointRepository.findByIdForUpdate(TagPopularityCheckpoint.ID)).willReturn(Optional.of(checkpoint));
+        given(tagRepository.findUsagesAfter(eq(10L), any())).willReturn(List.of(
+                new TagUsage(11L, 1L, "spring", hour(100L)),
+                new TagUsage(12L, 1L, "spring", hour(101L)),
+                new TagUsage(13L, 2L, "jpa", hour(101L).plusMinutes(30))));
+        given(tagPopularityRepository.findAllByTagIdIn(any())).willReturn(List.of(popularity));
+        given(tagHourlyUsageRepository.findAllByTagIdInAndBucketHourGreaterThanEqual(any(), eq(99L)))
+                .willReturn(List.of(usage));
+
+        // when
+        tagPopularityCounter.snapshot(101L, hour(101L).plusMinutes(10));
+
+        // then
+        then(tagHourlyUsageRepository).should().saveAll(usagesCaptor.capture());
+        then(tagHourlyUsageRepository).should().deleteExpired(99L);
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(checkpoint.getLastBoardTagId()).isEqualTo(12L);
+            softAssertions.assertThat(popularity.getBoardCount()).isEqualTo(6L);
+            softAssertions.assertThat(usage.getUsageCount()).isEqualTo(2L);
+            softAssertions.assertThat(usagesCaptor.getValue())
+                    .extracting(TagHourlyUsage::getBucketHour, TagHourlyUsage::getUsageCount)
+                    .containsExactly(tuple(101L, 1L));
+        });
+    }
+
+    private static LocalDateTime hour(final long hour) {
+        return LocalDateTime.ofInstant(Instant.ofEpochSecond(Duration.ofHours(hour).toSeconds()), ZoneId.systemDefault());
+    }
+}
@@ -2,8 +2,13 @@ package io.wisoft.wasabi.domain.tag.application;
 
 import autoparams.AutoSource;
 import autoparams.customization.Customization;
+import io.wisoft.wasabi.customization.NotSaveMemberCustomization;
 import io.wisoft.wasabi.customization.NotSaveTagCustomization;
+import io.wisoft.wasabi.domain.board.persistence.Board;
+import io.wisoft.wasabi.domain.board.persistence.BoardTag;
+import io.wisoft.wasabi.domain.member.persistence.Member;
 import io.wisoft.wasabi.domain.tag.persistence.Tag;
+import io.wisoft.wasabi.domain.tag.persistence.TagBoardCount;
 import io.wisoft.wasabi.domain.tag.application.TagRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -12,9 +17,11 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
 
 @ActiveProfiles("test")
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
@@ -66,4 +73,81 @@ class TagRepositoryTest {
             assertThat(savedTag).isEqualTo(tag);
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("태그별 게시글 수 조회")
+    class CountBoards {
+
+        @DisplayName("lastId 까지의 게시글과 태그의 연결 수와, 연결 없이 대표 태그만 가진 게시글 수가 각각 조회된다.")
+        @ParameterizedTest
+        @AutoSource
+        @Customization(NotSaveMemberCustomization.class)
+        void count_boards(final Member member) {
+
+            // given
+            em.persist(member);
+            final Tag spring = em.persist(new Tag("spring"));
+            final Tag jpa = em.persist(new Tag("jpa"));
+
+            final Board board = new Board("title", "content", member);
+            board.setTag(spring);
+            em.persist(board);
+            final BoardTag springBoardTag = em.persist(new BoardTag(board, spring));
+            final BoardTag jpaBoardTag = em.persist(new BoardTag(board, jpa));
+
+            final Board legacyBoard = new Board("title", "content", member);
+            legacyBoard.setTag(spring);
+            em.persist(legacyBoard);
+
+            em.flush();
+
+            // when
+            final var lastBoardTagId = tagRepository.findLastBoardTagId();
+            final var boardTagCounts = tagRepository.countBoardTags(lastBoardTagId);
+            final var checkpointCounts = tagRepository.countBoardTags(springBoardTag.getId());
+            final var representativeOnlyCounts = tagRepository.countRepresentativeOnlyBoards();
+
+            // then
+            assertSoftly(softAssertions -> {
+                softAssertions.assertThat(lastBoardTagId).isEqualTo(jpaBoardTag.getId());
+                softAssertions.assertThat(boardTagCounts)
+                        .containsExactlyInAnyOrder(
+                                new TagBoardCount(spring.getId(), "spring", 1L),
+                                new TagBoardCount(jpa.getId(), "jpa", 1L));
+                softAssertions.assertThat(checkpointCounts)
+                        .containsExactly(new TagBoardCount(spring.getId(), "spring", 1L));
+                softAssertions.assertThat(representativeOnlyCounts)
+                        .containsExactly(new TagBoardCount(spring.getId(), "spring", 1L));
+            });
+        }
+
+        @DisplayName("lastId 이후의 게시글과 태그의 연결이 id 순으로, 게시글이 작성된 시간과 함께 조회된다.")
+        @ParameterizedTest
+        @AutoSource
+        @Customization(NotSaveMemberCustomization.class)
+        void find_usages_after(final Member member) {
+
+            // given
+            em.persist(member);
+            final Tag spring = em.persist(new Tag("spring"));
+            final Tag jpa = em.persist(new Tag("jpa"));
+
+            final Board board = em.persist(new Board("title", "content", member));
+            final BoardTag springBoardTag = em.persist(new BoardTag(board, spring));
+            final BoardTag jpaBoardTag = em.persist(new BoardTag(board, jpa));
+
+            em.flush();
+
+            // when
+            final var usages = tagRepository.findUsagesAfter(springBoardTag.getId(), PageRequest.ofSize(10));
+
+            // then
+            assertSoftly(softAssertions -> {
+                softAssertions.assertThat(usages).hasSize(1);
+                softAssertions.assertThat(usages.get(0).id()).isEqualTo(jpaBoardTag.getId());
+                softAssertions.assertThat(usages.get(0).name()).isEqualTo("jpa");
+                softAssertions.assertThat(usages.get(0).createdAt()).isNotNull();
+            });
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package io.wisoft.wasabi.domain.tag.application;
+
+import io.wisoft.wasabi.domain.tag.persistence.TagBoardCount;
+import io.wisoft.wasabi.domain.tag.persistence.TagEntry;
+import io.wisoft.wasabi.domain.tag.web.dto.TagSuggestResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TagSuggesterTest {
+
+    private TagSuggester tagSuggester;
+
+    @BeforeEach
+    void setUp() {
+        tagSuggester = new TagSuggester(3);
+    }
+
+    @Test
+    @DisplayName("접두어로 시작하는 태그를 게시글이 많은 순으로 추천한다.")
+    void suggest() {
+
+        // given
+        tagSuggester.add(1L, "spring", 5L);
+        tagSuggester.add(2L, "spring-boot", 9L);
+        tagSuggester.add(3L, "sql", 7L);
+        tagSuggester.add(4L, "jpa", 20L);
+
+        // when
+        final var result = tagSuggester.suggest("sp", 10);
+
+        // then
+        assertThat(result).containsExactly(
+                new TagSuggestResponse("spring-boot", 9L),
+                new TagSuggestResponse("spring", 5L));
+    }
+
+    @Test
+    @DisplayName("접두어가 간선 중간에서 끝나거나 태그 이름과 같아도, 그 아래의 태그를 추천한다.")
+    void suggest_split_edge() {
+
+        // given
+        tagSuggester.add(1L, "database", 1L);
+        tagSuggester.add(2L, "data", 2L);
+        tagSuggester.add(3L, "datadog", 3L);
+
+        // when
+        final var middle = tagSuggester.suggest("dat", 10);
+        final var exact = tagSuggester.suggest("data", 10);
+        final var deeper = tagSuggester.suggest("datab", 10);
+        final var mismatch = tagSuggester.suggest("dab", 10);
+
+        // then
+        assertThat(middle).extracting(TagSuggestResponse::name).containsExactly("datadog", "data", "database");
+        assertThat(exact).extracting(TagSuggestResponse::name).containsExactly("datadog", "data", "database");
+        assertThat(deeper).extracting(TagSuggestResponse::name).containsExactly("database");
+        assertThat(mismatch).isEmpty();
+    }
+
+    @Test
+    @DisplayName("노드마다 설정한 개수까지만 추천하며, 게시글이 늘어난 태그는 순위에 바로 반영된다.")
+    void suggest_after_increase() {
+
+        // given
+        tagSuggester.add(1L, "java", 4L);
+        tagSuggester.add(2L, "javascript", 3L);
+        tagSuggester.add(3L, "jackson", 2L);
+        tagSuggester.add(4L, "jar", 1L);
+
+        // when
+        final var jar = new TagEntry(4L, "jar");
+        tagSuggester.increase(List.of(jar, jar, jar, jar));
+        final var result = tagSuggester.suggest("ja", 10);
+
+        // then
+        assertThat(result).containsExactly(
+                new TagSuggestResponse("jar", 5L),
+                new TagSuggestResponse("java", 4L),
+                new TagSuggestResponse("javascript", 3L));
+    }
+
+    @Test
+    @DisplayName("대소문자를 구분하지 않으며, 접두어가 비어 있다면 전체 태그 중에서 추천한다.")
+    void suggest_ignore_case() {
+
+        // given
+        tagSuggester.add(1L, "Kotlin", 2L);
+        tagSuggester.add(2L, "docker", 1L);
+
+        // when
+        final var lowerCase = tagSuggester.suggest("kot", 10);
+        final var blank = tagSuggester.suggest(" ", 1);
+
+        // then
+        assertThat(lowerCase).containsExactly(new TagSuggestResponse("Kotlin", 2L));
+        assertThat(blank).containsExactly(new TagSuggestResponse("Kotlin", 2L));
+    }
+
+    @Test
+    @DisplayName("같은 태그의 게시글 수가 여러 번 적재되면 합쳐서 추천한다.")
+    void load() {
+
+        // given
+        final var counts = List.of(
+                new TagBoardCount(1L, "spring", 2L),
+                new TagBoardCount(2L, "jpa", 1L),
+                new TagBoardCount(1L, "spring", 3L));
+
+        // when
+        tagSuggester.load(counts);
+
+        // then
+        assertThat(tagSuggester.size()).isEqualTo(2);
+        assertThat(tagSuggester.suggest("s", 10)).containsExactly(new TagSuggestResponse("spring", 5L));
+    }
+
+    @Test
+    @DisplayName("대소문자만 다른 이름으로 늘어난 게시글 수는 적재된 태그의 이름으로 합쳐서 추천한다.")
+    void increase_same_tag_in_different_case() {
+
+        // given
+        tagSuggester.load(List.of(new TagBoardCount(1L, "spring", 2L)));
+
+        // when
+        tagSuggester.increase(List.of(new TagEntry(1L, "Spring"), new TagEntry(1L, "SPRING")));
+
+        // then
+        assertThat(tagSuggester.size()).isEqualTo(1);
+        assertThat(tagSuggester.suggest("sp", 10)).containsExactly(new TagSuggestResponse("spring", 4L));
+    }
+}
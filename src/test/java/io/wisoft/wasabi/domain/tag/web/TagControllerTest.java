@@ -0,0 +1,103 @@
+package io.wisoft.wasabi.domain.tag.web;
+
+import io.wisoft.wasabi.domain.tag.persistence.TagPopularityType;
+import io.wisoft.wasabi.domain.tag.web.dto.PopularTagResponse;
+import io.wisoft.wasabi.domain.tag.web.dto.TagSuggestResponse;
+import io.wisoft.wasabi.global.config.common.jwt.JwtTokenProvider;
+import io.wisoft.wasabi.global.config.web.interceptor.AdminInterceptor;
+import io.wisoft.wasabi.global.config.web.resolver.AnyoneResolver;
+import io.wisoft.wasabi.global.config.web.resolver.MemberIdResolver;
+import io.wisoft.wasabi.global.config.web.response.ResponseAspect;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = TagController.class)
+class TagControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private TagService tagService;
+
+    @MockBean
+    private MemberIdResolver memberIdResolver;
+
+    @MockBean
+    private AdminInterceptor adminInterceptor;
+
+    @SpyBean
+    private JwtTokenProvider jwtTokenProvider;
+
+    @SpyBean
+    private AnyoneResolver anyoneResolver;
+
+    @SpyBean
+    private ResponseAspect responseAspect;
+
+    @Nested
+    @DisplayName("태그 추천")
+    class SuggestTags {
+
+        @Test
+        @DisplayName("접두어로 요청시, 게시글이 많은 순으로 추천된 태그 목록이 반환된다.")
+        void suggest_tags() throws Exception {
+
+            // given
+            final var suggestions = List.of(
+                    new TagSuggestResponse("spring-boot", 9L),
+                    new TagSuggestResponse("spring", 5L));
+
+            given(tagService.suggestTags("spr", 5)).willReturn(suggestions);
+
+            // when
+            final var result = mockMvc.perform(
+                    get("/tags/suggest")
+                            .param("prefix", "spr")
+                            .param("size", "5"));
+
+            // then
+            result.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data[0].name").value("spring-boot"))
+                    .andExpect(jsonPath("$.data[1].boardCount").value(5L));
+        }
+    }
+
+    @Nested
+    @DisplayName("인기 태그 조회")
+    class PopularTags {
+
+        @Test
+        @DisplayName("기준을 지정하지 않으면, 최근 사용량 순으로 인기 태그 목록이 반환된다.")
+        void popular_tags() throws Exception {
+
+            // given
+            final var popularTags = List.of(
+                    new PopularTagResponse("jpa", 2L, 2L),
+                    new PopularTagResponse("spring", 4L, 1L));
+
+            given(tagService.getPopularTags(TagPopularityType.RECENT, 10)).willReturn(popularTags);
+
+            // when
+            final var result = mockMvc.perform(get("/tags/popular"));
+
+            // then
+            result.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data[0].name").value("jpa"))
+                    .andExpect(jsonPath("$.data[1].recentCount").value(1L));
+        }
+    }
+}
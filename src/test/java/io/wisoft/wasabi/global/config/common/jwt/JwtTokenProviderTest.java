@@ -0,0 +1,56 @@
+package io.wisoft.wasabi.global.config.common.jwt;
+
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.wisoft.wasabi.domain.member.persistence.Role;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class JwtTokenProviderTest {
+
+    private static final String SECRET_KEY = "wasabi-test-secret-key-for-hmac-sha256-signature";
+
+    @Test
+    @DisplayName("토큰 캐시를 사용하면 같은 토큰은 한 번만 검증하고, 이후에는 캐시된 회원 정보를 반환한다.")
+    void decode_with_token_cache() {
+
+        // given
+        final var jwtTokenProvider = new JwtTokenProvider(SECRET_KEY, 60_000L, "wasabi", true, 100);
+        final var registry = new SimpleMeterRegistry();
+        jwtTokenProvider.bindTo(registry);
+
+        final String accessToken = jwtTokenProvider.createAccessToken(1L, "wasabi", Role.ADMIN, true);
+
+        // when
+        final AuthPrincipal first = jwtTokenProvider.decode(accessToken);
+        final AuthPrincipal second = jwtTokenProvider.decode(accessToken);
+
+        // then
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(first).isEqualTo(new AuthPrincipal(1L, Role.ADMIN, true));
+            softAssertions.assertThat(second).isEqualTo(first);
+            softAssertions.assertThat(registry.get("cache.gets").tag("result", "hit").functionCounter().count())
+                    .isEqualTo(1);
+            softAssertions.assertThat(registry.get("cache.gets").tag("result", "miss").functionCounter().count())
+                    .isEqualTo(1);
+        });
+    }
+
+    @Test
+    @DisplayName("토큰 캐시를 사용하더라도 서명이 유효하지 않은 토큰은 예외가 발생한다.")
+    void decode_invalid_token_with_token_cache() {
+
+        // given
+        final var jwtTokenProvider = new JwtTokenProvider(SECRET_KEY, 60_000L, "wasabi", true, 100);
+        final var otherTokenProvider = new JwtTokenProvider(SECRET_KEY + "-other", 60_000L, "wasabi", true, 100);
+
+        final String accessToken = otherTokenProvider.createAccessToken(1L, "wasabi", Role.GENERAL, true);
+
+        // when & then
+        assertThatThrownBy(() -> jwtTokenProvider.decode(accessToken))
+                .isInstanceOf(JwtException.class);
+    }
+}
@@ -0,0 +1,116 @@
+package io.wisoft.wasabi.global.config.common.s3;
+
+import com.amazonaws.auth.AWSStaticCredentialsProvider;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Random;
+
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+/**
+ * S3 호환 저장소(MinIO)를 띄워 실제 업로드 동작을 검증한다.
+ */
+@Testcontainers
+class S3UploadEngineTest {
+
+    private static final String ACCESS_KEY = "wasabi-access-key";
+    private static final String SECRET_KEY = "wasabi-secret-key";
+    private static final String BUCKET = "wasabi-images";
+    private static final String CONTENT_TYPE = "image/png";
+
+    @Container
+    private static final GenericContainer<?> minio = new GenericContainer<>(DockerImageName.parse("minio/minio:latest"))
+            .withEnv("MINIO_ROOT_USER", ACCESS_KEY)
+            .withEnv("MINIO_ROOT_PASSWORD", SECRET_KEY)
+            .withCommand("server", "/data")
+            .withExposedPorts(9000)
+            .waitingFor(Wait.forHttp("/minio/health/live").forPort(9000));
+
+    private static AmazonS3 amazonS3;
+
+    private S3UploadEngine s3UploadEngine;
+
+    @BeforeAll
+    static void createBucket() {
+        final String endpoint = "http://" + minio.getHost() + ":" + minio.getMappedPort(9000);
+
+        amazonS3 = AmazonS3ClientBuilder.standard()
+                .withCredentials(new AWSStaticCredentialsProvider(new BasicAWSCredentials(ACCESS_KEY, SECRET_KEY)))
+                .withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(endpoint, "ap-northeast-2"))
+                .withPathStyleAccessEnabled(true)
+                .build();
+        amazonS3.createBucket(BUCKET);
+    }
+
+    @BeforeEach
+    void setUp() {
+        s3UploadEngine = new S3UploadEngine(amazonS3, DataSize.ofMegabytes(5), DataSize.ofMegabytes(5), 2, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        s3UploadEngine.shutdown();
+    }
+
+    @Test
+    @DisplayName("임계값보다 작은 이미지는 단일 요청으로 업로드된다.")
+    void upload_single_request() throws IOException {
+
+        // given
+        final byte[] image = randomBytes((int) DataSize.ofKilobytes(512).toBytes());
+
+        // when
+        s3UploadEngine.upload(BUCKET, "small.png", new ByteArrayInputStream(image), image.length, CONTENT_TYPE);
+
+        // then
+        final ObjectMetadata metadata = amazonS3.getObjectMetadata(BUCKET, "small.png");
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(metadata.getContentLength()).isEqualTo(image.length);
+            softAssertions.assertThat(metadata.getContentType()).isEqualTo(CONTENT_TYPE);
+            softAssertions.assertThat(metadata.getETag()).doesNotContain("-");
+        });
+    }
+
+    @Test
+    @DisplayName("임계값 이상인 이미지는 파트로 나누어 업로드되고, 원본과 같은 내용으로 저장된다.")
+    void upload_multipart() throws IOException {
+
+        // given
+        final byte[] image = randomBytes((int) DataSize.ofMegabytes(12).toBytes());
+
+        // when
+        s3UploadEngine.upload(BUCKET, "large.png", new ByteArrayInputStream(image), image.length, CONTENT_TYPE);
+
+        // then
+        final ObjectMetadata metadata = amazonS3.getObjectMetadata(BUCKET, "large.png");
+        final byte[] stored = amazonS3.getObject(BUCKET, "large.png").getObjectContent().readAllBytes();
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(metadata.getContentLength()).isEqualTo(image.length);
+            softAssertions.assertThat(metadata.getETag()).endsWith("-3");
+            softAssertions.assertThat(stored).isEqualTo(image);
+        });
+    }
+
+    private byte[] randomBytes(final int size) {
+        final byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
+}
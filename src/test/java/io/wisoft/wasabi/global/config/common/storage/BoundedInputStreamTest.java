@@ -0,0 +1,40 @@
+package io.wisoft.wasabi.global.config.common.storage;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoundedInputStreamTest {
+
+    @Test
+    @DisplayName("제한 이하의 내용은 그대로 읽는다.")
+    void read_within_limit() throws IOException {
+
+        // given
+        final var content = new BoundedInputStream(new ByteArrayInputStream(new byte[10]), 10);
+
+        // when
+        final byte[] read = content.readAllBytes();
+
+        // then
+        assertThat(read).hasSize(10);
+    }
+
+    @Test
+    @DisplayName("제한을 넘어서 읽으면 바로 예외가 발생한다.")
+    void read_over_limit() {
+
+        // given
+        final var content = new BoundedInputStream(new ByteArrayInputStream(new byte[11]), 10);
+
+        // when & then
+        assertThatThrownBy(() -> content.transferTo(OutputStream.nullOutputStream()))
+                .isInstanceOf(BoundedInputStream.LimitExceededException.class);
+    }
+}
@@ -0,0 +1,33 @@
+package io.wisoft.wasabi.global.config.common.storage;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class ImageContentTypeTest {
+
+    @Test
+    @DisplayName("내용의 앞부분으로 이미지 형식을 판별한다.")
+    void sniff() {
+
+        // given
+        final byte[] png = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+        final byte[] jpeg = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE0, 0, 0x10, 'J', 'F'};
+        final byte[] gif = {'G', 'I', 'F', '8', '9', 'a', 0, 0};
+
+        // when
+        final var pngType = ImageContentType.sniff(png, png.length);
+        final var jpegType = ImageContentType.sniff(jpeg, jpeg.length);
+        final var gifType = ImageContentType.sniff(gif, gif.length);
+        final var shortType = ImageContentType.sniff(png, 4);
+
+        // then
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(pngType).contains(ImageContentType.PNG);
+            softAssertions.assertThat(jpegType).contains(ImageContentType.JPEG);
+            softAssertions.assertThat(gifType).isEmpty();
+            softAssertions.assertThat(shortType).isEmpty();
+        });
+    }
+}
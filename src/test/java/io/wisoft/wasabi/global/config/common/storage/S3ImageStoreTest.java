@@ -0,0 +1,128 @@
+package io.wisoft.wasabi.global.config.common.storage;
+
+import com.amazonaws.HttpMethod;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.DeleteObjectsResult;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
+import io.wisoft.wasabi.global.config.common.s3.S3UploadEngine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.net.URL;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class S3ImageStoreTest {
+
+    private static final String BUCKET = "wasabi-images";
+
+    @Mock
+    private AmazonS3 amazonS3;
+
+    @Mock
+    private S3UploadEngine s3UploadEngine;
+
+    @Test
+    @DisplayName("1000개를 넘는 이미지를 삭제하면, 1000개씩 나누어 다중 삭제를 요청한다.")
+    void delete_all_by_chunk() {
+
+        // given
+        final var imageStore = new S3ImageStore(amazonS3, s3UploadEngine, BUCKET);
+        final List<String> keys = IntStream.range(0, 1500)
+                .mapToObj(i -> i + ".png")
+                .toList();
+
+        given(amazonS3.deleteObjects(any(DeleteObjectsRequest.class)))
+                .willAnswer(invocation -> new DeleteObjectsResult(invocation.<DeleteObjectsRequest>getArgument(0)
+                        .getKeys().stream()
+                        .map(key -> deletedObject(key.getKey()))
+                        .toList()));
+
+        // when
+        final Set<String> deletedKeys = imageStore.deleteAll(keys);
+
+        // then
+        then(amazonS3).should(times(2)).deleteObjects(any(DeleteObjectsRequest.class));
+        assertThat(deletedKeys).hasSize(1500);
+    }
+
+    @Test
+    @DisplayName("일부 이미지 삭제에 실패하면, 삭제에 성공한 key 만 반환한다.")
+    void delete_all_partially_failed() {
+
+        // given
+        final var imageStore = new S3ImageStore(amazonS3, s3UploadEngine, BUCKET);
+
+        final var error = new MultiObjectDeleteException.DeleteError();
+        error.setKey("2.png");
+        given(amazonS3.deleteObjects(any(DeleteObjectsRequest.class)))
+                .willThrow(new MultiObjectDeleteException(List.of(error), List.of(deletedObject("1.png"))));
+
+        // when
+        final Set<String> deletedKeys = imageStore.deleteAll(List.of("1.png", "2.png"));
+
+        // then
+        assertThat(deletedKeys).containsExactly("1.png");
+    }
+
+    @Test
+    @DisplayName("직접 업로드 URL 은 PUT 요청과 Content-Type 을 서명하여 발급한다.")
+    void create_direct_upload() throws Exception {
+
+        // given
+        final var imageStore = new S3ImageStore(amazonS3, s3UploadEngine, BUCKET);
+
+        given(amazonS3.generatePresignedUrl(any(GeneratePresignedUrlRequest.class)))
+                .willReturn(new URL("https://wasabi-images.s3.amazonaws.com/1.png?X-Amz-Signature=signature"));
+
+        // when
+        final var upload = imageStore.createDirectUpload("1.png", "image/png", Duration.ofMinutes(10)).orElseThrow();
+
+        // then
+        then(amazonS3).should().generatePresignedUrl(argThat((GeneratePresignedUrlRequest request) ->
+                request.getMethod() == HttpMethod.PUT
+                        && request.getKey().equals("1.png")
+                        && request.getContentType().equals("image/png")));
+        assertThat(upload.headers()).containsEntry("Content-Type", "image/png");
+    }
+
+    @Test
+    @DisplayName("저장소에 없는 이미지의 크기를 조회하면, 빈 값을 반환한다.")
+    void get_content_length_not_found() {
+
+        // given
+        final var imageStore = new S3ImageStore(amazonS3, s3UploadEngine, BUCKET);
+
+        final var notFound = new AmazonS3Exception("Not Found");
+        notFound.setStatusCode(404);
+        given(amazonS3.getObjectMetadata(BUCKET, "1.png")).willThrow(notFound);
+
+        // when
+        final var contentLength = imageStore.getContentLength("1.png");
+
+        // then
+        assertThat(contentLength).isEmpty();
+    }
+
+    private DeleteObjectsResult.DeletedObject deletedObject(final String key) {
+        final var deletedObject = new DeleteObjectsResult.DeletedObject();
+        deletedObject.setKey(key);
+        return deletedObject;
+    }
+}
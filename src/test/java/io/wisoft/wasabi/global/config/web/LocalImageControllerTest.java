@@ -0,0 +1,130 @@
+package io.wisoft.wasabi.global.config.web;
+
+import io.wisoft.wasabi.global.config.common.storage.LocalImageStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class LocalImageControllerTest {
+
+    private static final byte[] IMAGE = "0123456789".getBytes();
+
+    @TempDir
+    private Path rootDirectory;
+
+    private LocalImageController localImageController;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        final var localImageStore = new LocalImageStore(rootDirectory, "/images");
+        localImageStore.store("image.png", new ByteArrayInputStream(IMAGE), IMAGE.length, "image/png");
+        localImageController = new LocalImageController(localImageStore);
+    }
+
+    @Test
+    @DisplayName("이미지 조회 요청시 전체 이미지와 ETag 를 응답한다.")
+    void serve_image() throws IOException {
+
+        // given
+        final var request = new MockHttpServletRequest();
+        final var response = new MockHttpServletResponse();
+
+        // when
+        localImageController.serveImage("image.png", request, response);
+
+        // then
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(response.getStatus()).isEqualTo(200);
+            softAssertions.assertThat(response.getContentType()).isEqualTo("image/png");
+            softAssertions.assertThat(response.getHeader(HttpHeaders.ETAG)).isNotBlank();
+            softAssertions.assertThat(response.getContentAsByteArray()).isEqualTo(IMAGE);
+        });
+    }
+
+    @Test
+    @DisplayName("범위를 지정해 요청하면 해당 범위만 206 으로 응답한다.")
+    void serve_image_range() throws IOException {
+
+        // given
+        final var request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.RANGE, "bytes=2-5");
+        final var response = new MockHttpServletResponse();
+
+        // when
+        localImageController.serveImage("image.png", request, response);
+
+        // then
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(response.getStatus()).isEqualTo(206);
+            softAssertions.assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 2-5/10");
+            softAssertions.assertThat(response.getContentAsByteArray()).isEqualTo(Arrays.copyOfRange(IMAGE, 2, 6));
+        });
+    }
+
+    @Test
+    @DisplayName("이미지 크기를 벗어난 범위를 요청하면 416 으로 응답한다.")
+    void serve_image_unsatisfiable_range() throws IOException {
+
+        // given
+        final var request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.RANGE, "bytes=20-30");
+        final var response = new MockHttpServletResponse();
+
+        // when
+        localImageController.serveImage("image.png", request, response);
+
+        // then
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(response.getStatus()).isEqualTo(416);
+            softAssertions.assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes */10");
+        });
+    }
+
+    @Test
+    @DisplayName("ETag 가 일치하면 본문 없이 304 로 응답한다.")
+    void serve_image_not_modified() throws IOException {
+
+        // given
+        final var first = new MockHttpServletResponse();
+        localImageController.serveImage("image.png", new MockHttpServletRequest(), first);
+
+        final var request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, first.getHeader(HttpHeaders.ETAG));
+        final var response = new MockHttpServletResponse();
+
+        // when
+        localImageController.serveImage("image.png", request, response);
+
+        // then
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(response.getStatus()).isEqualTo(304);
+            softAssertions.assertThat(response.getContentAsByteArray()).isEmpty();
+        });
+    }
+
+    @Test
+    @DisplayName("저장소 밖의 파일을 요청하면 404 로 응답한다.")
+    void serve_image_outside_store() throws IOException {
+
+        // given
+        final var request = new MockHttpServletRequest();
+        final var response = new MockHttpServletResponse();
+
+        // when
+        localImageController.serveImage("../secret.png", request, response);
+
+        // then
+        assertSoftly(softAssertions -> softAssertions.assertThat(response.getStatus()).isEqualTo(404));
+    }
+}
@@ -0,0 +1,86 @@
+package io.wisoft.wasabi.global.config.web.anonymous;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class CookieAnonymousIdProviderTest {
+
+    private static final String COOKIE_NAME = "WASABI_ANONYMOUS";
+
+    private final CookieAnonymousIdProvider provider =
+            new CookieAnonymousIdProvider("anonymous-identity-secret-key", COOKIE_NAME, Duration.ofDays(365));
+
+    @Test
+    @DisplayName("쿠키가 없다면 새로운 id 를 발급하고 서명된 쿠키를 응답한다.")
+    void mint_anonymous_id() {
+
+        // given
+        final var request = new MockHttpServletRequest();
+        final var response = new MockHttpServletResponse();
+
+        // when
+        final Long anonymousId = provider.resolve(request, response);
+
+        // then
+        final String setCookie = response.getHeader(HttpHeaders.SET_COOKIE);
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(anonymousId).isNotNull();
+            softAssertions.assertThat(setCookie).startsWith(COOKIE_NAME + "=" + anonymousId + ".");
+            softAssertions.assertThat(setCookie).contains("HttpOnly");
+        });
+    }
+
+    @Test
+    @DisplayName("서명이 유효한 쿠키라면 같은 id 를 반환하고 쿠키를 다시 발급하지 않는다.")
+    void resolve_signed_cookie() {
+
+        // given
+        final var firstResponse = new MockHttpServletResponse();
+        final Long anonymousId = provider.resolve(new MockHttpServletRequest(), firstResponse);
+
+        final var request = new MockHttpServletRequest();
+        request.setCookies(firstResponse.getCookie(COOKIE_NAME));
+        final var response = new MockHttpServletResponse();
+
+        // when
+        final Long resolvedId = provider.resolve(request, response);
+
+        // then
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(resolvedId).isEqualTo(anonymousId);
+            softAssertions.assertThat(response.getHeader(HttpHeaders.SET_COOKIE)).isNull();
+        });
+    }
+
+    @Test
+    @DisplayName("id 가 변조된 쿠키라면 새로운 id 를 발급한다.")
+    void reject_tampered_cookie() {
+
+        // given
+        final var firstResponse = new MockHttpServletResponse();
+        final Long anonymousId = provider.resolve(new MockHttpServletRequest(), firstResponse);
+        final String value = firstResponse.getCookie(COOKIE_NAME).getValue();
+        final String signature = value.substring(value.lastIndexOf('.') + 1);
+
+        final var request = new MockHttpServletRequest();
+        request.setCookies(new Cookie(COOKIE_NAME, (anonymousId + 1) + "." + signature));
+        final var response = new MockHttpServletResponse();
+
+        // when
+        final Long resolvedId = provider.resolve(request, response);
+
+        // then
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(resolvedId).isNotEqualTo(anonymousId + 1);
+            softAssertions.assertThat(response.getHeader(HttpHeaders.SET_COOKIE)).isNotNull();
+        });
+    }
+}
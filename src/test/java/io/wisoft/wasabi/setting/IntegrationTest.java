@@ -94,7 +94,6 @@ public class IntegrationTest {
 
         final String url = UriComponentsBuilder
             .fromHttpUrl(generateURL("/boards/my-board"))
-            .queryParam("page", 0)
             .queryParam("size", 3)
             .build()
             .toUriString();
@@ -0,0 +1,42 @@
+package io.wisoft.wasabi.setting;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+/**
+ * 동작 하나에 실행된 쿼리 수와 로딩된 엔티티, 컬렉션 수를 Hibernate 통계로 측정한다. <br/>
+ * 통계를 수집하도록 hibernate.generate_statistics=true 로 설정한 테스트에서 사용한다.
+ */
+public final class QueryCounter {
+
+    private QueryCounter() {
+    }
+
+    /**
+     * 측정 전에 영속성 컨텍스트를 비워, 준비 단계에서 로딩된 엔티티가 측정에 영향을 주지 않도록 한다.
+     */
+    public static QueryCountResult measure(final TestEntityManager em, final Runnable action) {
+
+        em.flush();
+        em.clear();
+
+        final Statistics statistics = em.getEntityManager()
+                .getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+
+        action.run();
+        em.flush();
+
+        return new QueryCountResult(
+                statistics.getPrepareStatementCount(),
+                statistics.getEntityLoadCount(),
+                statistics.getCollectionLoadCount()
+        );
+    }
+
+    public record QueryCountResult(long statements, long entityLoads, long collectionLoads) {
+    }
+}